@@ -0,0 +1,50 @@
+package com.example.kafkaredis.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크에서 사용하는 대표 페이로드
+ *
+ * /api/test/integration/test 가 발행하는 사용자 이벤트와 비슷한 크기와 구조
+ * (문자열, 숫자, 시간, 중첩 맵/목록)로 구성합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * 사용자 이벤트 페이로드
+     *
+     * @param userId 사용자 ID
+     * @param action 이벤트 종류
+     * @param occurredAt 발생 시각 (JavaTimeModule 직렬화 경로 포함)
+     * @param sequence 사용자별 이벤트 순번
+     * @param attributes 이벤트 속성
+     */
+    public record UserEvent(String userId, String action, LocalDateTime occurredAt, long sequence,
+                            Map<String, Object> attributes) {
+    }
+
+    /**
+     * 대표 사용자 이벤트를 생성합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 이벤트
+     */
+    public static UserEvent userEvent(String userId) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("page", "/products/12345");
+        attributes.put("referrer", "https://www.example.com/search?q=kafka+redis");
+        attributes.put("durationMillis", 1834);
+        attributes.put("tags", List.of("promotion", "mobile", "returning"));
+        attributes.put("device", Map.of("os", "android", "version", "14", "app", "2.31.0"));
+        return new UserEvent(userId, "page_view", LocalDateTime.of(2024, 5, 1, 12, 30, 15), 42L, attributes);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.kafkaredis.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점
+ *
+ * JMH 명령행 옵션을 그대로 받으며, 처리량(ops/s)과 함께 연산당 할당 바이트(gc.alloc.rate.norm, B/op)가
+ * 항상 보고되도록 GC 프로파일러를 추가합니다.
+ *
+ * 예:
+ * <pre>
+ * java -jar target/benchmarks.jar                          # 전체 실행
+ * java -jar target/benchmarks.jar RedisServiceBenchmark    # 특정 벤치마크만 실행
+ * java -jar target/benchmarks.jar -rf json -rff result.json # 결과를 JSON으로 저장 (회귀 비교용)
+ * </pre>
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
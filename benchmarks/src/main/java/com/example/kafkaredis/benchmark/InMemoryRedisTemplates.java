@@ -0,0 +1,58 @@
+package com.example.kafkaredis.benchmark;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 네트워크 없이 메모리에 값을 저장하는 RedisTemplate을 만듭니다.
+ *
+ * 서비스의 직렬화/역직렬화 비용만 측정하기 위한 것으로, opsForValue()의 get/set만 지원합니다.
+ * 실제 템플릿처럼 값을 시리얼라이저로 바이트 배열로 변환하여 저장하고, 조회 시 다시 변환합니다.
+ * 만료 시간은 무시합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+final class InMemoryRedisTemplates {
+
+    private InMemoryRedisTemplates() {
+    }
+
+    /**
+     * 메모리에 값을 저장하는 RedisTemplate을 생성합니다.
+     *
+     * @param <V> 값 타입
+     * @param valueSerializer 값 시리얼라이저
+     * @return 메모리 RedisTemplate
+     */
+    @SuppressWarnings("unchecked")
+    static <V> RedisTemplate<String, V> create(RedisSerializer<V> valueSerializer) {
+        Map<String, byte[]> store = new ConcurrentHashMap<>();
+        ValueOperations<String, V> operations = (ValueOperations<String, V>) Proxy.newProxyInstance(
+                InMemoryRedisTemplates.class.getClassLoader(),
+                new Class<?>[] {ValueOperations.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> valueSerializer.deserialize(store.get((String) args[0]));
+                    case "set" -> {
+                        store.put((String) args[0], valueSerializer.serialize((V) args[1]));
+                        yield null;
+                    }
+                    case "toString" -> "InMemoryValueOperations";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        return new RedisTemplate<>() {
+            @Override
+            public ValueOperations<String, V> opsForValue() {
+                return operations;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.kafkaredis.benchmark;
+
+import com.example.kafkaredis.benchmark.BenchmarkPayloads.UserEvent;
+import com.example.kafkaredis.codec.CodecProperties;
+import com.example.kafkaredis.codec.PayloadCodecRegistry;
+import com.example.kafkaredis.config.RedisConfig;
+import com.example.kafkaredis.dto.SendReceipt;
+import com.example.kafkaredis.service.KafkaProducerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KafkaProducerService.sendMessage 벤치마크
+ *
+ * 브로커 대신 즉시 완료되는 MockProducer를 사용하여, 서비스의 페이로드 타입 분기, 코덱 직렬화,
+ * KafkaTemplate/Producer 시리얼라이저, 발행 콜백 처리 비용만 측정합니다.
+ * 콜백 실행기는 호출 스레드에서 바로 실행하는 실행기를 사용합니다.
+ * codec 파라미터로 토픽에 설정한 코덱(json, smile, cbor)별로 비교합니다.
+ *
+ * MockProducer는 보낸 레코드를 모두 보관하므로 반복(iteration)마다 비웁니다.
+ * 따라서 연산당 할당량에는 보관 목록 확장 비용이 조금 포함됩니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaProducerServiceBenchmark {
+
+    private static final String TOPIC = "user-events";
+
+    @Param({"json", "smile", "cbor"})
+    public String codec;
+
+    private MockProducer<String, String> stringProducer;
+
+    private MockProducer<String, byte[]> byteArrayProducer;
+
+    private KafkaProducerService kafkaProducerService;
+
+    private UserEvent event;
+
+    private String eventJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new RedisConfig().objectMapper();
+        CodecProperties codecProperties = new CodecProperties();
+        codecProperties.getTopics().put(TOPIC, codec);
+
+        stringProducer = reusableMockProducer(new StringSerializer());
+        byteArrayProducer = reusableMockProducer(new ByteArraySerializer());
+        MockProducer<String, String> strings = stringProducer;
+        MockProducer<String, byte[]> bytes = byteArrayProducer;
+        kafkaProducerService = new KafkaProducerService(
+                new KafkaTemplate<>(() -> strings),
+                new KafkaTemplate<>(() -> bytes),
+                new PayloadCodecRegistry(codecProperties, objectMapper),
+                Runnable::run);
+
+        event = BenchmarkPayloads.userEvent("user-1");
+        eventJson = objectMapper.writeValueAsString(event);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearHistory() {
+        stringProducer.clear();
+        byteArrayProducer.clear();
+    }
+
+    /**
+     * 이미 인코딩된 JSON 문자열 발행 (/api/test/kafka/send-async 경로)
+     */
+    @Benchmark
+    public CompletableFuture<SendReceipt> sendEncodedString() {
+        return kafkaProducerService.sendMessage(TOPIC, "user-1", eventJson);
+    }
+
+    /**
+     * 객체 발행 (/api/test/integration/test 경로)
+     */
+    @Benchmark
+    public CompletableFuture<SendReceipt> sendObject() {
+        return kafkaProducerService.sendMessage(TOPIC, "user-1", event);
+    }
+
+    /**
+     * 즉시 완료되며, KafkaTemplate이 발행마다 호출하는 close()를 무시하는 MockProducer를 생성합니다.
+     *
+     * @param <V> 값 타입
+     * @param valueSerializer 값 시리얼라이저
+     * @return MockProducer
+     */
+    private static <V> MockProducer<String, V> reusableMockProducer(Serializer<V> valueSerializer) {
+        return new MockProducer<>(true, new StringSerializer(), valueSerializer) {
+            @Override
+            public void close(Duration timeout) {
+                // KafkaTemplate은 트랜잭션이 아니면 발행 후 Producer를 닫으므로 계속 재사용할 수 있도록 무시
+            }
+        };
+    }
+}
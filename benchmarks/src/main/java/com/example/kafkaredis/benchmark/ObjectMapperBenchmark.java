@@ -0,0 +1,71 @@
+package com.example.kafkaredis.benchmark;
+
+import com.example.kafkaredis.benchmark.BenchmarkPayloads.UserEvent;
+import com.example.kafkaredis.config.RedisConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisConfig가 설정한 ObjectMapper의 직렬화/역직렬화 벤치마크
+ *
+ * Redis 값과 Kafka 메시지의 JSON 변환은 모두 이 ObjectMapper를 거치므로,
+ * 모듈 등록이나 직렬화 옵션 변경이 처리량과 할당량에 주는 영향을 확인합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private UserEvent event;
+
+    private String json;
+
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new RedisConfig().objectMapper();
+        event = BenchmarkPayloads.userEvent("user-1");
+        json = objectMapper.writeValueAsString(event);
+        jsonBytes = objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws Exception {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public UserEvent readValueFromString() throws Exception {
+        return objectMapper.readValue(json, UserEvent.class);
+    }
+
+    @Benchmark
+    public UserEvent readValueFromBytes() throws Exception {
+        return objectMapper.readValue(jsonBytes, UserEvent.class);
+    }
+}
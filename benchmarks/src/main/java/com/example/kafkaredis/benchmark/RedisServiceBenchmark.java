@@ -0,0 +1,96 @@
+package com.example.kafkaredis.benchmark;
+
+import com.example.kafkaredis.backpressure.RedisHealthMonitor;
+import com.example.kafkaredis.benchmark.BenchmarkPayloads.UserEvent;
+import com.example.kafkaredis.cache.NearCache;
+import com.example.kafkaredis.cache.NearCacheInvalidationBus;
+import com.example.kafkaredis.codec.CodecProperties;
+import com.example.kafkaredis.codec.PayloadCodecRegistry;
+import com.example.kafkaredis.config.RedisConfig;
+import com.example.kafkaredis.metrics.RedisOperationMetrics;
+import com.example.kafkaredis.service.RedisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisService.setObject/getObject 벤치마크
+ *
+ * 네트워크 대신 메모리 RedisTemplate을 사용하여, 서비스 안의 코덱 선택, 객체 직렬화/역직렬화,
+ * 템플릿 시리얼라이저 변환, 근접 캐시 무효화 호출 비용만 측정합니다.
+ * codec 파라미터로 키 접두사에 설정한 코덱(json, smile, cbor)별로 비교합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisServiceBenchmark {
+
+    private static final String KEY = "bench:user:1";
+
+    @Param({"json", "smile", "cbor"})
+    public String codec;
+
+    private RedisService redisService;
+
+    private UserEvent event;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new RedisConfig().objectMapper();
+        CodecProperties codecProperties = new CodecProperties();
+        codecProperties.getRedisPrefixes().put("bench:", codec);
+
+        RedisTemplate<String, String> redisTemplate = InMemoryRedisTemplates.create(RedisSerializer.string());
+        RedisTemplate<String, byte[]> binaryRedisTemplate = InMemoryRedisTemplates.create(RedisSerializer.byteArray());
+        NearCache nearCache = new NearCache(false, DataSize.ofMegabytes(64), DataSize.ofKilobytes(64),
+                Duration.ofSeconds(10), new SimpleMeterRegistry());
+
+        redisService = new RedisService(redisTemplate, objectMapper, binaryRedisTemplate,
+                new PayloadCodecRegistry(codecProperties, objectMapper), nearCache,
+                new NearCacheInvalidationBus(nearCache, redisTemplate, objectMapper, "near-cache:invalidate"),
+                500, Duration.ofSeconds(10), Duration.ofSeconds(3), Duration.ofMillis(50), 10, 1.0,
+                Runnable::run, new RedisHealthMonitor(0.2),
+                new RedisOperationMetrics(new SimpleMeterRegistry(), true, new String[] {"bench:user:"}));
+
+        event = BenchmarkPayloads.userEvent("user-1");
+        redisService.setObject(KEY, event, UserEvent.class);
+    }
+
+    @Benchmark
+    public void setObject() {
+        redisService.setObject(KEY, event, UserEvent.class);
+    }
+
+    @Benchmark
+    public UserEvent getObject() {
+        return redisService.getObject(KEY, UserEvent.class);
+    }
+
+    @Benchmark
+    public UserEvent roundTrip() {
+        redisService.setObject(KEY, event, UserEvent.class);
+        return redisService.getObject(KEY, UserEvent.class);
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.kafkaredis.backpressure;
+
+import com.example.kafkaredis.backpressure.RedisHealthMonitor.RedisHealth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 상태에 따라 리스너 컨테이너를 일시 중지/재개하는 백프레셔 컨트롤러
+ *
+ * Redis가 느려지면 리스너가 계속 poll 하면서 레코드마다 Redis 타임아웃을 기다리게 되어
+ * max.poll.interval.ms 초과로 인한 리밸런스가 반복되고, 실패할 쓰기에 CPU를 낭비합니다.
+ * 이 컨트롤러는 check-interval마다 {@link RedisHealthMonitor}의 지연 시간과 오류율을 확인하여
+ * - 임계값(pause-latency 또는 pause-error-rate)을 넘으면 Redis에 쓰는 토픽의 컨테이너를 일시 중지하고
+ * - 일시 중지 중에는 PING으로 Redis 상태를 확인하며, 최소 min-pause가 지나고
+ *   지연 시간과 오류율이 더 낮은 재개 임계값(resume-latency, resume-error-rate) 아래로 내려오면 재개합니다.
+ * 중지와 재개의 임계값이 다르므로(히스테리시스) 경계 부근에서 중지/재개가 반복되지 않습니다.
+ * 일시 중지된 컨테이너도 poll은 계속하므로 컨슈머 그룹에서 빠지지 않습니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class RedisBackpressureController implements DisposableBean {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(RedisBackpressureController.class);
+
+    /**
+     * Redis 상태를 추적하는 모니터
+     */
+    private final RedisHealthMonitor healthMonitor;
+
+    /**
+     * 리스너 컨테이너를 조회하기 위한 레지스트리
+     */
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+
+    /**
+     * 일시 중지 중 Redis 상태 확인(PING)을 위한 템플릿
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 일시 중지 대상 토픽 (Redis에 쓰는 리스너의 토픽, 파생된 재시도 토픽/DLT도 함께 대상)
+     */
+    private final Set<String> topics;
+
+    /**
+     * 이 지연 시간(이동 평균)을 넘으면 일시 중지
+     */
+    private final Duration pauseLatency;
+
+    /**
+     * 이 지연 시간(이동 평균) 아래로 내려와야 재개
+     */
+    private final Duration resumeLatency;
+
+    /**
+     * 이 오류율(이동 평균)을 넘으면 일시 중지
+     */
+    private final double pauseErrorRate;
+
+    /**
+     * 이 오류율(이동 평균) 아래로 내려와야 재개
+     */
+    private final double resumeErrorRate;
+
+    /**
+     * 판단에 필요한 최소 기록 수 (기동 직후 몇 건의 결과로 중지하지 않도록)
+     */
+    private final long minSamples;
+
+    /**
+     * 일시 중지 후 재개하기까지의 최소 시간
+     */
+    private final Duration minPause;
+
+    /**
+     * 상태 확인 주기 실행기 (비활성화 시 null)
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 현재 일시 중지 여부
+     */
+    private volatile boolean paused;
+
+    /**
+     * 일시 중지한 시각 (System.nanoTime 기준)
+     */
+    private long pausedAtNanos;
+
+    /**
+     * 생성자 주입을 통한 의존성 및 설정값 주입
+     */
+    public RedisBackpressureController(RedisHealthMonitor healthMonitor,
+                                       KafkaListenerEndpointRegistry listenerRegistry,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       @Value("${app.redis.backpressure.enabled:false}") boolean enabled,
+                                       @Value("${app.redis.backpressure.topics:user-events}") String[] topics,
+                                       @Value("${app.redis.backpressure.check-interval:500ms}") Duration checkInterval,
+                                       @Value("${app.redis.backpressure.pause-latency:500ms}") Duration pauseLatency,
+                                       @Value("${app.redis.backpressure.resume-latency:100ms}") Duration resumeLatency,
+                                       @Value("${app.redis.backpressure.pause-error-rate:0.5}") double pauseErrorRate,
+                                       @Value("${app.redis.backpressure.resume-error-rate:0.1}") double resumeErrorRate,
+                                       @Value("${app.redis.backpressure.min-samples:10}") long minSamples,
+                                       @Value("${app.redis.backpressure.min-pause:2s}") Duration minPause) {
+        this.healthMonitor = healthMonitor;
+        this.listenerRegistry = listenerRegistry;
+        this.redisTemplate = redisTemplate;
+        this.topics = Set.copyOf(Arrays.asList(topics));
+        this.pauseLatency = pauseLatency;
+        this.resumeLatency = resumeLatency;
+        this.pauseErrorRate = pauseErrorRate;
+        this.resumeErrorRate = resumeErrorRate;
+        this.minSamples = minSamples;
+        this.minPause = minPause;
+
+        if (!enabled) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "redis-backpressure"));
+        this.scheduler.scheduleWithFixedDelay(this::evaluateSafely,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Redis 백프레셔 초기화 완료 - 대상 토픽: {}, 중지 기준: {} / 오류율 {}, 재개 기준: {} / 오류율 {}",
+                this.topics, pauseLatency, pauseErrorRate, resumeLatency, resumeErrorRate);
+    }
+
+    /**
+     * 현재 리스너를 일시 중지했는지 반환합니다.
+     *
+     * @return 일시 중지 중이면 true
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * 주기 작업에서 호출되며, 예외가 발생해도 다음 주기가 계속 실행되도록 합니다.
+     */
+    private void evaluateSafely() {
+        try {
+            evaluate();
+        } catch (Exception e) {
+            log.error("Redis 백프레셔 상태 확인 중 오류 발생 - 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Redis 상태를 확인하여 리스너 컨테이너를 일시 중지하거나 재개합니다.
+     *
+     * 일시 중지 중에는 리스너가 Redis에 쓰지 않아 새 결과가 없으므로 PING 결과를 기록합니다.
+     */
+    void evaluate() {
+        if (paused) {
+            probe();
+        }
+        RedisHealth health = healthMonitor.snapshot();
+
+        if (!paused && shouldPause(health)) {
+            List<MessageListenerContainer> containers = targetContainers();
+            containers.forEach(MessageListenerContainer::pause);
+            paused = true;
+            pausedAtNanos = System.nanoTime();
+            log.warn("Redis 상태 악화로 리스너를 일시 중지합니다 - 지연 시간: {}ms, 오류율: {}, 컨테이너 수: {}",
+                    String.format("%.1f", health.latencyMillis()), String.format("%.2f", health.errorRate()),
+                    containers.size());
+        } else if (paused && pausedFor().compareTo(minPause) >= 0 && shouldResume(health)) {
+            List<MessageListenerContainer> containers = targetContainers();
+            containers.forEach(MessageListenerContainer::resume);
+            paused = false;
+            log.info("Redis 상태 회복으로 리스너를 재개합니다 - 지연 시간: {}ms, 오류율: {}, 중지 시간: {}",
+                    String.format("%.1f", health.latencyMillis()), String.format("%.2f", health.errorRate()),
+                    pausedFor());
+        }
+    }
+
+    /**
+     * 일시 중지 기준을 넘었는지 판단합니다.
+     *
+     * @param health 현재 Redis 상태
+     * @return 일시 중지해야 하면 true
+     */
+    private boolean shouldPause(RedisHealth health) {
+        return health.samples() >= minSamples
+                && (health.latencyMillis() > pauseLatency.toMillis() || health.errorRate() > pauseErrorRate);
+    }
+
+    /**
+     * 재개 기준 아래로 내려왔는지 판단합니다.
+     *
+     * @param health 현재 Redis 상태
+     * @return 재개해도 되면 true
+     */
+    private boolean shouldResume(RedisHealth health) {
+        return health.latencyMillis() < resumeLatency.toMillis() && health.errorRate() < resumeErrorRate;
+    }
+
+    /**
+     * PING으로 Redis 상태를 확인하고 결과를 기록합니다.
+     */
+    private void probe() {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            success = true;
+        } catch (Exception e) {
+            log.debug("Redis 상태 확인(PING) 실패 - 오류: {}", e.getMessage());
+        } finally {
+            healthMonitor.record(System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * 일시 중지 대상 토픽을 구독하는 리스너 컨테이너를 조회합니다.
+     *
+     * @return 대상 컨테이너 목록
+     */
+    private List<MessageListenerContainer> targetContainers() {
+        return listenerRegistry.getListenerContainers().stream()
+                .filter(container -> {
+                    String[] containerTopics = container.getContainerProperties().getTopics();
+                    return containerTopics != null && Arrays.stream(containerTopics).anyMatch(this::isTargetTopic);
+                })
+                .toList();
+    }
+
+    /**
+     * 대상 토픽이거나 대상 토픽에서 파생된 재시도 토픽(-retry, -retry-N)/DLT(-dlt)인지 확인합니다.
+     *
+     * {@code @RetryableTopic} 리스너는 재시도 토픽마다 별도 컨테이너로 등록되고 같은 Redis 쓰기를 수행하므로,
+     * 원래 토픽만 멈추면 재시도 토픽의 레코드가 계속 Redis 타임아웃을 기다리게 됩니다.
+     *
+     * @param topic 컨테이너가 구독하는 토픽
+     * @return 일시 중지 대상이면 true
+     */
+    boolean isTargetTopic(String topic) {
+        for (String target : topics) {
+            if (topic.equals(target) || topic.startsWith(target + "-retry") || topic.equals(target + "-dlt")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일시 중지한 뒤 지난 시간을 반환합니다.
+     *
+     * @return 일시 중지 후 경과 시간
+     */
+    private Duration pausedFor() {
+        return Duration.ofNanos(System.nanoTime() - pausedAtNanos);
+    }
+
+    /**
+     * 애플리케이션 종료 시 상태 확인 작업을 멈춥니다.
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            log.info("Redis 백프레셔가 종료되었습니다");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.kafkaredis.backpressure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 쓰기 지연 시간과 오류율을 추적하는 컴포넌트
+ *
+ * RedisService의 사용자 이벤트 쓰기와 백프레셔 컨트롤러의 PING 확인 결과를 기록하며,
+ * 지연 시간과 오류율은 지수 이동 평균(EWMA)으로 유지하므로 최근 결과일수록 크게 반영됩니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class RedisHealthMonitor {
+
+    /**
+     * 새 결과의 반영 비율 (0~1, 클수록 최근 결과에 민감)
+     */
+    private final double alpha;
+
+    /**
+     * 지연 시간 이동 평균 (밀리초)
+     */
+    private double latencyMillis;
+
+    /**
+     * 오류율 이동 평균 (0~1)
+     */
+    private double errorRate;
+
+    /**
+     * 지금까지 기록된 결과 수
+     */
+    private long samples;
+
+    /**
+     * 생성자 주입을 통한 설정값 주입
+     */
+    public RedisHealthMonitor(@Value("${app.redis.backpressure.smoothing:0.2}") double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Redis 호출 결과를 기록합니다.
+     *
+     * @param elapsedNanos 호출에 걸린 시간 (나노초)
+     * @param success 성공 여부
+     */
+    public synchronized void record(long elapsedNanos, boolean success) {
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        double error = success ? 0.0 : 1.0;
+        if (samples == 0) {
+            latencyMillis = elapsedMillis;
+            errorRate = error;
+        } else {
+            latencyMillis += alpha * (elapsedMillis - latencyMillis);
+            errorRate += alpha * (error - errorRate);
+        }
+        samples++;
+    }
+
+    /**
+     * 현재 Redis 상태를 반환합니다.
+     *
+     * @return 지연 시간, 오류율 이동 평균과 기록 수
+     */
+    public synchronized RedisHealth snapshot() {
+        return new RedisHealth(latencyMillis, errorRate, samples);
+    }
+
+    /**
+     * Redis 상태 스냅샷
+     *
+     * @param latencyMillis 지연 시간 이동 평균 (밀리초)
+     * @param errorRate 오류율 이동 평균 (0~1)
+     * @param samples 지금까지 기록된 결과 수
+     */
+    public record RedisHealth(double latencyMillis, double errorRate, long samples) {
+    }
+}
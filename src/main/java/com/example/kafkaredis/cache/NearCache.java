@@ -0,0 +1,299 @@
+package com.example.kafkaredis.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Redis 조회 결과를 애플리케이션 메모리에 보관하는 L1 근접 캐시(near cache)
+ *
+ * 자주 읽는 키를 네트워크 왕복 없이 반환하기 위해 사용합니다.
+ * - Redis에서 읽은 원본 값(String 또는 byte[])을 키별로 보관합니다.
+ * - 값의 크기를 가중치로 사용하여 전체 메모리 사용량(max-weight)을 제한하고,
+ *   max-entry-size보다 큰 값은 캐싱하지 않습니다.
+ * - 항목별 만료 시간은 설정된 ttl과 Redis에 남은 TTL 중 짧은 쪽을 사용하므로
+ *   Redis에서 만료된 값을 계속 반환하지 않습니다.
+ * - 이 인스턴스의 쓰기 또는 다른 인스턴스의 무효화 메시지({@link NearCacheInvalidationBus})로
+ *   해당 키를 무효화하며, 조회 도중 같은 키가 무효화되면
+ *   그 조회 결과는 캐싱하지 않아 오래된 값이 다시 들어오지 않도록 합니다.
+ *   무효화 버전은 키 해시로 나눈 구간(stripe)별로 관리하므로, 다른 키의 쓰기는 조회 결과 캐싱을 막지 않습니다.
+ * - 히트/미스/제거 통계를 cache="redis-near-cache" 태그로 Micrometer에 등록합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class NearCache {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(NearCache.class);
+
+    /**
+     * Micrometer에 등록할 캐시 이름
+     */
+    static final String CACHE_NAME = "redis-near-cache";
+
+    /**
+     * 항목별 고정 오버헤드 (키/항목 객체 등) 추정치 (바이트)
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    /**
+     * 무효화 버전을 나누어 관리하는 구간 수 (2의 거듭제곱)
+     */
+    private static final int VERSION_STRIPES = 4096;
+
+    /**
+     * 캐시에 보관하는 항목 (값과 항목별 만료 시간)
+     */
+    private record Entry(Object value, long ttlNanos) {
+    }
+
+    /**
+     * 근접 캐시 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 항목별 최대 만료 시간
+     */
+    private final Duration ttl;
+
+    /**
+     * 캐싱할 수 있는 값의 최대 크기 (바이트)
+     */
+    private final long maxEntryBytes;
+
+    /**
+     * 키 해시 구간별 무효화 버전
+     * 키가 무효화될 때마다 그 키의 구간 버전을 올리고, 조회 시작 시점의 값과 비교하여
+     * 조회 도중 같은 키(또는 같은 구간의 키)가 무효화되었는지 확인합니다.
+     * 키마다 버전을 두지 않으므로 메모리 사용량이 키 수와 관계없이 일정합니다.
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * Caffeine 캐시 (비활성화 시 null)
+     */
+    private final Cache<String, Entry> cache;
+
+    /**
+     * 생성자 주입을 통한 설정값 및 의존성 주입
+     *
+     * @param enabled 근접 캐시 사용 여부
+     * @param maxWeight 캐시 전체의 최대 크기
+     * @param maxEntrySize 캐싱할 수 있는 값의 최대 크기
+     * @param ttl 항목별 최대 만료 시간
+     * @param meterRegistry 캐시 통계를 등록할 레지스트리
+     */
+    public NearCache(@Value("${app.redis.near-cache.enabled:false}") boolean enabled,
+                     @Value("${app.redis.near-cache.max-weight:64MB}") DataSize maxWeight,
+                     @Value("${app.redis.near-cache.max-entry-size:64KB}") DataSize maxEntrySize,
+                     @Value("${app.redis.near-cache.ttl:10s}") Duration ttl,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxEntryBytes = maxEntrySize.toBytes();
+
+        if (!enabled) {
+            this.cache = null;
+            log.info("Redis 근접 캐시 비활성화");
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight.toBytes())
+                .weigher((String key, Entry entry) -> weigh(key, entry.value()))
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Redis 근접 캐시 초기화 완료 - 최대 크기: {}, 항목 최대 크기: {}, 만료 시간: {}",
+                maxWeight, maxEntrySize, ttl);
+    }
+
+    /**
+     * 근접 캐시 사용 여부를 반환합니다.
+     *
+     * @return 사용 중이면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐싱된 값을 조회합니다.
+     *
+     * @param <V> 값의 타입
+     * @param key 조회할 키
+     * @param type 기대하는 값의 타입 (String 또는 byte[])
+     * @return 캐싱된 값, 없거나 타입이 다르면 null
+     */
+    public <V> V get(String key, Class<V> type) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !type.isInstance(entry.value())) {
+            return null;
+        }
+        log.debug("근접 캐시 히트 - 키: {}", key);
+        return type.cast(entry.value());
+    }
+
+    /**
+     * 키의 현재 무효화 버전을 반환합니다.
+     *
+     * Redis 조회 직전에 호출하고, 조회 결과를 {@link #put}할 때 함께 넘깁니다.
+     *
+     * @param key 조회할 키
+     * @return 키의 무효화 버전
+     */
+    public long stamp(String key) {
+        return versions.get(stripeOf(key));
+    }
+
+    /**
+     * Redis에서 읽은 값을 캐싱합니다.
+     *
+     * 조회를 시작한 뒤 같은 키가 무효화되었으면 이미 오래된 값일 수 있으므로 캐싱하지 않습니다.
+     *
+     * @param key 캐싱할 키
+     * @param value Redis에서 읽은 값 (String 또는 byte[])
+     * @param redisTtlMillis Redis에 남은 TTL (밀리초, 만료 없음은 -1, 키 없음은 -2)
+     * @param stamp 조회 직전에 {@link #stamp(String)}로 얻은 값
+     */
+    public void put(String key, Object value, long redisTtlMillis, long stamp) {
+        if (!enabled || value == null || redisTtlMillis == -2) {
+            return;
+        }
+        if (weigh(key, value) - ENTRY_OVERHEAD_BYTES > maxEntryBytes) {
+            log.debug("근접 캐시 항목 최대 크기를 넘어 캐싱하지 않습니다 - 키: {}", key);
+            return;
+        }
+
+        long ttlNanos = ttl.toNanos();
+        if (redisTtlMillis >= 0) {
+            ttlNanos = Math.min(ttlNanos, Duration.ofMillis(redisTtlMillis).toNanos());
+        }
+        if (ttlNanos <= 0) {
+            return;
+        }
+
+        // 조회 도중 같은 키가 무효화되었으면 캐싱하지 않음
+        int stripe = stripeOf(key);
+        if (versions.get(stripe) != stamp) {
+            log.debug("조회 중 무효화가 발생하여 근접 캐시에 저장하지 않습니다 - 키: {}", key);
+            return;
+        }
+        cache.put(key, new Entry(value, ttlNanos));
+        // put과 무효화가 동시에 일어난 경우 방금 넣은 값을 제거
+        if (versions.get(stripe) != stamp) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 키의 캐싱된 값을 무효화합니다.
+     *
+     * @param key 무효화할 키
+     */
+    public void invalidate(String key) {
+        if (!enabled) {
+            return;
+        }
+        versions.incrementAndGet(stripeOf(key));
+        cache.invalidate(key);
+        log.debug("근접 캐시 무효화 - 키: {}", key);
+    }
+
+    /**
+     * 여러 키의 캐싱된 값을 무효화합니다.
+     *
+     * @param keys 무효화할 키 목록
+     */
+    public void invalidateAll(Collection<String> keys) {
+        if (!enabled) {
+            return;
+        }
+        for (String key : keys) {
+            versions.incrementAndGet(stripeOf(key));
+        }
+        cache.invalidateAll(keys);
+        log.debug("근접 캐시 일괄 무효화 - 키 수: {}", keys.size());
+    }
+
+    /**
+     * 캐싱된 모든 값을 무효화합니다.
+     *
+     * 무효화 메시지를 놓쳤을 수 있는 경우(무효화 채널 재구독 등)에 사용합니다.
+     */
+    public void clear() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+        log.info("근접 캐시 전체 무효화");
+    }
+
+    /**
+     * 키의 무효화 버전 구간을 계산합니다.
+     *
+     * @param key 키
+     * @return 구간 번호
+     */
+    static int stripeOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    /**
+     * 항목의 크기를 추정합니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 추정 크기 (바이트)
+     */
+    private static int weigh(String key, Object value) {
+        int valueBytes;
+        if (value instanceof byte[] bytes) {
+            valueBytes = bytes.length;
+        } else if (value instanceof String text) {
+            valueBytes = text.length();
+        } else {
+            valueBytes = 0;
+        }
+        return ENTRY_OVERHEAD_BYTES + key.length() + valueBytes;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.kafkaredis.cache;
+
+import java.util.List;
+
+/**
+ * 근접 캐시 무효화 메시지
+ *
+ * 다른 인스턴스에 변경된 키를 알리기 위해 Redis pub/sub 채널로 발행합니다.
+ *
+ * @param origin 메시지를 발행한 인스턴스 ID (자신이 발행한 메시지는 무시)
+ * @param keys 무효화할 키 목록
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public record NearCacheInvalidation(String origin, List<String> keys) {
+}
@@ -0,0 +1,152 @@
+package com.example.kafkaredis.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 근접 캐시 무효화를 전달하는 컴포넌트
+ *
+ * 각 인스턴스의 {@link NearCache}는 자신의 쓰기만 알 수 있으므로,
+ * RedisService의 쓰기 메서드는 변경된 키를 Redis pub/sub 채널로 발행하고
+ * 모든 인스턴스는 이 채널을 구독하여 자신의 근접 캐시에서 해당 키를 제거합니다.
+ * - 자신이 발행한 메시지는 이미 로컬에서 무효화했으므로 무시합니다.
+ * - pub/sub는 연결이 끊긴 동안의 메시지를 보관하지 않으므로
+ *   채널을 (재)구독할 때마다 근접 캐시 전체를 비웁니다.
+ * - 근접 캐시가 비활성화되어 있으면 아무 것도 발행하지 않습니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class NearCacheInvalidationBus implements MessageListener, SubscriptionListener {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(NearCacheInvalidationBus.class);
+
+    /**
+     * 이 인스턴스의 근접 캐시
+     */
+    private final NearCache nearCache;
+
+    /**
+     * 무효화 메시지 발행을 위한 템플릿
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 무효화 메시지 변환을 위한 매퍼
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 무효화 메시지를 주고받는 채널 이름
+     */
+    private final String channel;
+
+    /**
+     * 이 인스턴스를 구분하는 ID
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public NearCacheInvalidationBus(NearCache nearCache, RedisTemplate<String, String> redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.redis.near-cache.channel:near-cache:invalidate}") String channel) {
+        this.nearCache = nearCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    /**
+     * 무효화 메시지를 주고받는 채널 이름을 반환합니다.
+     *
+     * @return 채널 이름
+     */
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 키를 로컬 근접 캐시에서 제거하고 다른 인스턴스에 무효화 메시지를 발행합니다.
+     *
+     * 발행에 실패해도 Redis 쓰기는 이미 끝났으므로 예외를 던지지 않고 로그만 남깁니다.
+     * 이 경우 다른 인스턴스의 항목은 근접 캐시 ttl이 지나면 만료됩니다.
+     *
+     * @param keys 무효화할 키 목록
+     */
+    public void invalidate(Collection<String> keys) {
+        if (!nearCache.isEnabled() || keys.isEmpty()) {
+            return;
+        }
+        nearCache.invalidateAll(keys);
+
+        try {
+            String message = objectMapper.writeValueAsString(new NearCacheInvalidation(instanceId, List.copyOf(keys)));
+            redisTemplate.convertAndSend(channel, message);
+            log.debug("근접 캐시 무효화 메시지 발행 - 채널: {}, 키 수: {}", channel, keys.size());
+        } catch (Exception e) {
+            log.error("근접 캐시 무효화 메시지 발행 실패 - 채널: {}, 키 수: {}, 오류: {}",
+                    channel, keys.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 키 하나를 무효화합니다.
+     *
+     * @param key 무효화할 키
+     */
+    public void invalidate(String key) {
+        invalidate(List.of(key));
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지를 처리합니다.
+     *
+     * @param message 수신한 메시지
+     * @param pattern 구독 패턴 (채널 구독이므로 사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NearCacheInvalidation invalidation = objectMapper.readValue(message.getBody(), NearCacheInvalidation.class);
+            if (instanceId.equals(invalidation.origin())) {
+                return;
+            }
+            nearCache.invalidateAll(invalidation.keys());
+            log.debug("근접 캐시 무효화 메시지 수신 - 발행 인스턴스: {}, 키 수: {}",
+                    invalidation.origin(), invalidation.keys().size());
+        } catch (Exception e) {
+            // 어떤 키인지 알 수 없으므로 전체를 비워 오래된 값을 반환하지 않도록 함
+            log.error("근접 캐시 무효화 메시지 처리 실패, 전체 무효화합니다 - 오류: {}", e.getMessage(), e);
+            nearCache.clear();
+        }
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 시 구독 전에 놓친 메시지가 있을 수 있으므로 근접 캐시를 비웁니다.
+     *
+     * @param channel 구독한 채널
+     * @param count 현재 구독 수
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        log.info("근접 캐시 무효화 채널 구독 - 채널: {}", this.channel);
+        nearCache.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.kafkaredis.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 작업을 하나로 합치는 유틸리티 (single-flight)
+ *
+ * 같은 키로 동시에 여러 스레드가 {@link #run}을 호출하면 처음 호출한 스레드만 작업을 실행하고,
+ * 나머지 스레드는 그 결과를 기다렸다가 같은 결과(또는 같은 예외)를 받습니다.
+ * 작업이 끝나면 키가 해제되므로 이후 호출은 다시 작업을 실행합니다.
+ *
+ * @param <V> 작업 결과의 타입
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public class SingleFlight<V> {
+
+    /**
+     * 키별 진행 중인 작업
+     */
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 대해 진행 중인 작업이 없으면 작업을 실행하고, 있으면 그 결과를 기다립니다.
+     *
+     * @param key 작업을 합칠 기준 키
+     * @param task 실행할 작업
+     * @param wait 다른 스레드의 작업 결과를 기다리는 최대 시간
+     * @return 작업 결과
+     * @throws TimeoutException 다른 스레드의 작업이 wait 안에 끝나지 않은 경우
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public V run(String key, Supplier<V> task, Duration wait) throws TimeoutException, InterruptedException {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+
+        if (running == null) {
+            // 이 스레드가 작업을 실행
+            try {
+                V value = task.get();
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        // 먼저 시작된 작업의 결과를 기다림
+        try {
+            return running.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 현재 진행 중인 작업 수를 반환합니다.
+     *
+     * @return 진행 중인 작업 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
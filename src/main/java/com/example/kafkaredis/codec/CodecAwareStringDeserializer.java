@@ -0,0 +1,43 @@
+package com.example.kafkaredis.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메시지의 코덱을 판별하여 JSON 문자열로 역직렬화하는 Kafka Deserializer
+ * 
+ * content-codec 헤더가 있으면 헤더의 코덱으로, 없으면 매직 바이트로 코덱을 판별합니다.
+ * Smile/CBOR로 발행된 메시지도 리스너에는 JSON 문자열로 전달되므로
+ * 리스너 코드는 코덱과 관계없이 동일하게 동작합니다.
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public class CodecAwareStringDeserializer implements Deserializer<String> {
+
+    @Override
+    public String deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public String deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header codecHeader = headers != null ? headers.lastHeader(PayloadCodecs.HEADER) : null;
+        PayloadCodec codec = codecHeader != null
+                ? PayloadCodecs.byName(new String(codecHeader.value(), StandardCharsets.UTF_8))
+                : PayloadCodecs.detect(data);
+        try {
+            return codec.toJson(data);
+        } catch (IOException e) {
+            throw new SerializationException("메시지 역직렬화 실패 - 토픽: " + topic + ", 코덱: " + codec.name(), e);
+        }
+    }
+}
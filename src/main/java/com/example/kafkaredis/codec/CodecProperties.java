@@ -0,0 +1,68 @@
+package com.example.kafkaredis.codec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 코덱 선택 설정 (application.yml의 app.codec)
+ * 
+ * 예:
+ * <pre>
+ * app:
+ *   codec:
+ *     default-codec: json
+ *     topics:
+ *       user-events: smile
+ *     redis-prefixes:
+ *       "[user:event:]": smile
+ * </pre>
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "app.codec")
+public class CodecProperties {
+
+    /**
+     * 별도 설정이 없는 토픽과 Redis 키에 사용할 코덱
+     */
+    private String defaultCodec = "json";
+
+    /**
+     * 토픽 이름별 코덱
+     */
+    private Map<String, String> topics = new HashMap<>();
+
+    /**
+     * Redis 키 접두사별 코덱 (가장 긴 접두사가 우선)
+     */
+    private Map<String, String> redisPrefixes = new HashMap<>();
+
+    public String getDefaultCodec() {
+        return defaultCodec;
+    }
+
+    public void setDefaultCodec(String defaultCodec) {
+        this.defaultCodec = defaultCodec;
+    }
+
+    public Map<String, String> getTopics() {
+        return topics;
+    }
+
+    public void setTopics(Map<String, String> topics) {
+        this.topics = topics;
+    }
+
+    public Map<String, String> getRedisPrefixes() {
+        return redisPrefixes;
+    }
+
+    public void setRedisPrefixes(Map<String, String> redisPrefixes) {
+        this.redisPrefixes = redisPrefixes;
+    }
+}
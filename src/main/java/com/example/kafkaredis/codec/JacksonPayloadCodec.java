@@ -0,0 +1,122 @@
+package com.example.kafkaredis.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Jackson ObjectMapper를 기반으로 한 코덱 구현
+ * 
+ * 사용하는 ObjectMapper의 JsonFactory에 따라 JSON, Smile, CBOR 형식을 처리합니다.
+ * 바이너리 형식과 JSON 문자열 사이의 변환은 중간 트리를 만들지 않고 토큰 단위로 한 번에 옮겨 씁니다.
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public class JacksonPayloadCodec implements PayloadCodec {
+
+    /**
+     * 코덱 이름
+     */
+    private final String name;
+
+    /**
+     * 이 코덱의 형식으로 읽고 쓰는 매퍼
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * JSON 문자열과 변환할 때 사용하는 JSON 매퍼
+     */
+    private final ObjectMapper jsonMapper;
+
+    /**
+     * JSON 텍스트 형식 여부
+     */
+    private final boolean textual;
+
+    /**
+     * 코덱을 생성합니다.
+     * 
+     * @param name 코덱 이름
+     * @param mapper 이 코덱의 형식으로 읽고 쓰는 매퍼
+     * @param jsonMapper JSON 문자열과 변환할 때 사용하는 JSON 매퍼
+     */
+    public JacksonPayloadCodec(String name, ObjectMapper mapper, ObjectMapper jsonMapper) {
+        this.name = name;
+        this.mapper = mapper;
+        this.jsonMapper = jsonMapper;
+        this.textual = mapper == jsonMapper;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public boolean isTextual() {
+        return textual;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) throws IOException {
+        return mapper.readValue(data, type);
+    }
+
+    @Override
+    public byte[] fromJson(String json) throws IOException {
+        if (textual) {
+            return json.getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length());
+        try (JsonParser parser = jsonMapper.createParser(json);
+             JsonGenerator generator = mapper.createGenerator(out)) {
+            transcode(parser, generator);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String toJson(byte[] data) throws IOException {
+        if (textual) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        StringWriter out = new StringWriter(data.length * 2);
+        try (JsonParser parser = mapper.createParser(data);
+             JsonGenerator generator = jsonMapper.createGenerator(out)) {
+            transcode(parser, generator);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 파서가 읽은 값 하나를 생성기로 옮겨 씁니다.
+     * 
+     * @param parser 원본 형식의 파서
+     * @param generator 대상 형식의 생성기
+     * @throws IOException 읽을 값이 없거나 파싱/쓰기에 실패한 경우
+     */
+    private static void transcode(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new JsonParseException(parser, "변환할 값이 없습니다");
+        }
+        generator.copyCurrentStructure(parser);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.kafkaredis.codec;
+
+import java.io.IOException;
+
+/**
+ * Kafka 메시지와 Redis 값의 직렬화 형식(코덱)을 나타내는 인터페이스
+ * 
+ * JSON 텍스트 형식과 Smile/CBOR 같은 바이너리 형식을 같은 방식으로 다룰 수 있도록 합니다.
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public interface PayloadCodec {
+
+    /**
+     * 코덱 이름 (json, smile, cbor)
+     * Kafka 헤더와 설정 파일에서 코덱을 식별하는 데 사용합니다.
+     * 
+     * @return 코덱 이름
+     */
+    String name();
+
+    /**
+     * 텍스트(JSON) 형식인지 여부
+     * 
+     * @return JSON 텍스트 형식이면 true, 바이너리 형식이면 false
+     */
+    boolean isTextual();
+
+    /**
+     * 객체를 이 코덱의 형식으로 직렬화합니다.
+     * 
+     * @param value 직렬화할 객체
+     * @return 직렬화된 바이트 배열
+     * @throws IOException 직렬화 실패 시
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * 이 코덱의 형식으로 직렬화된 데이터를 객체로 변환합니다.
+     * 
+     * @param <T> 변환할 객체의 타입
+     * @param data 직렬화된 바이트 배열
+     * @param type 변환할 객체의 클래스 타입
+     * @return 변환된 객체
+     * @throws IOException 역직렬화 실패 시
+     */
+    <T> T decode(byte[] data, Class<T> type) throws IOException;
+
+    /**
+     * 이미 인코딩된 JSON 문자열을 이 코덱의 형식으로 변환합니다.
+     * 
+     * @param json JSON 문자열
+     * @return 이 코덱 형식의 바이트 배열
+     * @throws IOException JSON 파싱 또는 직렬화 실패 시
+     */
+    byte[] fromJson(String json) throws IOException;
+
+    /**
+     * 이 코덱의 형식으로 직렬화된 데이터를 JSON 문자열로 변환합니다.
+     * 
+     * @param data 직렬화된 바이트 배열
+     * @return JSON 문자열
+     * @throws IOException 역직렬화 실패 시
+     */
+    String toJson(byte[] data) throws IOException;
+}
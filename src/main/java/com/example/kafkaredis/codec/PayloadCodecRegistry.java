@@ -0,0 +1,123 @@
+package com.example.kafkaredis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토픽과 Redis 키 접두사별로 사용할 코덱을 결정하는 컴포넌트
+ * 
+ * JSON 코덱은 애플리케이션의 ObjectMapper를 그대로 사용하고,
+ * Smile/CBOR 코덱은 JSON 문자열 변환 시 같은 ObjectMapper를 사용합니다.
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class PayloadCodecRegistry {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(PayloadCodecRegistry.class);
+
+    /**
+     * 이름별 코덱 (애플리케이션 ObjectMapper 기반)
+     */
+    private final Map<String, PayloadCodec> codecs = new HashMap<>();
+
+    /**
+     * 설정이 없는 토픽과 키에 사용하는 기본 코덱
+     */
+    private final PayloadCodec defaultCodec;
+
+    /**
+     * 토픽별 코덱
+     */
+    private final Map<String, PayloadCodec> topicCodecs = new HashMap<>();
+
+    /**
+     * Redis 키 접두사별 코덱 (긴 접두사부터 정렬)
+     */
+    private final List<Map.Entry<String, PayloadCodec>> redisPrefixCodecs = new ArrayList<>();
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     * 
+     * 설정된 코덱 이름은 여기서 한 번만 확인하여, 알 수 없는 이름이면 기동 시 실패합니다.
+     */
+    public PayloadCodecRegistry(CodecProperties properties, ObjectMapper objectMapper) {
+        register(new JacksonPayloadCodec("json", objectMapper, objectMapper));
+        register(PayloadCodecs.smile(objectMapper));
+        register(PayloadCodecs.cbor(objectMapper));
+        this.defaultCodec = byName(properties.getDefaultCodec());
+        properties.getTopics().forEach((topic, codecName) -> topicCodecs.put(topic, byName(codecName)));
+        properties.getRedisPrefixes().forEach((prefix, codecName) ->
+                redisPrefixCodecs.add(Map.entry(prefix, byName(codecName))));
+        redisPrefixCodecs.sort(Comparator.comparingInt(
+                (Map.Entry<String, PayloadCodec> entry) -> entry.getKey().length()).reversed());
+        log.info("코덱 설정 - 기본: {}, 토픽별: {}, Redis 접두사별: {}", 
+                properties.getDefaultCodec(), properties.getTopics(), properties.getRedisPrefixes());
+    }
+
+    /**
+     * 토픽에 설정된 코덱을 반환합니다.
+     * 
+     * @param topic 토픽 이름
+     * @return 토픽의 코덱 (설정이 없으면 기본 코덱)
+     */
+    public PayloadCodec forTopic(String topic) {
+        return topicCodecs.getOrDefault(topic, defaultCodec);
+    }
+
+    /**
+     * Redis 키에 설정된 코덱을 반환합니다.
+     * 
+     * 키와 일치하는 접두사 중 가장 긴 접두사의 코덱을 사용합니다.
+     * 
+     * @param key Redis 키
+     * @return 키의 코덱 (일치하는 접두사가 없으면 기본 코덱)
+     */
+    public PayloadCodec forRedisKey(String key) {
+        for (Map.Entry<String, PayloadCodec> entry : redisPrefixCodecs) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return defaultCodec;
+    }
+
+    /**
+     * 데이터의 매직 바이트로 코덱을 판별합니다.
+     * 
+     * @param data 판별할 데이터
+     * @return 판별된 코덱 (Smile, CBOR가 아니면 JSON)
+     */
+    public PayloadCodec detect(byte[] data) {
+        return codecs.get(PayloadCodecs.detect(data).name());
+    }
+
+    /**
+     * 이름으로 코덱을 찾습니다.
+     * 
+     * 이름 확인은 PayloadCodecs.byName과 같은 규칙을 사용합니다.
+     * 
+     * @param name 코덱 이름 (대소문자 무시)
+     * @return 코덱
+     * @throws IllegalArgumentException 알 수 없는 코덱 이름인 경우
+     */
+    public PayloadCodec byName(String name) {
+        return codecs.get(PayloadCodecs.byName(name).name());
+    }
+
+    private void register(PayloadCodec codec) {
+        codecs.put(codec.name(), codec);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.kafkaredis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * 기본 제공 코덱과 코덱 판별 기능을 모아둔 유틸리티 클래스
+ * 
+ * - Kafka 메시지는 content-codec 헤더로 코덱을 표시합니다.
+ * - Redis 값처럼 헤더가 없는 데이터는 첫 바이트(매직 바이트)로 코덱을 판별합니다.
+ *   Smile은 ":)\n" 헤더로, CBOR는 self-describe 태그(0xD9 0xD9 0xF7)로 시작하며,
+ *   그 외에는 JSON으로 간주합니다.
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public final class PayloadCodecs {
+
+    /**
+     * Kafka 메시지의 코덱을 표시하는 헤더 이름
+     */
+    public static final String HEADER = "content-codec";
+
+    /**
+     * JSON 텍스트 코덱
+     */
+    public static final PayloadCodec JSON;
+
+    /**
+     * Smile 바이너리 코덱
+     */
+    public static final PayloadCodec SMILE;
+
+    /**
+     * CBOR 바이너리 코덱
+     */
+    public static final PayloadCodec CBOR;
+
+    static {
+        ObjectMapper jsonMapper = configure(new ObjectMapper());
+        JSON = new JacksonPayloadCodec("json", jsonMapper, jsonMapper);
+        SMILE = smile(jsonMapper);
+        CBOR = cbor(jsonMapper);
+    }
+
+    private PayloadCodecs() {
+    }
+
+    /**
+     * 주어진 JSON 매퍼와 짝을 이루는 Smile 코덱을 생성합니다.
+     * 
+     * @param jsonMapper JSON 문자열 변환에 사용할 매퍼
+     * @return Smile 코덱
+     */
+    public static PayloadCodec smile(ObjectMapper jsonMapper) {
+        return new JacksonPayloadCodec("smile", configure(new SmileMapper()), jsonMapper);
+    }
+
+    /**
+     * 주어진 JSON 매퍼와 짝을 이루는 CBOR 코덱을 생성합니다.
+     * 
+     * 판별을 위해 self-describe 태그를 항상 기록합니다.
+     * 
+     * @param jsonMapper JSON 문자열 변환에 사용할 매퍼
+     * @return CBOR 코덱
+     */
+    public static PayloadCodec cbor(ObjectMapper jsonMapper) {
+        ObjectMapper mapper = CBORMapper.builder()
+                .enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+                .build();
+        return new JacksonPayloadCodec("cbor", configure(mapper), jsonMapper);
+    }
+
+    /**
+     * 이름으로 기본 제공 코덱을 찾습니다.
+     * 
+     * @param name 코덱 이름 (대소문자 무시)
+     * @return 코덱
+     * @throws IllegalArgumentException 알 수 없는 코덱 이름인 경우
+     */
+    public static PayloadCodec byName(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "json":
+                return JSON;
+            case "smile":
+                return SMILE;
+            case "cbor":
+                return CBOR;
+            default:
+                throw new IllegalArgumentException("알 수 없는 코덱: " + name);
+        }
+    }
+
+    /**
+     * 데이터의 매직 바이트로 기본 제공 코덱을 판별합니다.
+     * 
+     * @param data 판별할 데이터
+     * @return 판별된 코덱 (Smile, CBOR가 아니면 JSON)
+     */
+    public static PayloadCodec detect(byte[] data) {
+        if (isSmile(data)) {
+            return SMILE;
+        }
+        if (isCbor(data)) {
+            return CBOR;
+        }
+        return JSON;
+    }
+
+    /**
+     * Smile 헤더(":)\n")로 시작하는지 확인합니다.
+     */
+    static boolean isSmile(byte[] data) {
+        return data != null && data.length >= 3
+                && data[0] == ':' && data[1] == ')' && data[2] == '\n';
+    }
+
+    /**
+     * CBOR self-describe 태그(0xD9 0xD9 0xF7)로 시작하는지 확인합니다.
+     */
+    static boolean isCbor(byte[] data) {
+        return data != null && data.length >= 3
+                && data[0] == (byte) 0xD9 && data[1] == (byte) 0xD9 && data[2] == (byte) 0xF7;
+    }
+
+    /**
+     * RedisConfig의 ObjectMapper와 같은 규칙(Java 시간 API, ISO-8601 날짜)을 적용합니다.
+     */
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+}
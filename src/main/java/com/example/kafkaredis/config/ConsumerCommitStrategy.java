@@ -0,0 +1,66 @@
+package com.example.kafkaredis.config;
+
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Kafka 리스너의 오프셋 커밋 전략
+ * 
+ * 리스너가 정상적으로 처리를 마친 레코드만 커밋되므로 모든 전략은 at-least-once를 보장합니다.
+ * 커밋되지 않은 처리 완료 오프셋은 파티션 리밸런스(revoke)와 컨테이너 종료 시 컨테이너가 함께 커밋합니다.
+ * 
+ * - RECORD: 레코드마다 커밋
+ * - BATCH: poll 한 번으로 가져온 레코드를 모두 처리한 뒤 한 번 커밋
+ * - COUNT: 처리한 레코드 수가 commit-count 이상이 되면 커밋
+ * - TIME: 마지막 커밋 후 commit-interval 이상 지나면 커밋
+ * - COUNT_TIME: COUNT 또는 TIME 조건 중 하나라도 만족하면 커밋
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public enum ConsumerCommitStrategy {
+
+    RECORD(ContainerProperties.AckMode.RECORD),
+    BATCH(ContainerProperties.AckMode.BATCH),
+    COUNT(ContainerProperties.AckMode.COUNT),
+    TIME(ContainerProperties.AckMode.TIME),
+    COUNT_TIME(ContainerProperties.AckMode.COUNT_TIME);
+
+    /**
+     * 전략에 대응하는 리스너 컨테이너 AckMode
+     */
+    private final ContainerProperties.AckMode ackMode;
+
+    ConsumerCommitStrategy(ContainerProperties.AckMode ackMode) {
+        this.ackMode = ackMode;
+    }
+
+    /**
+     * 설정 문자열을 커밋 전략으로 변환합니다.
+     * 
+     * 대소문자와 '-', '_' 구분 없이 변환합니다. (예: count-time, COUNT_TIME)
+     * 기본 로캘(예: 터키어의 i → İ)과 관계없이 같은 결과가 나오도록 Locale.ROOT로 대문자 변환합니다.
+     * 
+     * @param value 설정 문자열
+     * @return 커밋 전략
+     * @throws IllegalArgumentException 알 수 없는 전략 이름인 경우
+     */
+    public static ConsumerCommitStrategy from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    /**
+     * 리스너 컨테이너 설정에 이 커밋 전략을 적용합니다.
+     * 
+     * @param containerProperties 적용할 컨테이너 설정
+     * @param commitCount COUNT 계열 전략의 커밋 기준 레코드 수
+     * @param commitInterval TIME 계열 전략의 커밋 주기
+     */
+    public void applyTo(ContainerProperties containerProperties, int commitCount, Duration commitInterval) {
+        containerProperties.setAckMode(ackMode);
+        containerProperties.setAckCount(commitCount);
+        containerProperties.setAckTime(commitInterval.toMillis());
+    }
+}
@@ -1,16 +1,47 @@
 package com.example.kafkaredis.config;
 
+import com.example.kafkaredis.metrics.EventLatencyInterceptor;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Kafka 설정을 담당하는 Configuration 클래스
@@ -19,18 +50,44 @@ import java.util.Map;
  * - Kafka Admin 클라이언트 설정
  * - 필요한 토픽들을 자동으로 생성
  * - Kafka 브로커 연결 정보 관리
+ * - 문자열/바이트 배열 값을 발행하는 KafkaTemplate 설정
+ * - 리스너 컨테이너 팩토리(단건/배치) 및 오프셋 커밋 전략 설정
+ * - 리스너 처리 실패 시 재처리, 재처리 소진 시 DLT 발행을 위한 에러 핸들러 설정
+ * - exactly-once 모드용 트랜잭션 Producer와 트랜잭션 배치 리스너 컨테이너 팩토리 설정
+ * - 모든 리스너 컨테이너에 발행 → 소비 지연 시간 기록 인터셉터 설정
  * 
  * @author 개발자
  * @version 1.0
  */
 @Configuration  // Spring 설정 클래스임을 나타내는 어노테이션
-public class KafkaConfig {
+public class KafkaConfig implements DisposableBean {
 
     /**
      * 로깅을 위한 Logger 인스턴스
      */
     private static final Logger log = LoggerFactory.getLogger(KafkaConfig.class);
 
+    /**
+     * 재처리를 모두 소진한 레코드를 발행할 토픽의 접미사 (재시도 토픽의 DLT와 같음)
+     */
+    private static final String DEAD_LETTER_SUFFIX = "-dlt";
+
+    /**
+     * 에러 핸들러가 재처리 간격 동안 컨테이너를 일시 중지했다가 재개하는 데 사용하는 스케줄러
+     * 
+     * TaskScheduler를 Bean으로 등록하면 Spring Boot의 기본 스케줄러/실행기 자동 설정이
+     * 꺼지므로 이 클래스 안에서만 사용합니다.
+     */
+    private final ThreadPoolTaskScheduler errorBackOffScheduler = newErrorBackOffScheduler();
+
+    /**
+     * 트랜잭션 KafkaTemplate이 사용하는 Producer 팩토리 (종료 시 Producer를 닫기 위해 보관)
+     * 
+     * ProducerFactory를 Bean으로 등록하면 Spring Boot의 기본 Producer 팩토리 자동 설정이
+     * 꺼지므로 Bean으로 등록하지 않고 이 클래스에서 직접 닫습니다.
+     */
+    private DefaultKafkaProducerFactory<String, String> transactionalProducerFactory;
+
     /**
      * application.yml에서 설정된 Kafka 브로커 서버 주소
      * 예: localhost:9092
@@ -38,6 +95,66 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    /**
+     * 리스너 오프셋 커밋 전략 (record, batch, count, time, count-time)
+     */
+    @Value("${app.kafka.consumer.commit-strategy:batch}")
+    private String commitStrategy;
+
+    /**
+     * COUNT 계열 커밋 전략에서 커밋 기준이 되는 처리 레코드 수
+     */
+    @Value("${app.kafka.consumer.commit-count:100}")
+    private int commitCount;
+
+    /**
+     * TIME 계열 커밋 전략에서 커밋 주기
+     */
+    @Value("${app.kafka.consumer.commit-interval:1s}")
+    private Duration commitInterval;
+
+    /**
+     * 리스너 처리 실패 시 재처리 간격
+     */
+    @Value("${app.kafka.consumer.retry-interval:1s}")
+    private Duration retryInterval;
+
+    /**
+     * 리스너 처리 실패 시 최대 재처리 횟수 (초과하면 DLT로 발행하거나 건너뜀)
+     */
+    @Value("${app.kafka.consumer.retry-attempts:3}")
+    private long retryAttempts;
+
+    /**
+     * 재처리를 모두 소진한 레코드를 DLT로 발행할지 여부 (false면 로그만 남기고 건너뜀)
+     */
+    @Value("${app.kafka.consumer.dead-letter.enabled:true}")
+    private boolean deadLetterEnabled;
+
+    /**
+     * exactly-once 모드에서 파생 이벤트를 발행할 토픽
+     */
+    @Value("${app.kafka.transaction.output-topic:test-topic-derived}")
+    private String transactionOutputTopic;
+
+    /**
+     * 트랜잭션 Producer의 transactional.id 접두사
+     */
+    @Value("${app.kafka.transaction.id-prefix:kafka-redis-tx-}")
+    private String transactionIdPrefix;
+
+    /**
+     * 트랜잭션 하나에 담을 최대 레코드 수 (트랜잭션 리스너의 max.poll.records)
+     */
+    @Value("${app.kafka.transaction.max-records:500}")
+    private int transactionMaxRecords;
+
+    /**
+     * 트랜잭션 타임아웃 (이 시간 안에 커밋되지 않으면 브로커가 중단시킴)
+     */
+    @Value("${app.kafka.transaction.timeout:30s}")
+    private Duration transactionTimeout;
+
     /**
      * Kafka Admin 클라이언트를 생성하는 Bean
      * 
@@ -65,29 +182,405 @@ public class KafkaConfig {
      * 테스트용 토픽을 생성하는 Bean
      * 
      * 이 토픽은 일반적인 메시지 테스트에 사용됩니다.
-     * - 파티션 수: 3개 (메시지 분산 처리)
-     * - 복제 팩터: 1개 (단일 브로커 환경용)
+     * 파티션 수와 복제 팩터는 app.kafka.topics.test-topic 설정을 따릅니다 (기본: 파티션 3, 복제 팩터 1).
      * 
+     * @param topicProperties 토픽별 설정
      * @return NewTopic 인스턴스
      */
     @Bean
-    public NewTopic testTopic() {
-        log.info("테스트 토픽 'test-topic' 생성 중... (파티션: 3, 복제팩터: 1)");
-        return new NewTopic("test-topic", 3, (short) 1);
+    public NewTopic testTopic(KafkaTopicProperties topicProperties) {
+        return newTopic("test-topic", topicProperties);
     }
 
     /**
      * 사용자 이벤트용 토픽을 생성하는 Bean
      * 
-     * 이 토픽은 사용자 관련 이벤트 메시지를 처리합니다.
-     * - 파티션 수: 3개 (사용자 ID 기반 분산 처리)
-     * - 복제 팩터: 1개 (단일 브로커 환경용)
+     * 이 토픽은 사용자 관련 이벤트 메시지를 처리합니다 (사용자 ID 기반 분산 처리).
+     * 파티션 수와 복제 팩터는 app.kafka.topics.user-events 설정을 따릅니다 (기본: 파티션 3, 복제 팩터 1).
+     * 
+     * @param topicProperties 토픽별 설정
+     * @return NewTopic 인스턴스
+     */
+    @Bean
+    public NewTopic userEventsTopic(KafkaTopicProperties topicProperties) {
+        return newTopic("user-events", topicProperties);
+    }
+
+    /**
+     * exactly-once 모드의 파생 이벤트 토픽을 생성하는 Bean
      * 
+     * 파티션 수와 복제 팩터는 app.kafka.topics.{output-topic} 설정을 따릅니다 (기본: 파티션 3, 복제 팩터 1).
+     * 
+     * @param topicProperties 토픽별 설정
      * @return NewTopic 인스턴스
      */
     @Bean
-    public NewTopic userEventsTopic() {
-        log.info("사용자 이벤트 토픽 'user-events' 생성 중... (파티션: 3, 복제팩터: 1)");
-        return new NewTopic("user-events", 3, (short) 1);
+    public NewTopic derivedEventsTopic(KafkaTopicProperties topicProperties) {
+        return newTopic(transactionOutputTopic, topicProperties);
+    }
+
+    /**
+     * 문자열 값을 발행하는 KafkaTemplate Bean
+     * 
+     * 이미 인코딩된 JSON 문자열을 그대로 발행할 때 사용합니다.
+     * Spring Boot가 application.yml로 구성한 ProducerFactory(StringSerializer)를 사용합니다.
+     * 
+     * @param producerFactory Spring Boot가 자동 설정한 Producer 팩토리
+     * @return 문자열 값용 KafkaTemplate 인스턴스
+     */
+    @Bean
+    @Primary  // 트랜잭션용 KafkaTemplate이 따로 있으므로 기본 주입 대상으로 지정
+    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+        log.info("문자열 KafkaTemplate 초기화 중...");
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * 바이트 배열 값을 발행하는 KafkaTemplate Bean
+     * 
+     * 객체를 JSON 바이트로 직접 직렬화하여 발행할 때 사용하므로
+     * 중간 String 생성과 문자열 인코딩 복사를 생략할 수 있습니다.
+     * 같은 Producer 설정에 값 시리얼라이저만 ByteArraySerializer로 덮어씁니다.
+     * 
+     * @param producerFactory Spring Boot가 자동 설정한 Producer 팩토리
+     * @return 바이트 배열 값용 KafkaTemplate 인스턴스
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> byteArrayKafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        log.info("바이트 배열 KafkaTemplate 초기화 중...");
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(producerFactory, overrides);
+    }
+
+    /**
+     * 트랜잭션 안에서 문자열 값을 발행하는 KafkaTemplate Bean
+     * 
+     * Spring Boot의 Producer 설정을 복사하여 transactional.id 접두사와 트랜잭션 타임아웃을 적용한
+     * 별도 Producer 팩토리를 사용합니다. 기본 Producer 팩토리를 트랜잭션으로 바꾸면
+     * 트랜잭션 밖에서 발행하는 KafkaProducerService가 동작하지 않으므로 분리합니다.
+     * 트랜잭션 리스너 컨테이너가 시작한 트랜잭션에 참여하여 발행합니다.
+     * 이 Producer 팩토리는 애플리케이션 종료 시 destroy()에서 닫습니다.
+     * 
+     * @param producerFactory Spring Boot가 자동 설정한 Producer 팩토리
+     * @return 트랜잭션용 KafkaTemplate 인스턴스
+     */
+    @Bean
+    public KafkaTemplate<String, String> transactionalKafkaTemplate(ProducerFactory<String, String> producerFactory) {
+        log.info("트랜잭션 KafkaTemplate 초기화 중... (transactional.id 접두사: {}, 타임아웃: {})",
+                transactionIdPrefix, transactionTimeout);
+        Map<String, Object> configs = new HashMap<>(producerFactory.getConfigurationProperties());
+        configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configs.put(ProducerConfig.TRANSACTION_TIMEOUT_CONFIG, (int) transactionTimeout.toMillis());
+        
+        transactionalProducerFactory = new DefaultKafkaProducerFactory<>(configs);
+        transactionalProducerFactory.setTransactionIdPrefix(transactionIdPrefix);
+        return new KafkaTemplate<>(transactionalProducerFactory);
+    }
+
+    /**
+     * 단건 리스너용 기본 컨테이너 팩토리를 생성하는 Bean
+     * 
+     * Spring Boot의 기본 팩토리를 대체하며, application.yml의 spring.kafka.listener 설정을
+     * 적용한 뒤 app.kafka.consumer.commit-strategy에 따른 커밋 전략을 적용합니다.
+     * 
+     * @param configurer Spring Boot가 제공하는 리스너 컨테이너 팩토리 설정기
+     * @param consumerFactory Spring Boot가 자동 설정한 Consumer 팩토리
+     * @param eventLatencyInterceptor 발행 → 소비 지연 시간 기록 인터셉터
+     * @return 단건 리스너용 ConcurrentKafkaListenerContainerFactory 인스턴스
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            EventLatencyInterceptor eventLatencyInterceptor) {
+        log.info("리스너 컨테이너 팩토리 초기화 중...");
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        applyLatencyInterceptor(factory, eventLatencyInterceptor);
+        applyCommitStrategy(factory);
+        
+        log.info("리스너 컨테이너 팩토리가 성공적으로 초기화되었습니다");
+        return factory;
+    }
+
+    /**
+     * 배치 리스너용 컨테이너 팩토리를 생성하는 Bean
+     * 
+     * 한 번의 poll로 가져온 레코드 전체를 List로 리스너에 전달합니다.
+     * application.yml의 spring.kafka.listener 설정을 그대로 적용한 뒤
+     * 배치 모드와 커밋 전략을 적용합니다.
+     * 
+     * @param configurer Spring Boot가 제공하는 리스너 컨테이너 팩토리 설정기
+     * @param consumerFactory Spring Boot가 자동 설정한 Consumer 팩토리
+     * @param eventLatencyInterceptor 발행 → 소비 지연 시간 기록 인터셉터
+     * @return 배치 리스너용 ConcurrentKafkaListenerContainerFactory 인스턴스
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            EventLatencyInterceptor eventLatencyInterceptor) {
+        log.info("배치 리스너 컨테이너 팩토리 초기화 중...");
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        // application.yml의 리스너 설정을 먼저 적용
+        configurer.configure(factory, consumerFactory);
+        applyLatencyInterceptor(factory, eventLatencyInterceptor);
+        
+        // poll 단위로 레코드를 List로 전달
+        factory.setBatchListener(true);
+        applyCommitStrategy(factory);
+        
+        log.info("배치 리스너 컨테이너 팩토리가 성공적으로 초기화되었습니다");
+        return factory;
+    }
+
+    /**
+     * 수동 ack 리스너용 컨테이너 팩토리를 생성하는 Bean
+     * 
+     * write-behind 리스너처럼 리스너 반환 이후 다른 스레드에서 처리를 끝내는 경우에 사용합니다.
+     * 커밋 전략 대신 MANUAL 모드를 적용하여, 리스너 스레드가 아닌 곳에서 호출한 ack도
+     * 컨테이너가 다음 poll 때 모아서 커밋합니다 (ack된 레코드까지만 커밋).
+     * write-behind 리스너는 버퍼가 가득 차면(Redis 장애 등) 예외를 던지므로,
+     * 공통 에러 핸들러 대신 재처리 횟수 제한 없이 같은 레코드를 다시 처리하는 핸들러를 사용합니다.
+     * 공통 에러 핸들러를 사용하면 재처리 소진 후 레코드를 건너뛰어 이벤트가 Redis에 반영되지 않습니다.
+     * 
+     * @param configurer Spring Boot가 제공하는 리스너 컨테이너 팩토리 설정기
+     * @param consumerFactory Spring Boot가 자동 설정한 Consumer 팩토리
+     * @param eventLatencyInterceptor 발행 → 소비 지연 시간 기록 인터셉터
+     * @return 수동 ack 리스너용 ConcurrentKafkaListenerContainerFactory 인스턴스
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> manualAckKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            EventLatencyInterceptor eventLatencyInterceptor) {
+        log.info("수동 ack 리스너 컨테이너 팩토리 초기화 중...");
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        applyLatencyInterceptor(factory, eventLatencyInterceptor);
+        
+        // 리스너가 전달받은 Acknowledgment를 호출한 레코드까지만 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // 버퍼가 가득 차 실패한 레코드는 건너뛰거나 DLT로 보내지 않고 버퍼가 빌 때까지 재처리
+        factory.setCommonErrorHandler(unlimitedRetryErrorHandler());
+        
+        log.info("수동 ack 리스너 컨테이너 팩토리가 성공적으로 초기화되었습니다");
+        return factory;
+    }
+
+    /**
+     * exactly-once 모드의 트랜잭션 배치 리스너용 컨테이너 팩토리를 생성하는 Bean
+     * 
+     * 컨테이너가 poll 한 배치마다 Kafka 트랜잭션을 시작하고, 리스너가 정상 반환하면
+     * 소비한 오프셋을 sendOffsetsToTransaction으로 같은 트랜잭션에 담아 커밋합니다.
+     * 따라서 파생 이벤트 발행과 오프셋 커밋이 함께 성공하거나 함께 취소됩니다.
+     * - 트랜잭션 하나에 최대 max-records개 레코드를 담아 커밋 비용을 여러 레코드로 나눕니다.
+     * - 다른 트랜잭션이 취소한 레코드는 읽지 않도록 read_committed로 읽습니다.
+     * - 리스너가 실패하면 트랜잭션을 취소하고, 같은 배치를 재처리 간격만큼 기다린 뒤 다시 처리합니다.
+     * 
+     * Spring Boot 설정기가 적용한 공통 에러 핸들러(DefaultErrorHandler)는 트랜잭션 안에서 실패를 처리하고
+     * 정상 반환하므로, 이미 발행한 파생 이벤트와 함께 트랜잭션이 커밋되어 재처리 시 중복 발행됩니다.
+     * 따라서 예외를 다시 던지는 에러 핸들러로 바꿔, 트랜잭션을 취소한 뒤 롤백 후 처리기가 재처리하도록 합니다.
+     * 
+     * 트랜잭션 매니저는 Bean으로 등록하지 않습니다. Bean으로 등록하면 Spring Boot가
+     * 다른 리스너 컨테이너 팩토리에도 적용하기 때문입니다.
+     * 
+     * @param configurer Spring Boot가 제공하는 리스너 컨테이너 팩토리 설정기
+     * @param consumerFactory Spring Boot가 자동 설정한 Consumer 팩토리
+     * @param transactionalKafkaTemplate 트랜잭션용 KafkaTemplate
+     * @param eventLatencyInterceptor 발행 → 소비 지연 시간 기록 인터셉터
+     * @return 트랜잭션 배치 리스너용 ConcurrentKafkaListenerContainerFactory 인스턴스
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> transactionalKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            @Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, String> transactionalKafkaTemplate,
+            EventLatencyInterceptor eventLatencyInterceptor) {
+        log.info("트랜잭션 리스너 컨테이너 팩토리 초기화 중... (트랜잭션당 최대 레코드: {})", transactionMaxRecords);
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        applyLatencyInterceptor(factory, eventLatencyInterceptor);
+        factory.setBatchListener(true);
+        
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setKafkaAwareTransactionManager(
+                new KafkaTransactionManager<>(transactionalKafkaTemplate.getProducerFactory()));
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        
+        Properties consumerOverrides = new Properties();
+        consumerOverrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(transactionMaxRecords));
+        consumerOverrides.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        containerProperties.setKafkaConsumerProperties(consumerOverrides);
+        
+        // 트랜잭션 리스너의 실패는 에러 핸들러 대신 롤백 후 처리기가 재처리
+        factory.setCommonErrorHandler(rollbackErrorHandler());
+        factory.setAfterRollbackProcessor(new DefaultAfterRollbackProcessor<>(
+                new FixedBackOff(retryInterval.toMillis(), retryAttempts)));
+        
+        log.info("트랜잭션 리스너 컨테이너 팩토리가 성공적으로 초기화되었습니다");
+        return factory;
+    }
+
+    /**
+     * 리스너 처리 실패 시 사용할 에러 핸들러 Bean
+     * 
+     * 리스너가 예외를 던지면 실패한 레코드부터 다시 seek 하여 재처리합니다.
+     * 배치 리스너가 BatchListenerFailedException을 던지면 그 앞의 레코드까지만 커밋합니다.
+     * 재처리 간격 동안 리스너 스레드를 sleep 하지 않고 컨테이너를 일시 중지하므로,
+     * poll은 계속되어 max.poll.interval.ms를 넘겨 리밸런스되지 않습니다.
+     * 
+     * 재처리 횟수를 모두 소진한 레코드는 다음과 같이 처리한 뒤 커밋합니다.
+     * - app.kafka.consumer.dead-letter.enabled=true (기본값): {토픽}-dlt로 발행합니다.
+     *   발행에 실패하면 레코드를 건너뛰지 않고 다시 재처리합니다.
+     * - false: 로그만 남기고 건너뜁니다 (레코드 유실을 감수하는 경우에만 사용).
+     * Spring Boot가 이 Bean을 리스너 컨테이너 팩토리에 자동으로 설정합니다.
+     * {@code @RetryableTopic}이 선언된 리스너는 이 핸들러 대신 재시도 토픽/DLT로 넘기는 핸들러를 사용합니다.
+     * 
+     * @param kafkaTemplate DLT 발행에 사용할 KafkaTemplate
+     * @return DefaultErrorHandler 인스턴스
+     */
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler(KafkaTemplate<String, String> kafkaTemplate) {
+        log.info("Kafka 에러 핸들러 초기화 중... (재처리 간격: {}, 최대 재처리: {}회, 소진 시 DLT 발행: {})",
+                retryInterval, retryAttempts, deadLetterEnabled);
+        
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                deadLetterEnabled ? deadLetterRecoverer(kafkaTemplate) : null,
+                new FixedBackOff(retryInterval.toMillis(), retryAttempts),
+                new ContainerPausingBackOffHandler(new ListenerContainerPauseService(null, errorBackOffScheduler)));
+        // DLT로 발행한 레코드의 오프셋은 바로 커밋 (발행에 실패하면 복구되지 않은 것으로 보고 다시 재처리)
+        errorHandler.setCommitRecovered(true);
+        return errorHandler;
+    }
+
+    /**
+     * 실패한 레코드를 건너뛰지 않고 성공할 때까지 재처리하는 에러 핸들러를 생성합니다.
+     * 
+     * 재처리 간격마다 컨테이너를 일시 중지하므로 리스너 스레드가 sleep 하지 않고,
+     * 재처리 횟수를 소진하지 않으므로 복구(건너뛰기, DLT 발행)가 일어나지 않습니다.
+     * 
+     * @return 재처리 횟수 제한이 없는 DefaultErrorHandler 인스턴스
+     */
+    DefaultErrorHandler unlimitedRetryErrorHandler() {
+        return new DefaultErrorHandler(null,
+                new FixedBackOff(retryInterval.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS),
+                new ContainerPausingBackOffHandler(new ListenerContainerPauseService(null, errorBackOffScheduler)));
+    }
+
+    /**
+     * 트랜잭션 리스너의 실패를 처리하지 않고 다시 던지는 에러 핸들러를 생성합니다.
+     * 
+     * 에러 핸들러가 예외를 던지면 컨테이너가 트랜잭션을 취소하고 롤백 후 처리기를 호출합니다.
+     * 
+     * @return 예외를 다시 던지는 CommonErrorHandler 인스턴스
+     */
+    CommonErrorHandler rollbackErrorHandler() {
+        return new CommonErrorHandler() {
+
+            @Override
+            public void handleBatch(Exception thrownException, ConsumerRecords<?, ?> data, Consumer<?, ?> consumer,
+                                    MessageListenerContainer container, Runnable invokeListener) {
+                throw thrownException instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new KafkaException("트랜잭션 리스너 처리 실패", thrownException);
+            }
+
+            @Override
+            public boolean handleOne(Exception thrownException, ConsumerRecord<?, ?> record, Consumer<?, ?> consumer,
+                                     MessageListenerContainer container) {
+                throw thrownException instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new KafkaException("트랜잭션 리스너 처리 실패", thrownException);
+            }
+        };
+    }
+
+    /**
+     * 재처리를 모두 소진한 레코드를 {토픽}-dlt로 발행하는 복구기를 생성합니다.
+     * 
+     * 재시도 토픽의 DLT와 같은 이름을 사용하므로 KafkaConsumerService의 DLT 핸들러가 함께 기록하며,
+     * DLT의 파티션 수가 원래 토픽과 다를 수 있으므로 파티션은 지정하지 않습니다.
+     * 
+     * @param kafkaTemplate DLT 발행에 사용할 KafkaTemplate
+     * @return DeadLetterPublishingRecoverer 인스턴스
+     */
+    private DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, -1));
+        // 리스너가 받은 값은 이미 JSON 문자열이므로 원본의 코덱 헤더 대신 json 코덱 헤더를 사용
+        recoverer.setHeadersFunction((record, exception) -> RetryTopicConfig.jsonCodecHeaders());
+        recoverer.setFailIfSendResultIsError(true);
+        return recoverer;
+    }
+
+    /**
+     * 애플리케이션 종료 시 재처리 대기용 스케줄러와 트랜잭션 Producer를 정리합니다.
+     */
+    @Override
+    public void destroy() {
+        errorBackOffScheduler.shutdown();
+        if (transactionalProducerFactory != null) {
+            transactionalProducerFactory.destroy();
+        }
+    }
+
+    /**
+     * 토픽 설정에 따라 NewTopic을 생성합니다.
+     * 
+     * 이미 있는 토픽의 파티션 수가 설정보다 적으면 기동 시 KafkaAdmin이 설정값까지 늘립니다.
+     * 
+     * @param name 토픽 이름
+     * @param topicProperties 토픽별 설정
+     * @return NewTopic 인스턴스
+     */
+    private NewTopic newTopic(String name, KafkaTopicProperties topicProperties) {
+        KafkaTopicProperties.TopicSpec spec = topicProperties.spec(name);
+        log.info("토픽 '{}' 생성 중... (파티션: {}, 복제팩터: {})", name, spec.getPartitions(), spec.getReplicationFactor());
+        return new NewTopic(name, spec.getPartitions(), spec.getReplicationFactor());
+    }
+
+    /**
+     * 컨테이너 팩토리에 발행 → 소비 지연 시간 기록 인터셉터를 설정합니다.
+     * 
+     * 단건/배치 리스너 모두에 적용되도록 레코드 인터셉터와 배치 인터셉터를 함께 설정합니다.
+     * 
+     * @param factory 인터셉터를 설정할 컨테이너 팩토리
+     * @param interceptor 지연 시간 기록 인터셉터
+     */
+    private void applyLatencyInterceptor(ConcurrentKafkaListenerContainerFactory<Object, Object> factory,
+                                         EventLatencyInterceptor interceptor) {
+        factory.setRecordInterceptor(interceptor);
+        factory.setBatchInterceptor(interceptor);
+    }
+
+    /**
+     * 컨테이너 팩토리에 설정된 커밋 전략을 적용합니다.
+     * 
+     * 커밋은 컨테이너가 수행하며, 리스너가 정상 반환한 레코드만 커밋 대상이 됩니다.
+     * 
+     * @param factory 커밋 전략을 적용할 컨테이너 팩토리
+     */
+    private void applyCommitStrategy(ConcurrentKafkaListenerContainerFactory<Object, Object> factory) {
+        ConsumerCommitStrategy strategy = ConsumerCommitStrategy.from(commitStrategy);
+        strategy.applyTo(factory.getContainerProperties(), commitCount, commitInterval);
+        log.debug("오프셋 커밋 전략 적용 - 전략: {}, 커밋 기준 레코드 수: {}, 커밋 주기: {}", 
+                strategy, commitCount, commitInterval);
+    }
+
+    private static ThreadPoolTaskScheduler newErrorBackOffScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("kafka-error-backoff-");
+        scheduler.initialize();
+        return scheduler;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.example.kafkaredis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 토픽별 파티션 수, 복제 팩터, 리스너 동시성 설정 (application.yml의 app.kafka.topics)
+ *
+ * 예:
+ * <pre>
+ * app:
+ *   kafka:
+ *     topics:
+ *       user-events:
+ *         partitions: 6
+ *         replication-factor: 1
+ *         concurrency: 6
+ * </pre>
+ *
+ * 리스너 동시성은 {@code @KafkaListener}의 concurrency 속성에서
+ * ${app.kafka.topics.{토픽}.concurrency} 로 참조합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "app.kafka")
+public class KafkaTopicProperties {
+
+    /**
+     * 토픽 이름별 설정
+     */
+    private Map<String, TopicSpec> topics = new LinkedHashMap<>();
+
+    public Map<String, TopicSpec> getTopics() {
+        return topics;
+    }
+
+    public void setTopics(Map<String, TopicSpec> topics) {
+        this.topics = topics;
+    }
+
+    /**
+     * 토픽 설정을 반환합니다. 설정이 없으면 기본값(파티션 3, 복제 팩터 1, 동시성 1)을 반환합니다.
+     *
+     * @param topic 토픽 이름
+     * @return 토픽 설정
+     */
+    public TopicSpec spec(String topic) {
+        return topics.getOrDefault(topic, new TopicSpec());
+    }
+
+    /**
+     * 토픽 하나의 설정
+     */
+    public static class TopicSpec {
+
+        /**
+         * 파티션 수
+         */
+        private int partitions = 3;
+
+        /**
+         * 복제 팩터
+         */
+        private short replicationFactor = 1;
+
+        /**
+         * 이 토픽을 구독하는 리스너의 컨슈머 스레드 수 (파티션 수보다 크면 남는 스레드는 쉼)
+         */
+        private int concurrency = 1;
+
+        public int getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(int partitions) {
+            this.partitions = partitions;
+        }
+
+        public short getReplicationFactor() {
+            return replicationFactor;
+        }
+
+        public void setReplicationFactor(short replicationFactor) {
+            this.replicationFactor = replicationFactor;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.kafkaredis.config;
 
+import com.example.kafkaredis.cache.NearCacheInvalidationBus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -19,6 +24,8 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * - Redis 연결 템플릿 설정
  * - JSON 직렬화/역직렬화를 위한 ObjectMapper 설정
  * - Redis 데이터 타입별 시리얼라이저 설정
+ * - 바이너리 코덱(Smile/CBOR) 값을 위한 바이트 배열 템플릿 설정
+ * - 근접 캐시 무효화 채널 구독 설정
  * 
  * @author 개발자
  * @version 1.0
@@ -67,6 +74,56 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 바이트 배열 값을 사용하는 Redis 템플릿을 생성하는 Bean
+     * 
+     * Smile/CBOR 같은 바이너리 코덱으로 인코딩된 값을 저장하고 조회할 때 사용합니다.
+     * 키는 String, 값은 바이트 배열 그대로 저장합니다.
+     * 
+     * @param connectionFactory Redis 연결 팩토리 (Spring Boot가 자동으로 주입)
+     * @return 바이트 배열 값용 RedisTemplate 인스턴스
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        log.info("바이너리 Redis 템플릿 초기화 중...");
+        
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        
+        // 키는 String, 값은 바이트 배열 그대로 저장
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        
+        template.afterPropertiesSet();
+        log.info("바이너리 Redis 템플릿이 성공적으로 초기화되었습니다");
+        
+        return template;
+    }
+
+    /**
+     * 근접 캐시 무효화 채널을 구독하는 리스너 컨테이너 Bean
+     * 
+     * 근접 캐시가 활성화된 경우에만 생성되며, 다른 인스턴스가 발행한
+     * 무효화 메시지를 받아 이 인스턴스의 근접 캐시에서 해당 키를 제거합니다.
+     * 
+     * @param connectionFactory Redis 연결 팩토리 (Spring Boot가 자동으로 주입)
+     * @param invalidationBus 근접 캐시 무효화 버스
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.redis.near-cache.enabled", havingValue = "true")
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, NearCacheInvalidationBus invalidationBus) {
+        log.info("근접 캐시 무효화 채널 구독 설정 - 채널: {}", invalidationBus.getChannel());
+        
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(invalidationBus.getChannel()));
+        return container;
+    }
+
     /**
      * JSON 직렬화/역직렬화를 위한 ObjectMapper Bean
      * 
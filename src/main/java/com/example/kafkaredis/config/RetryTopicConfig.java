@@ -0,0 +1,86 @@
+package com.example.kafkaredis.config;
+
+import com.example.kafkaredis.codec.PayloadCodecs;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 재시도 토픽과 DLT(dead-letter topic) 설정을 담당하는 Configuration 클래스
+ *
+ * 리스너 메서드의 {@code @RetryableTopic}으로 선언한 재시도 토픽이 공통으로 사용하는 설정입니다.
+ * - 실패한 레코드는 리스너 스레드에서 재시도하지 않고 지연 시간이 점점 늘어나는 재시도 토픽으로,
+ *   재시도를 모두 소진하면 DLT로 발행됩니다. 원래 토픽의 리스너는 다음 레코드를 바로 처리합니다.
+ * - 재시도 토픽의 지연은 해당 파티션을 잠시 일시 중지하는 방식이라 리스너 스레드가 sleep 하지 않습니다.
+ * - 발행 시 원본 토픽/파티션/오프셋, 예외 클래스/메시지/스택트레이스, 재시도 횟수가 헤더로 추가됩니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Configuration  // Spring 설정 클래스임을 나타내는 어노테이션
+public class RetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(RetryTopicConfig.class);
+
+    /**
+     * 재시도 토픽의 지연 처리(일시 중지된 파티션 재개)에 사용할 스케줄러 Bean
+     *
+     * 애플리케이션의 다른 스케줄러와 섞이지 않도록 재시도 토픽 전용 래퍼로 등록합니다.
+     *
+     * @return 재시도 토픽 전용 스케줄러 래퍼
+     */
+    @Bean
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+        log.info("재시도 토픽 스케줄러 초기화 중...");
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("retry-topic-");
+        scheduler.initialize();
+        return new RetryTopicSchedulerWrapper(scheduler);
+    }
+
+    /**
+     * 재시도 토픽/DLT 발행기를 설정합니다.
+     *
+     * 리스너가 받은 값은 CodecAwareStringDeserializer가 이미 JSON 문자열로 변환한 값이므로,
+     * 원본 레코드의 content-codec 헤더(smile/cbor)가 그대로 복사되면 재시도 토픽에서 역직렬화에 실패합니다.
+     * 발행 시 json 코덱 헤더를 마지막에 추가하여 역직렬화 시 이 헤더가 사용되도록 합니다.
+     * 원본 위치 헤더는 처음 발행할 때만 추가하여(appendOriginalHeaders=false), 재시도 토픽을 여러 번 거쳐도
+     * 원래 토픽의 파티션/오프셋이 유지되도록 합니다 (리스너의 이벤트 순서 확인에 사용).
+     *
+     * @return DeadLetterPublishingRecovererFactory 설정
+     */
+    @Override
+    protected Consumer<DeadLetterPublishingRecovererFactory> configureDeadLetterPublishingContainerFactory() {
+        return factory -> factory.setDeadLetterPublishingRecovererCustomizer(recoverer -> {
+            recoverer.setHeadersFunction((record, exception) -> jsonCodecHeaders());
+            recoverer.setAppendOriginalHeaders(false);
+        });
+    }
+
+    /**
+     * 재발행하는 레코드에 추가할 json 코덱 헤더를 만듭니다.
+     *
+     * KafkaConfig의 에러 핸들러가 DLT로 발행할 때도 같은 이유로 사용합니다.
+     *
+     * @return json 코덱 헤더
+     */
+    static Headers jsonCodecHeaders() {
+        return new RecordHeaders(new RecordHeader[] {
+                new RecordHeader(PayloadCodecs.HEADER, PayloadCodecs.JSON.name().getBytes(StandardCharsets.UTF_8))
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.kafkaredis.controller;
+
+import com.example.kafkaredis.metrics.ConsumerLagMonitor;
+import com.example.kafkaredis.metrics.ConsumerLagMonitor.LagSnapshot;
+import com.example.kafkaredis.service.TopicScalingService;
+import com.example.kafkaredis.service.TopicScalingService.ScalingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 운영 작업을 위한 REST API 컨트롤러
+ * 
+ * 이 컨트롤러는 다음과 같은 기능을 제공합니다:
+ * - 토픽 파티션 확장 및 리스너 컨테이너 동시성 조정 (재배포 없이 수평 확장)
+ * - 컨슈머 그룹의 파티션별 lag 스냅샷 조회 (인스턴스 수 자동 조정 판단용)
+ * 
+ * 모든 API는 /api/admin 경로 하위에 위치합니다.
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+@RestController  // REST API 컨트롤러임을 나타내는 어노테이션
+@RequestMapping("/api/admin")  // 기본 경로 설정
+public class AdminController {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
+    /**
+     * 토픽 확장을 위한 서비스
+     */
+    private final TopicScalingService topicScalingService;
+
+    /**
+     * 컨슈머 lag을 추적하는 모니터
+     */
+    private final ConsumerLagMonitor consumerLagMonitor;
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public AdminController(TopicScalingService topicScalingService, ConsumerLagMonitor consumerLagMonitor) {
+        this.topicScalingService = topicScalingService;
+        this.consumerLagMonitor = consumerLagMonitor;
+    }
+
+    /**
+     * 컨슈머 그룹의 파티션별 lag 스냅샷을 조회합니다.
+     * 
+     * 마지막 확인(app.kafka.lag.check-interval) 시점의 값을 반환하므로 브로커를 새로 조회하지 않습니다.
+     * 
+     * 예: curl 'http://localhost:8081/api/admin/consumer-lag'
+     * 
+     * @return 그룹별 lag 합계와 파티션별 lag, 처리 속도, 처리 시간, 마지막 커밋 후 경과 시간
+     */
+    @GetMapping("/consumer-lag")
+    public ResponseEntity<LagSnapshot> getConsumerLag() {
+        log.debug("컨슈머 lag 조회 API 호출");
+        return ResponseEntity.ok(consumerLagMonitor.snapshot());
+    }
+
+    /**
+     * 토픽의 파티션 수를 늘리고 구독 중인 리스너의 동시성을 맞춥니다.
+     * 
+     * concurrency를 생략하면 파티션 수와 같은 수의 컨슈머 스레드로 조정합니다.
+     * 
+     * 예: curl -X POST 'http://localhost:8081/api/admin/topics/user-events/partitions?count=6'
+     * 
+     * @param topic 토픽 이름
+     * @param count 늘릴 파티션 수
+     * @param concurrency 리스너 동시성 (선택사항)
+     * @return 변경 결과
+     */
+    @PostMapping("/topics/{topic}/partitions")
+    public ResponseEntity<Map<String, Object>> scaleTopic(@PathVariable String topic,
+                                                          @RequestParam int count,
+                                                          @RequestParam(required = false) Integer concurrency) {
+        log.info("=== 토픽 확장 API 호출 ===");
+        log.info("요청 정보 - 토픽: {}, 파티션 수: {}, 동시성: {}", topic, count, concurrency);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("topic", topic);
+        
+        try {
+            ScalingResult scaling = topicScalingService.scale(topic, count, concurrency);
+            result.put("status", "success");
+            result.put("previousPartitions", scaling.previousPartitions());
+            result.put("partitions", scaling.partitions());
+            result.put("concurrency", scaling.concurrency());
+            result.put("listenerIds", scaling.listenerIds());
+            return ResponseEntity.ok(result);
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("토픽 확장 요청 거부 - 토픽: {}, 사유: {}", topic, e.getMessage());
+            result.put("status", "error");
+            result.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(result);
+            
+        } catch (Exception e) {
+            log.error("토픽 확장 실패 - 토픽: {}, 오류: {}", topic, e.getMessage(), e);
+            result.put("status", "error");
+            result.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(result);
+        }
+    }
+}
@@ -1,21 +1,30 @@
 package com.example.kafkaredis.controller;
 
+import com.example.kafkaredis.dto.IngestSummary;
+import com.example.kafkaredis.dto.SendReceipt;
 import com.example.kafkaredis.service.KafkaProducerService;
+import com.example.kafkaredis.service.NdjsonIngestService;
 import com.example.kafkaredis.service.RedisService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Kafka와 Redis 기능을 테스트하기 위한 REST API 컨트롤러
  * 
  * 이 컨트롤러는 다음과 같은 기능을 제공합니다:
- * - Kafka 메시지 발행 테스트
+ * - Kafka 메시지 발행 테스트 (동기 응답 / 브로커 ack 후 비동기 응답)
+ * - NDJSON 스트림 대량 적재
  * - Redis 데이터 저장 및 조회 테스트
+ * - Redis 여러 키 일괄 저장 및 조회 (MSET/MGET)
  * - Kafka와 Redis 통합 테스트
  * - 애플리케이션 상태 확인
  * 
@@ -43,12 +52,19 @@ public class TestController {
      */
     private final RedisService redisService;
 
+    /**
+     * NDJSON 대량 적재를 위한 서비스
+     */
+    private final NdjsonIngestService ndjsonIngestService;
+
     /**
      * 생성자 주입을 통한 의존성 주입
      */
-    public TestController(KafkaProducerService kafkaProducerService, RedisService redisService) {
+    public TestController(KafkaProducerService kafkaProducerService, RedisService redisService,
+                          NdjsonIngestService ndjsonIngestService) {
         this.kafkaProducerService = kafkaProducerService;
         this.redisService = redisService;
+        this.ndjsonIngestService = ndjsonIngestService;
     }
 
     /**
@@ -91,6 +107,91 @@ public class TestController {
         }
     }
 
+    /**
+     * Kafka 토픽에 메시지를 발행하고 브로커 ack 이후에 응답합니다.
+     * 
+     * sendKafkaMessage와 달리 브로커가 메시지를 저장한 뒤에 응답하며,
+     * 응답에 저장된 파티션과 오프셋을 포함합니다.
+     * CompletableFuture를 반환하므로 ack를 기다리는 동안 Tomcat 요청 스레드를 점유하지 않습니다.
+     * 
+     * @param topic 메시지를 발행할 토픽 이름
+     * @param key 메시지 키 (선택사항, 파티션 분산에 사용)
+     * @param message 발행할 메시지 내용
+     * @return 브로커 ack 시 완료되는 발행 결과 (파티션, 오프셋)
+     */
+    @PostMapping("/kafka/send-async")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> sendKafkaMessageAsync(
+            @RequestParam String topic,
+            @RequestParam(required = false) String key,
+            @RequestBody String message) {
+        log.info("=== Kafka 메시지 비동기 발행 API 호출 ===");
+        log.info("요청 정보 - 토픽: {}, 키: {}, 메시지 길이: {}", 
+                topic, key, message != null ? message.length() : 0);
+        
+        CompletableFuture<SendReceipt> future = (key != null && !key.trim().isEmpty())
+                ? kafkaProducerService.sendMessage(topic, key, message)
+                : kafkaProducerService.sendMessage(topic, message);
+        
+        return future.handle((receipt, ex) -> {
+            Map<String, Object> result = new HashMap<>();
+            result.put("topic", topic);
+            if (ex == null) {
+                log.info("Kafka 메시지 비동기 발행 성공 - 토픽: {}, 파티션: {}, 오프셋: {}", 
+                        topic, receipt.partition(), receipt.offset());
+                result.put("status", "success");
+                result.put("partition", receipt.partition());
+                result.put("offset", receipt.offset());
+                return ResponseEntity.ok(result);
+            }
+            log.error("Kafka 메시지 비동기 발행 실패 - 토픽: {}, 오류: {}", topic, ex.getMessage(), ex);
+            result.put("status", "error");
+            result.put("message", ex.getMessage());
+            return ResponseEntity.internalServerError().body(result);
+        });
+    }
+
+    /**
+     * NDJSON(줄 단위 JSON) 요청 본문을 읽어 Kafka 토픽에 대량 발행합니다.
+     * 
+     * 요청 본문을 한 번에 버퍼링하지 않고 스트림으로 한 줄씩 읽어,
+     * 각 줄을 그대로(재직렬화 없이) 메시지로 일괄 발행합니다.
+     * 모든 메시지의 ack가 확인된 뒤 ack/실패 건수 요약을 반환합니다.
+     * 
+     * 예: curl -X POST --data-binary @events.ndjson -H 'Content-Type: application/x-ndjson' \
+     *       'http://localhost:8081/api/test/kafka/ingest?topic=user-events&keyField=userId'
+     * 
+     * @param topic 메시지를 발행할 토픽 이름
+     * @param keyField 메시지 키로 사용할 JSON 필드 이름 (선택사항)
+     * @param body NDJSON 요청 본문 스트림
+     * @return 적재 결과 요약
+     */
+    @PostMapping(value = "/kafka/ingest", consumes = {"application/x-ndjson", "application/jsonl", "text/plain"})
+    public ResponseEntity<Map<String, Object>> ingestNdjson(@RequestParam String topic,
+                                                            @RequestParam(required = false) String keyField,
+                                                            InputStream body) {
+        log.info("=== NDJSON 대량 적재 API 호출 ===");
+        log.info("요청 정보 - 토픽: {}, 키 필드: {}", topic, keyField);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("topic", topic);
+        
+        try {
+            IngestSummary summary = ndjsonIngestService.ingest(topic, keyField, body);
+            result.put("status", summary.failed() == 0 ? "success" : "partial");
+            result.put("lines", summary.lines());
+            result.put("acked", summary.acked());
+            result.put("failed", summary.failed());
+            result.put("elapsedMillis", summary.elapsedMillis());
+            return ResponseEntity.ok(result);
+            
+        } catch (Exception e) {
+            log.error("NDJSON 대량 적재 실패 - 토픽: {}, 오류: {}", topic, e.getMessage(), e);
+            result.put("status", "error");
+            result.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(result);
+        }
+    }
+
     /**
      * Redis에 문자열 값을 저장합니다.
      * 
@@ -148,6 +249,73 @@ public class TestController {
         }
     }
 
+    /**
+     * Redis에서 여러 키의 문자열 값을 한 번에 조회합니다.
+     * 
+     * 요청 본문은 키 목록(JSON 배열)이며, 값이 있는 키만 응답에 포함됩니다.
+     * 
+     * 예: curl -X POST -H 'Content-Type: application/json' -d '["user:event:{user1}","user:event:{user2}"]' \
+     *       'http://localhost:8081/api/test/redis/mget'
+     * 
+     * @param keys 조회할 키 목록
+     * @return 조회 결과 (요청 키 수, 조회된 키 수, 키별 값)
+     */
+    @PostMapping("/redis/mget")
+    public ResponseEntity<Map<String, Object>> getRedisValues(@RequestBody List<String> keys) {
+        log.info("=== Redis 값 일괄 조회 API 호출 ===");
+        log.info("요청 정보 - 키 수: {}", keys.size());
+        
+        Map<String, Object> result = new HashMap<>();
+        
+        try {
+            Map<String, String> values = redisService.getStrings(keys);
+            result.put("status", "success");
+            result.put("requested", keys.size());
+            result.put("found", values.size());
+            result.put("values", values);
+            log.info("Redis 값 일괄 조회 성공 - 요청 키 수: {}, 조회된 키 수: {}", keys.size(), values.size());
+            return ResponseEntity.ok(result);
+            
+        } catch (Exception e) {
+            log.error("Redis 값 일괄 조회 실패 - 키 수: {}, 오류: {}", keys.size(), e.getMessage(), e);
+            result.put("status", "error");
+            result.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(result);
+        }
+    }
+
+    /**
+     * Redis에 여러 키의 문자열 값을 한 번에 저장합니다.
+     * 
+     * 요청 본문은 키와 값의 JSON 객체이며, ttlSeconds가 있으면 모든 키에 같은 만료 시간을 설정합니다.
+     * 
+     * 예: curl -X POST -H 'Content-Type: application/json' -d '{"k1":"v1","k2":"v2"}' \
+     *       'http://localhost:8081/api/test/redis/mset?ttlSeconds=60'
+     * 
+     * @param ttlSeconds 만료 시간 (초, 선택사항)
+     * @param values 저장할 키와 값
+     * @return 저장 결과
+     */
+    @PostMapping("/redis/mset")
+    public ResponseEntity<Map<String, Object>> setRedisValues(@RequestParam(required = false) Long ttlSeconds,
+                                                              @RequestBody Map<String, String> values) {
+        log.info("=== Redis 값 일괄 저장 API 호출 ===");
+        log.info("요청 정보 - 키 수: {}, 만료시간(초): {}", values.size(), ttlSeconds);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("count", values.size());
+        
+        Duration expiration = ttlSeconds != null ? Duration.ofSeconds(ttlSeconds) : null;
+        if (redisService.setStrings(values, expiration)) {
+            log.info("Redis 값 일괄 저장 성공 - 키 수: {}", values.size());
+            result.put("status", "success");
+            return ResponseEntity.ok(result);
+        }
+        log.error("Redis 값 일괄 저장 실패 - 키 수: {}", values.size());
+        result.put("status", "error");
+        return ResponseEntity.internalServerError().body(result);
+    }
+
     /**
      * Kafka와 Redis 통합 테스트를 수행합니다.
      * 
@@ -0,0 +1,104 @@
+package com.example.kafkaredis.dedupe;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 리스너가 받은 레코드의 중복 확인 토큰을 만드는 컴포넌트
+ *
+ * 리밸런스나 재처리로 같은 레코드가 다시 전달되어도 Redis에 두 번 적용되지 않도록,
+ * RedisService는 이 토큰으로 중복 확인과 쓰기를 하나의 Lua 스크립트로 수행합니다 (왕복 1회, 원자적).
+ * - 레코드에 event-id 헤더가 있으면 이벤트 ID로 확인합니다 (dedupe:event:{key}:{id}, window 동안 유지).
+ *   생산자 재시도로 다른 오프셋에 중복 발행된 이벤트도 걸러집니다.
+ * - 없으면 (토픽, 레코드 키, 파티션)별 최고 적용 오프셋으로 확인합니다 (dedupe:offset:{topic}:{key} 해시의 파티션 필드).
+ *   파티션 안의 레코드는 순서대로 적용되므로 파티션당 필드 하나로 충분하며,
+ *   해시는 마지막 적용 후 window가 지나면 만료됩니다.
+ * 키에는 레코드 키(사용자 ID)를 해시 태그({key})로 넣어, Redis 클러스터에서도 스크립트가 함께 다루는
+ * user:event:{key} 키와 같은 슬롯에 놓이도록 합니다 (CROSSSLOT 방지).
+ *   토픽을 다시 만들어 오프셋이 처음부터 시작되면 window가 지날 때까지 중복으로 판단되므로 주의해야 합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class ConsumerDeduplicator {
+
+    /**
+     * 이벤트 ID를 담는 레코드 헤더 이름
+     */
+    public static final String EVENT_ID_HEADER = "event-id";
+
+    /**
+     * 이벤트 ID 방식 중복 확인 키의 접두사
+     */
+    private static final String EVENT_KEY_PREFIX = "dedupe:event:";
+
+    /**
+     * 오프셋 방식 중복 확인 키의 접두사
+     */
+    private static final String OFFSET_KEY_PREFIX = "dedupe:offset:";
+
+    /**
+     * 중복 확인 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 중복 확인 기록을 유지하는 시간
+     */
+    private final Duration window;
+
+    /**
+     * 생성자 주입을 통한 설정값 주입
+     */
+    public ConsumerDeduplicator(@Value("${app.kafka.dedupe.enabled:false}") boolean enabled,
+                                @Value("${app.kafka.dedupe.window:1h}") Duration window) {
+        this.enabled = enabled;
+        this.window = window;
+    }
+
+    /**
+     * 중복 확인 사용 여부를 반환합니다.
+     *
+     * @return 사용 중이면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 레코드 위치, 레코드 키, 이벤트 ID 헤더로 중복 확인 토큰을 만듭니다.
+     *
+     * @param topic 토픽 이름
+     * @param partition 파티션 번호
+     * @param offset 오프셋
+     * @param key 레코드 키 (사용자 ID, 해시 태그로 사용)
+     * @param eventId event-id 헤더 값, 없으면 null
+     * @return 중복 확인 토큰
+     */
+    public DedupeToken tokenFor(String topic, int partition, long offset, String key, byte[] eventId) {
+        String hashTag = "{" + key + "}";
+        if (eventId != null && eventId.length > 0) {
+            return new DedupeToken(EVENT_KEY_PREFIX + hashTag + ":" + new String(eventId, StandardCharsets.UTF_8),
+                    null, offset, window);
+        }
+        return new DedupeToken(OFFSET_KEY_PREFIX + topic + ":" + hashTag, String.valueOf(partition), offset, window);
+    }
+
+    /**
+     * 레코드의 중복 확인 토큰을 만듭니다.
+     *
+     * @param record 레코드
+     * @return 중복 확인 토큰
+     */
+    public DedupeToken tokenFor(ConsumerRecord<?, ?> record) {
+        Header eventId = record.headers().lastHeader(EVENT_ID_HEADER);
+        return tokenFor(record.topic(), record.partition(), record.offset(), String.valueOf(record.key()),
+                eventId != null ? eventId.value() : null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.kafkaredis.dedupe;
+
+import java.time.Duration;
+
+/**
+ * 한 레코드의 중복 여부를 Redis에서 확인하고 기록하기 위한 토큰
+ *
+ * 두 가지 방식을 지원합니다.
+ * - 이벤트 ID 방식 (field == null): redisKey 자체가 이벤트 ID별 키이며, 키가 없을 때만 적용합니다 (SET NX PX).
+ * - 오프셋 방식 (field != null): redisKey는 (토픽, 레코드 키)별 해시, field는 파티션 번호이며,
+ *   해시에 기록된 최고 오프셋보다 큰 오프셋만 적용합니다 (파티션당 필드 하나만 사용).
+ *
+ * @param redisKey 중복 확인에 사용할 Redis 키
+ * @param field 오프셋 방식의 해시 필드 (파티션 번호), 이벤트 ID 방식이면 null
+ * @param offset 레코드 오프셋
+ * @param window 중복 확인 기록을 유지하는 시간
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public record DedupeToken(String redisKey, String field, long offset, Duration window) {
+
+    /**
+     * 오프셋 방식 토큰인지 반환합니다.
+     *
+     * @return 오프셋 방식이면 true
+     */
+    public boolean isOffsetBased() {
+        return field != null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.kafkaredis.dedupe;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 사용자 이벤트가 원래 토픽에서 차지하는 위치 (파티션, 오프셋)
+ *
+ * 재시도 토픽에서 다시 처리되는 레코드는 재시도 토픽의 오프셋이 아니라,
+ * 발행 시 추가된 원본 파티션/오프셋 헤더(kafka_dlt-original-*)의 값을 위치로 사용합니다.
+ * 같은 사용자의 이벤트는 같은 파티션에 순서대로 쌓이므로, 위치를 비교하면
+ * 재시도된 이벤트가 이미 반영된 이후 이벤트보다 오래된 것인지 알 수 있습니다.
+ *
+ * @param partition 원래 토픽의 파티션 번호
+ * @param offset 원래 토픽의 오프셋
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public record EventPosition(int partition, long offset) {
+
+    /**
+     * 수신한 레코드의 위치와 원본 위치 헤더로 이벤트 위치를 만듭니다.
+     *
+     * 원본 위치 헤더가 없거나 형식이 맞지 않으면 (원래 토픽에서 받은 레코드) 수신한 위치를 사용합니다.
+     *
+     * @param partition 수신한 파티션 번호
+     * @param offset 수신한 오프셋
+     * @param originalPartition 원본 파티션 헤더 값 (4바이트 정수), 없으면 null
+     * @param originalOffset 원본 오프셋 헤더 값 (8바이트 정수), 없으면 null
+     * @return 이벤트 위치
+     */
+    public static EventPosition of(int partition, long offset, byte[] originalPartition, byte[] originalOffset) {
+        if (originalPartition != null && originalPartition.length == Integer.BYTES
+                && originalOffset != null && originalOffset.length == Long.BYTES) {
+            return new EventPosition(ByteBuffer.wrap(originalPartition).getInt(),
+                    ByteBuffer.wrap(originalOffset).getLong());
+        }
+        return new EventPosition(partition, offset);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.kafkaredis.dedupe;
+
+/**
+ * 중복 확인을 포함한 Redis 쓰기의 결과
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public enum WriteOutcome {
+
+    /**
+     * 처음 받은 레코드라 쓰기를 적용함
+     */
+    APPLIED,
+
+    /**
+     * 이미 적용된 레코드라 쓰기를 건너뜀
+     */
+    DUPLICATE,
+
+    /**
+     * 같은 사용자의 더 최신 이벤트가 이미 반영되어 쓰기를 건너뜀 (재시도 토픽에서 늦게 처리된 이벤트)
+     */
+    STALE,
+
+    /**
+     * Redis 오류로 쓰기에 실패함 (중복 기록도 남지 않음)
+     */
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.example.kafkaredis.dto;
+
+/**
+ * 일괄 발행 결과 요약
+ * 
+ * @param acked 브로커가 ack한 메시지 수
+ * @param failed 발행에 실패한 메시지 수
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public record BatchSendResult(long acked, long failed) {
+
+    /**
+     * 빈 결과 (발행한 메시지 없음)
+     */
+    public static final BatchSendResult EMPTY = new BatchSendResult(0, 0);
+
+    /**
+     * 두 결과를 합산합니다.
+     * 
+     * @param other 합산할 결과
+     * @return 합산된 결과
+     */
+    public BatchSendResult plus(BatchSendResult other) {
+        return new BatchSendResult(acked + other.acked, failed + other.failed);
+    }
+}
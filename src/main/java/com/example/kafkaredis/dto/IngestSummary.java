@@ -0,0 +1,16 @@
+package com.example.kafkaredis.dto;
+
+/**
+ * NDJSON 대량 적재 결과 요약
+ *
+ * @param topic 발행한 토픽 이름
+ * @param lines 읽은 줄 수 (빈 줄 제외)
+ * @param acked 브로커가 ack한 메시지 수
+ * @param failed 발행에 실패했거나 읽을 수 없었던 줄 수
+ * @param elapsedMillis 적재에 걸린 시간 (밀리초)
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public record IngestSummary(String topic, long lines, long acked, long failed, long elapsedMillis) {
+}
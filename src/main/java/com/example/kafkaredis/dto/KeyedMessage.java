@@ -0,0 +1,13 @@
+package com.example.kafkaredis.dto;
+
+/**
+ * 키와 함께 발행할 문자열 메시지
+ * 
+ * @param key 메시지 키 (파티션 분산에 사용, null 가능)
+ * @param value 발행할 메시지 내용 (이미 인코딩된 JSON 문자열)
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public record KeyedMessage(String key, String value) {
+}
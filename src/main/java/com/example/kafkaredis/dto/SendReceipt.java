@@ -0,0 +1,28 @@
+package com.example.kafkaredis.dto;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Kafka 브로커가 메시지 수신을 확인(ack)한 결과
+ * 
+ * 발행된 메시지가 저장된 위치(토픽, 파티션, 오프셋)만 담는 가벼운 결과 객체입니다.
+ * 
+ * @param topic 메시지가 저장된 토픽 이름
+ * @param partition 메시지가 저장된 파티션 번호
+ * @param offset 메시지의 오프셋 값
+ * 
+ * @author 개발자
+ * @version 1.0
+ */
+public record SendReceipt(String topic, int partition, long offset) {
+
+    /**
+     * 프로듀서의 RecordMetadata로부터 발행 결과를 생성합니다.
+     * 
+     * @param metadata 브로커가 반환한 레코드 메타데이터
+     * @return 발행 결과
+     */
+    public static SendReceipt from(RecordMetadata metadata) {
+        return new SendReceipt(metadata.topic(), metadata.partition(), metadata.offset());
+    }
+}
@@ -0,0 +1,593 @@
+package com.example.kafkaredis.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.IsolationLevel;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 컨슈머 그룹의 파티션별 lag과 처리 속도를 추적하는 모니터
+ *
+ * check-interval마다 Kafka Admin으로 대상 그룹(app.kafka.lag.groups)의 커밋된 오프셋과
+ * 파티션 끝 오프셋(read_committed 기준)을 조회하여 다음 게이지를 그룹/토픽/파티션 태그별로 게시합니다.
+ * - kafka.consumer.partition.lag: 끝 오프셋 - 커밋된 오프셋
+ * - kafka.consumer.partition.records.per.second: 직전 확인 이후 커밋된 오프셋이 전진한 속도 (그룹 전체 기준)
+ * - kafka.consumer.partition.processing.time: 이 인스턴스에서 레코드 하나를 처리하는 데 걸린 평균 시간(ms),
+ *   직전 확인 이후 처리한 레코드가 없으면 NaN
+ * - kafka.consumer.partition.time.since.commit: 커밋된 오프셋이 마지막으로 전진한 뒤 지난 시간(초),
+ *   모니터 시작 후 한 번도 전진하지 않았으면 모니터 시작 시각부터 잰 값
+ * - kafka.consumer.group.lag: 그룹의 파티션 lag 합계 (인스턴스 수 자동 조정 기준)
+ * 대상 그룹에서 파생된 재시도 토픽/DLT 리스너 그룹(그룹 ID 뒤에 -retry-N, -dlt가 붙은 그룹)도 함께 추적합니다.
+ * 그룹이 구독하는 토픽(커밋이 있거나 멤버에게 할당된 토픽)의 모든 파티션을 대상으로 하며,
+ * 아직 커밋이 없는 파티션은 auto-offset-reset 위치(earliest면 파티션 시작, latest면 끝)를 커밋된 오프셋으로 봅니다.
+ * 더 이상 구독하지 않는 파티션과 사라진 그룹의 게이지는 레지스트리에서 제거합니다.
+ * lag과 커밋은 브로커 기준이라 어느 인스턴스에서 보아도 같으며, 처리 시간은 리스너 인터셉터
+ * ({@link EventLatencyInterceptor})가 이 인스턴스에 할당된 파티션에 대해서만 기록합니다.
+ * 최근 결과는 {@link #snapshot()}으로 조회할 수 있습니다 (GET /api/admin/consumer-lag).
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class ConsumerLagMonitor implements DisposableBean {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(ConsumerLagMonitor.class);
+
+    static final String PARTITION_LAG = "kafka.consumer.partition.lag";
+
+    static final String RECORDS_PER_SECOND = "kafka.consumer.partition.records.per.second";
+
+    static final String PROCESSING_TIME = "kafka.consumer.partition.processing.time";
+
+    static final String TIME_SINCE_COMMIT = "kafka.consumer.partition.time.since.commit";
+
+    static final String GROUP_LAG = "kafka.consumer.group.lag";
+
+    /**
+     * Admin 클라이언트 설정을 가져올 KafkaAdmin
+     */
+    private final KafkaAdmin kafkaAdmin;
+
+    /**
+     * 게이지를 등록할 레지스트리
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * lag을 추적할 컨슈머 그룹
+     */
+    private final Set<String> groups;
+
+    /**
+     * 커밋이 없는 파티션을 처음부터 읽는지 여부 (auto-offset-reset=earliest)
+     */
+    private final boolean resetToEarliest;
+
+    /**
+     * 오프셋 조회 제한 시간
+     */
+    private final Duration checkInterval;
+
+    /**
+     * 모니터 시작 시각 (epoch 밀리초)
+     */
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    /**
+     * 그룹/파티션별 상태
+     */
+    private final Map<GroupPartition, PartitionState> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * 그룹별 lag 합계
+     */
+    private final Map<String, GroupLagGauge> groupLags = new ConcurrentHashMap<>();
+
+    /**
+     * 주기 확인 실행기 (비활성화 시 null)
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 오프셋 조회에 사용할 Admin 클라이언트 (첫 확인 시 생성)
+     */
+    private Admin admin;
+
+    /**
+     * 마지막으로 확인한 시각 (epoch 밀리초, 확인 전이면 0)
+     */
+    private volatile long checkedAtMillis;
+
+    /**
+     * 생성자 주입을 통한 의존성 및 설정값 주입
+     */
+    public ConsumerLagMonitor(KafkaAdmin kafkaAdmin, MeterRegistry meterRegistry,
+                              @Value("${app.kafka.lag.enabled:true}") boolean enabled,
+                              @Value("${app.kafka.lag.groups:test-group,user-group}") String[] groups,
+                              @Value("${app.kafka.lag.check-interval:5s}") Duration checkInterval,
+                              @Value("${spring.kafka.consumer.auto-offset-reset:latest}") String autoOffsetReset) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.meterRegistry = meterRegistry;
+        this.groups = Set.copyOf(Arrays.asList(groups));
+        this.checkInterval = checkInterval;
+        this.resetToEarliest = "earliest".equalsIgnoreCase(autoOffsetReset);
+
+        if (!enabled) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "consumer-lag-monitor"));
+        this.scheduler.scheduleWithFixedDelay(this::refreshSafely,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("컨슈머 lag 모니터 초기화 완료 - 대상 그룹: {}, 확인 주기: {}", this.groups, checkInterval);
+    }
+
+    /**
+     * 리스너가 레코드를 처리한 결과를 기록합니다.
+     *
+     * @param group 컨슈머 그룹 ID
+     * @param topic 토픽 이름
+     * @param partition 파티션 번호
+     * @param records 처리한 레코드 수
+     * @param elapsedNanos 처리에 걸린 시간 (나노초)
+     */
+    public void recordProcessed(String group, String topic, int partition, int records, long elapsedNanos) {
+        if (scheduler == null || !isMonitored(group)) {
+            return;
+        }
+        PartitionState state = stateFor(new GroupPartition(group, new TopicPartition(topic, partition)));
+        state.processedRecords.add(records);
+        state.processingNanos.add(elapsedNanos);
+    }
+
+    /**
+     * 마지막 확인 결과를 반환합니다.
+     *
+     * @return 그룹별 lag 스냅샷 (그룹 이름, 토픽, 파티션 순)
+     */
+    public LagSnapshot snapshot() {
+        long now = System.currentTimeMillis();
+        Map<String, List<PartitionLag>> byGroup = new HashMap<>();
+        for (Map.Entry<GroupPartition, PartitionState> entry : partitions.entrySet()) {
+            PartitionState state = entry.getValue();
+            if (state.committedOffset < 0) {
+                // 처리 기록만 있고 아직 오프셋을 확인하지 않은 파티션
+                continue;
+            }
+            TopicPartition topicPartition = entry.getKey().topicPartition();
+            byGroup.computeIfAbsent(entry.getKey().group(), group -> new ArrayList<>()).add(new PartitionLag(
+                    topicPartition.topic(), topicPartition.partition(), state.committedOffset, state.endOffset,
+                    state.lag, state.recordsPerSecond,
+                    Double.isNaN(state.processingMillisPerRecord) ? null : state.processingMillisPerRecord,
+                    state.secondsSinceCommit(now)));
+        }
+
+        List<GroupLag> groupLagList = new ArrayList<>();
+        byGroup.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    List<PartitionLag> partitionLags = entry.getValue().stream()
+                            .sorted(Comparator.comparing(PartitionLag::topic).thenComparingInt(PartitionLag::partition))
+                            .toList();
+                    long totalLag = partitionLags.stream().mapToLong(PartitionLag::lag).sum();
+                    groupLagList.add(new GroupLag(entry.getKey(), totalLag, partitionLags));
+                });
+        return new LagSnapshot(checkedAtMillis > 0 ? Instant.ofEpochMilli(checkedAtMillis) : null, groupLagList);
+    }
+
+    /**
+     * 주기 작업에서 호출되며, 예외가 발생해도 다음 주기가 계속 실행되도록 합니다.
+     */
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("컨슈머 lag 확인 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대상 그룹과 파생된 재시도/DLT 그룹의 커밋된 오프셋과 끝 오프셋을 조회하여 상태를 갱신합니다.
+     */
+    private void refresh() throws Exception {
+        if (admin == null) {
+            admin = Admin.create(kafkaAdmin.getConfigurationProperties());
+        }
+        refresh(admin);
+    }
+
+    /**
+     * 주어진 Admin 클라이언트로 대상 그룹의 상태를 갱신합니다.
+     *
+     * @param admin 오프셋 조회에 사용할 Admin 클라이언트
+     */
+    void refresh(Admin admin) throws Exception {
+        long timeoutMillis = checkInterval.toMillis();
+        Set<String> monitored = new HashSet<>(groups);
+        for (ConsumerGroupListing listing : admin.listConsumerGroups().all().get(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            if (isMonitored(listing.groupId())) {
+                monitored.add(listing.groupId());
+            }
+        }
+        for (String group : monitored) {
+            refreshGroup(admin, group, timeoutMillis);
+        }
+        retainGroups(monitored);
+    }
+
+    /**
+     * 그룹이 구독하는 토픽의 모든 파티션에 대해 커밋된 오프셋과 끝 오프셋을 조회하여 상태를 갱신합니다.
+     *
+     * @param admin 오프셋 조회에 사용할 Admin 클라이언트
+     * @param group 컨슈머 그룹 ID
+     * @param timeoutMillis 조회 제한 시간 (밀리초)
+     */
+    private void refreshGroup(Admin admin, String group, long timeoutMillis) throws Exception {
+        Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(group)
+                .partitionsToOffsetAndMetadata().get(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        // 커밋이 있는 토픽과 현재 멤버에게 할당된 토픽 (아직 커밋하지 않은 새 구독 포함)
+        Set<String> topics = new HashSet<>();
+        committed.keySet().forEach(topicPartition -> topics.add(topicPartition.topic()));
+        ConsumerGroupDescription description = admin.describeConsumerGroups(List.of(group))
+                .describedGroups().get(group).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        description.members().forEach(member -> member.assignment().topicPartitions()
+                .forEach(topicPartition -> topics.add(topicPartition.topic())));
+
+        Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+        for (Map.Entry<String, KafkaFuture<TopicDescription>> entry
+                : admin.describeTopics(topics).topicNameValues().entrySet()) {
+            TopicDescription topic;
+            try {
+                topic = entry.getValue().get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                // 커밋만 남고 삭제된 토픽은 건너뜀
+                log.debug("토픽 조회 실패로 lag 확인에서 제외 - 그룹: {}, 토픽: {}, 오류: {}",
+                        group, entry.getKey(), e.getMessage());
+                continue;
+            }
+            topic.partitions().forEach(partition ->
+                    latest.put(new TopicPartition(topic.name(), partition.partition()), OffsetSpec.latest()));
+        }
+        Map<TopicPartition, Long> endOffsets = listOffsets(admin, latest, timeoutMillis);
+
+        Map<TopicPartition, Long> committedOffsets = new HashMap<>();
+        Map<TopicPartition, OffsetSpec> uncommitted = new HashMap<>();
+        for (TopicPartition topicPartition : latest.keySet()) {
+            OffsetAndMetadata offset = committed.get(topicPartition);
+            if (offset != null) {
+                committedOffsets.put(topicPartition, offset.offset());
+            } else if (resetToEarliest) {
+                uncommitted.put(topicPartition, OffsetSpec.earliest());
+            } else if (endOffsets.containsKey(topicPartition)) {
+                // latest면 컨슈머가 끝에서 시작하므로 밀린 레코드가 없음
+                committedOffsets.put(topicPartition, endOffsets.get(topicPartition));
+            }
+        }
+        committedOffsets.putAll(listOffsets(admin, uncommitted, timeoutMillis));
+
+        update(group, committedOffsets, endOffsets, System.currentTimeMillis());
+    }
+
+    /**
+     * 파티션별 오프셋을 조회합니다.
+     *
+     * 트랜잭션 모드의 read_committed 컨슈머가 읽을 수 있는 끝(LSO) 기준으로 조회합니다.
+     *
+     * @param admin 오프셋 조회에 사용할 Admin 클라이언트
+     * @param request 파티션별 조회할 오프셋 종류
+     * @param timeoutMillis 조회 제한 시간 (밀리초)
+     * @return 파티션별 오프셋
+     */
+    private Map<TopicPartition, Long> listOffsets(Admin admin, Map<TopicPartition, OffsetSpec> request,
+                                                  long timeoutMillis) throws Exception {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        if (request.isEmpty()) {
+            return offsets;
+        }
+        Map<TopicPartition, ListOffsetsResultInfo> results = admin
+                .listOffsets(request, new ListOffsetsOptions(IsolationLevel.READ_COMMITTED))
+                .all().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        results.forEach((topicPartition, info) -> offsets.put(topicPartition, info.offset()));
+        return offsets;
+    }
+
+    /**
+     * 추적 대상 그룹인지 확인합니다.
+     *
+     * 설정한 그룹과, 그 그룹의 재시도 토픽/DLT 리스너 그룹(그룹 ID 뒤에 토픽 접미사가 붙음)이 대상입니다.
+     *
+     * @param group 컨슈머 그룹 ID
+     * @return 추적 대상이면 true
+     */
+    boolean isMonitored(String group) {
+        if (group == null) {
+            return false;
+        }
+        if (groups.contains(group)) {
+            return true;
+        }
+        for (String monitored : groups) {
+            if (group.startsWith(monitored + "-retry") || group.equals(monitored + "-dlt")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 조회한 오프셋으로 그룹의 파티션 상태를 갱신합니다.
+     *
+     * @param group 컨슈머 그룹 ID
+     * @param committedOffsets 파티션별 커밋된 오프셋
+     * @param endOffsets 파티션별 끝 오프셋
+     * @param nowMillis 조회 시각 (epoch 밀리초)
+     */
+    void update(String group, Map<TopicPartition, Long> committedOffsets,
+                Map<TopicPartition, Long> endOffsets, long nowMillis) {
+        long totalLag = 0;
+        Set<TopicPartition> current = new HashSet<>();
+        for (Map.Entry<TopicPartition, Long> entry : committedOffsets.entrySet()) {
+            Long endOffset = endOffsets.get(entry.getKey());
+            if (endOffset == null) {
+                continue;
+            }
+            PartitionState state = stateFor(new GroupPartition(group, entry.getKey()));
+            state.update(entry.getValue(), endOffset, nowMillis);
+            totalLag += state.lag;
+            current.add(entry.getKey());
+        }
+        // 더 이상 구독하지 않거나 사라진 파티션의 게이지 제거
+        removePartitions(key -> key.group().equals(group) && !current.contains(key.topicPartition()));
+        groupLags.computeIfAbsent(group, this::registerGroupLag).set(totalLag);
+        checkedAtMillis = nowMillis;
+    }
+
+    /**
+     * 목록에 없는 그룹의 게이지와 상태를 제거합니다.
+     *
+     * @param activeGroups 계속 추적할 그룹
+     */
+    void retainGroups(Set<String> activeGroups) {
+        removePartitions(key -> !activeGroups.contains(key.group()));
+        for (Iterator<Map.Entry<String, GroupLagGauge>> it = groupLags.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, GroupLagGauge> entry = it.next();
+            if (!activeGroups.contains(entry.getKey())) {
+                it.remove();
+                meterRegistry.remove(entry.getValue().meter);
+                log.info("컨슈머 lag 추적 중지 - 그룹: {}", entry.getKey());
+            }
+        }
+    }
+
+    private void removePartitions(Predicate<GroupPartition> condition) {
+        for (Iterator<Map.Entry<GroupPartition, PartitionState>> it = partitions.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<GroupPartition, PartitionState> entry = it.next();
+            if (condition.test(entry.getKey())) {
+                it.remove();
+                entry.getValue().meters.forEach(meterRegistry::remove);
+            }
+        }
+    }
+
+    private PartitionState stateFor(GroupPartition groupPartition) {
+        return partitions.computeIfAbsent(groupPartition, key -> {
+            PartitionState state = new PartitionState(startedAtMillis);
+            Tags tags = Tags.of("group", key.group(), "topic", key.topicPartition().topic(),
+                    "partition", String.valueOf(key.topicPartition().partition()));
+            state.meters.add(Gauge.builder(PARTITION_LAG, state, s -> s.lag)
+                    .description("파티션의 끝 오프셋과 커밋된 오프셋의 차이")
+                    .tags(tags)
+                    .register(meterRegistry));
+            state.meters.add(Gauge.builder(RECORDS_PER_SECOND, state, s -> s.recordsPerSecond)
+                    .description("커밋된 오프셋이 전진한 속도 (초당 레코드 수)")
+                    .tags(tags)
+                    .register(meterRegistry));
+            state.meters.add(Gauge.builder(PROCESSING_TIME, state, s -> s.processingMillisPerRecord)
+                    .description("이 인스턴스에서 레코드 하나를 처리하는 데 걸린 평균 시간")
+                    .tags(tags)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry));
+            state.meters.add(Gauge.builder(TIME_SINCE_COMMIT, state, s -> s.secondsSinceCommit(System.currentTimeMillis()))
+                    .description("커밋된 오프셋이 마지막으로 전진한 뒤 지난 시간")
+                    .tags(tags)
+                    .baseUnit("seconds")
+                    .register(meterRegistry));
+            return state;
+        });
+    }
+
+    private GroupLagGauge registerGroupLag(String group) {
+        GroupLagGauge gauge = new GroupLagGauge();
+        gauge.meter = Gauge.builder(GROUP_LAG, gauge, GroupLagGauge::get)
+                .description("그룹의 파티션 lag 합계")
+                .tag("group", group)
+                .register(meterRegistry);
+        return gauge;
+    }
+
+    /**
+     * 애플리케이션 종료 시 확인 작업을 멈추고 Admin 클라이언트를 닫습니다.
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (admin != null) {
+            admin.close(Duration.ofSeconds(5));
+        }
+        log.info("컨슈머 lag 모니터가 종료되었습니다");
+    }
+
+    /**
+     * 그룹과 파티션
+     */
+    private record GroupPartition(String group, TopicPartition topicPartition) {
+    }
+
+    /**
+     * 그룹 lag 합계 게이지 값
+     */
+    private static final class GroupLagGauge {
+
+        private Meter meter;
+
+        private volatile long value;
+
+        void set(long value) {
+            this.value = value;
+        }
+
+        double get() {
+            return value;
+        }
+    }
+
+    /**
+     * 파티션 하나의 상태
+     *
+     * 처리 기록은 컨슈머 스레드에서, 오프셋 갱신은 확인 스레드에서만 수행합니다.
+     */
+    private static final class PartitionState {
+
+        private final List<Meter> meters = new ArrayList<>(4);
+
+        private final LongAdder processedRecords = new LongAdder();
+
+        private final LongAdder processingNanos = new LongAdder();
+
+        private volatile long committedOffset = -1;
+
+        private volatile long endOffset;
+
+        private volatile long lag;
+
+        private volatile double recordsPerSecond;
+
+        private volatile double processingMillisPerRecord = Double.NaN;
+
+        private volatile long lastCommitMillis;
+
+        private long lastCheckMillis;
+
+        private long lastProcessedRecords;
+
+        private long lastProcessingNanos;
+
+        PartitionState(long startedAtMillis) {
+            this.lastCommitMillis = startedAtMillis;
+        }
+
+        void update(long committed, long end, long nowMillis) {
+            if (committedOffset >= 0 && nowMillis > lastCheckMillis) {
+                long advanced = Math.max(0, committed - committedOffset);
+                recordsPerSecond = advanced * 1000.0 / (nowMillis - lastCheckMillis);
+            }
+            if (committed > committedOffset && committedOffset >= 0) {
+                lastCommitMillis = nowMillis;
+            }
+
+            long records = processedRecords.sum();
+            long nanos = processingNanos.sum();
+            long recordsDelta = records - lastProcessedRecords;
+            processingMillisPerRecord = recordsDelta > 0
+                    ? (nanos - lastProcessingNanos) / 1_000_000.0 / recordsDelta
+                    : Double.NaN;
+            lastProcessedRecords = records;
+            lastProcessingNanos = nanos;
+
+            committedOffset = committed;
+            endOffset = end;
+            lag = Math.max(0, end - committed);
+            lastCheckMillis = nowMillis;
+        }
+
+        double secondsSinceCommit(long nowMillis) {
+            return Math.max(0, nowMillis - lastCommitMillis) / 1000.0;
+        }
+    }
+
+    /**
+     * 컨슈머 lag 스냅샷
+     *
+     * @param checkedAt 마지막으로 확인한 시각 (확인 전이면 null)
+     * @param groups 그룹별 lag
+     */
+    public record LagSnapshot(Instant checkedAt, List<GroupLag> groups) {
+    }
+
+    /**
+     * 컨슈머 그룹 하나의 lag
+     *
+     * @param group 컨슈머 그룹 ID
+     * @param totalLag 파티션 lag 합계
+     * @param partitions 파티션별 lag
+     */
+    public record GroupLag(String group, long totalLag, List<PartitionLag> partitions) {
+    }
+
+    /**
+     * 파티션 하나의 lag과 처리 속도
+     *
+     * @param topic 토픽 이름
+     * @param partition 파티션 번호
+     * @param committedOffset 커밋된 오프셋
+     * @param endOffset 끝 오프셋
+     * @param lag 끝 오프셋 - 커밋된 오프셋
+     * @param recordsPerSecond 커밋된 오프셋이 전진한 속도
+     * @param processingMillisPerRecord 이 인스턴스의 레코드당 평균 처리 시간 (기록이 없으면 null)
+     * @param secondsSinceCommit 커밋된 오프셋이 마지막으로 전진한 뒤 지난 시간 (초)
+     */
+    public record PartitionLag(String topic, int partition, long committedOffset, long endOffset, long lag,
+                               double recordsPerSecond, Double processingMillisPerRecord,
+                               double secondsSinceCommit) {
+    }
+}
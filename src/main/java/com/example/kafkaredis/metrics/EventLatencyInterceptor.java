@@ -0,0 +1,100 @@
+package com.example.kafkaredis.metrics;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리스너가 레코드를 받기 직전에 발행 → 소비 지연 시간을 기록하는 리스너 인터셉터
+ *
+ * KafkaConfig의 모든 리스너 컨테이너 팩토리(단건/배치)에 설정되어,
+ * 리스너 메서드마다 따로 기록하지 않아도 모든 토픽(재시도 토픽 포함)의 지연 시간이 기록됩니다.
+ * 리스너 호출이 끝나면 처리에 걸린 시간을 {@link ConsumerLagMonitor}에 파티션별로 기록합니다
+ * (배치는 파티션별 레코드 수에 비례하여 나눔).
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class EventLatencyInterceptor implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+    /**
+     * 지연 시간을 기록할 컴포넌트
+     */
+    private final EventLatencyMetrics eventLatencyMetrics;
+
+    /**
+     * 파티션별 처리 시간을 기록할 모니터
+     */
+    private final ConsumerLagMonitor consumerLagMonitor;
+
+    /**
+     * 컨슈머 스레드별 리스너 호출 시작 시각 (System.nanoTime 기준)
+     */
+    private final ThreadLocal<long[]> interceptedAt = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public EventLatencyInterceptor(EventLatencyMetrics eventLatencyMetrics, ConsumerLagMonitor consumerLagMonitor) {
+        this.eventLatencyMetrics = eventLatencyMetrics;
+        this.consumerLagMonitor = consumerLagMonitor;
+    }
+
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+                                                    Consumer<Object, Object> consumer) {
+        eventLatencyMetrics.recordConsumed(record);
+        interceptedAt.get()[0] = System.nanoTime();
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        consumerLagMonitor.recordProcessed(groupId(consumer), record.topic(), record.partition(), 1,
+                System.nanoTime() - interceptedAt.get()[0]);
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records,
+                                                     Consumer<Object, Object> consumer) {
+        for (ConsumerRecord<Object, Object> record : records) {
+            eventLatencyMetrics.recordConsumed(record);
+        }
+        interceptedAt.get()[0] = System.nanoTime();
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        recordBatchProcessed(records, consumer);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception,
+                        Consumer<Object, Object> consumer) {
+        recordBatchProcessed(records, consumer);
+    }
+
+    private void recordBatchProcessed(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        int total = records.count();
+        if (total == 0) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - interceptedAt.get()[0];
+        String groupId = groupId(consumer);
+        for (TopicPartition topicPartition : records.partitions()) {
+            int count = records.records(topicPartition).size();
+            consumerLagMonitor.recordProcessed(groupId, topicPartition.topic(), topicPartition.partition(), count,
+                    elapsedNanos * count / total);
+        }
+    }
+
+    private static String groupId(Consumer<Object, Object> consumer) {
+        return consumer != null ? consumer.groupMetadata().groupId() : null;
+    }
+}
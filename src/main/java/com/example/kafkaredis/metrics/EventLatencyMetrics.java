@@ -0,0 +1,163 @@
+package com.example.kafkaredis.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트의 발행 → 소비 → Redis 반영 지연 시간을 기록하는 컴포넌트
+ *
+ * 발행 시 {@link ProducedAtInterceptor}가 붙인 produced-at 헤더(발행 시각, epoch 밀리초)를 기준으로
+ * 다음 타이머를 토픽/파티션 태그별로 기록합니다.
+ * - kafka.event.produce.to.consume: 발행 → 리스너 수신 (모든 리스너)
+ * - kafka.event.consume.to.redis: 리스너 수신 → Redis 쓰기 완료 (user-events 리스너)
+ * - kafka.event.produce.to.redis: 발행 → Redis 쓰기 완료 (SLO 기준 지연 시간)
+ * 타이머는 백분위 히스토그램과 p50/p99/p999를 함께 게시하며, /actuator/metrics/{이름}?tag=topic:user-events 로 조회합니다.
+ *
+ * 발행 시각은 Producer의 시계 기준이므로 서버 간 시계 차이만큼 오차가 있을 수 있으며,
+ * 음수가 되는 경우는 0으로 기록합니다. 헤더가 없는 레코드는 발행 기준 지연 시간을 기록하지 않습니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class EventLatencyMetrics {
+
+    /**
+     * 발행 시각 헤더 이름 (값: 8바이트 big-endian epoch 밀리초)
+     */
+    public static final String PRODUCED_AT_HEADER = "produced-at";
+
+    static final String PRODUCE_TO_CONSUME = "kafka.event.produce.to.consume";
+
+    static final String CONSUME_TO_REDIS = "kafka.event.consume.to.redis";
+
+    static final String PRODUCE_TO_REDIS = "kafka.event.produce.to.redis";
+
+    /**
+     * 메트릭을 등록할 레지스트리
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 토픽/파티션별 타이머 (레코드마다 레지스트리를 조회하지 않도록 보관)
+     */
+    private final Map<TopicPartition, PartitionTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public EventLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 발행 시각을 헤더 값으로 변환합니다.
+     *
+     * @param epochMillis 발행 시각 (epoch 밀리초)
+     * @return 헤더 값
+     */
+    public static byte[] encodeProducedAt(long epochMillis) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(epochMillis).array();
+    }
+
+    /**
+     * 헤더 값에서 발행 시각을 읽습니다.
+     *
+     * @param value 헤더 값 (null 가능)
+     * @return 발행 시각 (epoch 밀리초), 없거나 형식이 다르면 -1
+     */
+    public static long decodeProducedAt(byte[] value) {
+        return value != null && value.length == Long.BYTES ? ByteBuffer.wrap(value).getLong() : -1;
+    }
+
+    /**
+     * 레코드 헤더에서 발행 시각을 읽습니다.
+     *
+     * @param headers 레코드 헤더
+     * @return 발행 시각 (epoch 밀리초), 없으면 -1
+     */
+    public static long producedAt(Headers headers) {
+        Header header = headers.lastHeader(PRODUCED_AT_HEADER);
+        return header != null ? decodeProducedAt(header.value()) : -1;
+    }
+
+    /**
+     * 레코드를 수신했을 때 발행 → 소비 지연 시간을 기록합니다.
+     *
+     * @param record 수신한 레코드
+     */
+    public void recordConsumed(ConsumerRecord<?, ?> record) {
+        long producedAt = producedAt(record.headers());
+        if (producedAt < 0) {
+            return;
+        }
+        timersFor(record.topic(), record.partition()).produceToConsume()
+                .record(sinceMillis(producedAt), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 레코드의 Redis 쓰기가 완료되었을 때 소비 → Redis, 발행 → Redis 지연 시간을 기록합니다.
+     *
+     * @param record Redis에 반영한 레코드
+     * @param consumedAtNanos 리스너가 레코드를 받은 시각 (System.nanoTime 기준)
+     */
+    public void recordRedisWrite(ConsumerRecord<?, ?> record, long consumedAtNanos) {
+        recordRedisWrite(record.topic(), record.partition(), producedAt(record.headers()), consumedAtNanos);
+    }
+
+    /**
+     * Redis 쓰기가 완료되었을 때 소비 → Redis, 발행 → Redis 지연 시간을 기록합니다.
+     *
+     * @param topic 토픽 이름
+     * @param partition 파티션 번호
+     * @param producedAtMillis 발행 시각 (epoch 밀리초, 없으면 -1)
+     * @param consumedAtNanos 리스너가 레코드를 받은 시각 (System.nanoTime 기준)
+     */
+    public void recordRedisWrite(String topic, int partition, long producedAtMillis, long consumedAtNanos) {
+        PartitionTimers partitionTimers = timersFor(topic, partition);
+        partitionTimers.consumeToRedis().record(System.nanoTime() - consumedAtNanos, TimeUnit.NANOSECONDS);
+        if (producedAtMillis >= 0) {
+            partitionTimers.produceToRedis().record(sinceMillis(producedAtMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static long sinceMillis(long epochMillis) {
+        return Math.max(0, System.currentTimeMillis() - epochMillis);
+    }
+
+    private PartitionTimers timersFor(String topic, int partition) {
+        return timers.computeIfAbsent(new TopicPartition(topic, partition), key -> new PartitionTimers(
+                timer(PRODUCE_TO_CONSUME, "발행부터 리스너 수신까지의 지연 시간", key),
+                timer(CONSUME_TO_REDIS, "리스너 수신부터 Redis 쓰기 완료까지의 지연 시간", key),
+                timer(PRODUCE_TO_REDIS, "발행부터 Redis 쓰기 완료까지의 지연 시간", key)));
+    }
+
+    private Timer timer(String name, String description, TopicPartition topicPartition) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("topic", topicPartition.topic())
+                .tag("partition", String.valueOf(topicPartition.partition()))
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토픽/파티션 하나의 지연 시간 타이머
+     */
+    private record PartitionTimers(Timer produceToConsume, Timer consumeToRedis, Timer produceToRedis) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.kafkaredis.metrics;
+
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import java.util.Map;
+
+/**
+ * 발행하는 모든 레코드에 발행 시각 헤더(produced-at)를 붙이는 Producer 인터셉터
+ *
+ * application.yml의 spring.kafka.producer.properties.interceptor.classes 로 등록하므로
+ * 그 설정을 복사하는 모든 KafkaTemplate(문자열, 바이트 배열, 트랜잭션)에 적용됩니다.
+ * 이미 헤더가 있는 레코드(재시도 토픽/DLT로 다시 발행되며 원본 헤더가 복사된 레코드)는
+ * 원래 발행 시각을 유지하여 재시도 후에도 처음 발행부터의 지연 시간을 잴 수 있게 합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+public class ProducedAtInterceptor implements ProducerInterceptor<Object, Object> {
+
+    @Override
+    public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> record) {
+        if (record.headers().lastHeader(EventLatencyMetrics.PRODUCED_AT_HEADER) == null) {
+            record.headers().add(EventLatencyMetrics.PRODUCED_AT_HEADER,
+                    EventLatencyMetrics.encodeProducedAt(System.currentTimeMillis()));
+        }
+        return record;
+    }
+
+    @Override
+    public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+        // 발행 결과는 사용하지 않음
+    }
+
+    @Override
+    public void close() {
+        // 정리할 자원 없음
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        // 설정 없음
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.kafkaredis.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisService 연산별 지연 시간과 오류를 기록하는 컴포넌트
+ *
+ * 다음 메트릭을 연산(operation)과 키 접두사(prefix) 태그별로 기록합니다.
+ * - redis.operation: Redis 호출(네트워크) 시간, outcome 태그 = success | hit | miss | error,
+ *   근접 캐시에서 바로 응답한 조회는 Redis를 호출하지 않았으므로 outcome 태그 = nearHit 로 따로 기록
+ * - redis.serialization: 객체 ↔ JSON/코덱 변환 시간 (Redis 호출 시간에 포함하지 않음)
+ * - redis.operation.errors: 실패 수, stage 태그 = network | serialization, exception 태그 = 예외 클래스
+ *
+ * 키 전체가 아니라 설정한 키 접두사(key-prefixes, 예: user:event:) 중 키와 가장 길게 일치하는 것을 태그로 사용하며,
+ * 일치하는 접두사가 없는 키(API로 들어온 임의의 키 등)는 모두 other로 묶어 메트릭 수가 늘어나지 않도록 합니다.
+ * 호출마다의 부담을 줄이기 위해 타이머는 한 번 만든 뒤 보관하고,
+ * 백분위는 서버 쪽에서 계산하지 않고 히스토그램 버킷만 게시합니다
+ * (/actuator/metrics/redis.operation?tag=operation:get&tag=outcome:hit 등으로 조회).
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class RedisOperationMetrics {
+
+    static final String OPERATION_TIMER = "redis.operation";
+
+    static final String SERIALIZATION_TIMER = "redis.serialization";
+
+    static final String ERROR_COUNTER = "redis.operation.errors";
+
+    /**
+     * 설정한 접두사와 일치하지 않는 키의 태그 값
+     */
+    static final String OTHER_PREFIX = "other";
+
+    /**
+     * 메트릭을 등록할 레지스트리
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 메트릭 기록 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 태그로 구분할 키 접두사 (긴 것부터 비교하도록 정렬)
+     */
+    private final List<String> keyPrefixes;
+
+    /**
+     * 연산/접두사/결과별 Redis 호출 타이머
+     */
+    private final Map<MeterKey, Timer> operationTimers = new ConcurrentHashMap<>();
+
+    /**
+     * 연산/접두사별 변환 타이머
+     */
+    private final Map<MeterKey, Timer> serializationTimers = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public RedisOperationMetrics(MeterRegistry meterRegistry,
+                                 @Value("${app.redis.metrics.enabled:true}") boolean enabled,
+                                 @Value("${app.redis.metrics.key-prefixes:user:event:,user:position:,dedupe:event:,dedupe:offset:,lock:load:,load:delta:}")
+                                 String[] keyPrefixes) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.keyPrefixes = Arrays.stream(keyPrefixes)
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
+    /**
+     * Redis 호출 결과와 걸린 시간을 기록합니다.
+     *
+     * @param operation 연산
+     * @param key 호출한 키
+     * @param outcome 결과
+     * @param startNanos 호출 시작 시각 (System.nanoTime 기준)
+     * @return 기록한 시각 (System.nanoTime 기준, 이어지는 구간의 시작 시각으로 사용)
+     */
+    public long record(Operation operation, String key, Outcome outcome, long startNanos) {
+        long now = System.nanoTime();
+        if (enabled) {
+            operationTimers.computeIfAbsent(new MeterKey(operation, keyPrefix(key), outcome), this::operationTimer)
+                    .record(now - startNanos, TimeUnit.NANOSECONDS);
+        }
+        return now;
+    }
+
+    /**
+     * 객체 변환에 걸린 시간을 기록합니다.
+     *
+     * @param operation 연산
+     * @param key 변환한 값의 키
+     * @param startNanos 변환 시작 시각 (System.nanoTime 기준)
+     * @return 기록한 시각 (System.nanoTime 기준, 이어지는 Redis 호출의 시작 시각으로 사용)
+     */
+    public long recordSerialization(Operation operation, String key, long startNanos) {
+        long now = System.nanoTime();
+        if (enabled) {
+            serializationTimers.computeIfAbsent(new MeterKey(operation, keyPrefix(key), null), this::serializationTimer)
+                    .record(now - startNanos, TimeUnit.NANOSECONDS);
+        }
+        return now;
+    }
+
+    /**
+     * 실패한 Redis 호출을 기록합니다.
+     *
+     * @param operation 연산
+     * @param key 호출한 키
+     * @param startNanos 호출 시작 시각 (System.nanoTime 기준)
+     * @param error 발생한 예외
+     */
+    public void recordError(Operation operation, String key, long startNanos, Exception error) {
+        record(operation, key, Outcome.ERROR, startNanos);
+        countError(operation, key, "network", error);
+    }
+
+    /**
+     * 실패한 객체 변환을 기록합니다.
+     *
+     * @param operation 연산
+     * @param key 변환한 값의 키
+     * @param startNanos 변환 시작 시각 (System.nanoTime 기준)
+     * @param error 발생한 예외
+     */
+    public void recordSerializationError(Operation operation, String key, long startNanos, Exception error) {
+        recordSerialization(operation, key, startNanos);
+        countError(operation, key, "serialization", error);
+    }
+
+    /**
+     * 키에서 태그로 사용할 접두사를 구합니다.
+     *
+     * @param key Redis 키
+     * @return 키와 가장 길게 일치하는 설정 접두사, 일치하는 접두사가 없으면 other
+     */
+    String keyPrefix(String key) {
+        if (key != null) {
+            for (String prefix : keyPrefixes) {
+                if (key.startsWith(prefix)) {
+                    return prefix;
+                }
+            }
+        }
+        return OTHER_PREFIX;
+    }
+
+    private void countError(Operation operation, String key, String stage, Exception error) {
+        if (!enabled) {
+            return;
+        }
+        Counter.builder(ERROR_COUNTER)
+                .description("실패한 Redis 연산 수")
+                .tag("operation", operation.tagValue())
+                .tag("prefix", keyPrefix(key))
+                .tag("stage", stage)
+                .tag("exception", error.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer operationTimer(MeterKey meterKey) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Redis 호출 시간 (객체 변환 제외)")
+                .tag("operation", meterKey.operation().tagValue())
+                .tag("prefix", meterKey.prefix())
+                .tag("outcome", meterKey.outcome().tagValue())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private Timer serializationTimer(MeterKey meterKey) {
+        return Timer.builder(SERIALIZATION_TIMER)
+                .description("Redis에 저장하거나 조회한 값의 객체 변환 시간")
+                .tag("operation", meterKey.operation().tagValue())
+                .tag("prefix", meterKey.prefix())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기록하는 RedisService 연산
+     */
+    public enum Operation {
+        GET("get"),
+        SET("set"),
+        SET_WITH_TTL("setWithTtl"),
+        GET_OBJECT("getObject"),
+        SET_OBJECT("setObject"),
+        SET_OBJECT_WITH_TTL("setObjectWithTtl"),
+        EXISTS("exists"),
+        DELETE("delete"),
+        EXPIRE("expire"),
+        CACHE_USER_EVENT("cacheUserEvent"),
+        /** 여러 사용자 이벤트를 하나의 파이프라인으로 쓰는 호출 (키 태그는 user:event: 접두사) */
+        CACHE_USER_EVENTS("cacheUserEvents");
+
+        private final String tagValue;
+
+        Operation(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
+    }
+
+    /**
+     * Redis 호출 결과
+     */
+    public enum Outcome {
+        /** 쓰기/삭제 성공 */
+        SUCCESS("success"),
+        /** 조회한 키가 있음 */
+        HIT("hit"),
+        /** Redis를 호출하지 않고 근접 캐시에서 응답함 */
+        NEAR_HIT("nearHit"),
+        /** 조회한 키가 없음 */
+        MISS("miss"),
+        /** 호출 실패 */
+        ERROR("error");
+
+        private final String tagValue;
+
+        Outcome(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
+    }
+
+    /**
+     * 타이머를 구분하는 키 (변환 타이머는 outcome이 null)
+     */
+    private record MeterKey(Operation operation, String prefix, Outcome outcome) {
+    }
+}
@@ -1,22 +1,54 @@
 package com.example.kafkaredis.service;
 
+import com.example.kafkaredis.dedupe.ConsumerDeduplicator;
+import com.example.kafkaredis.dedupe.DedupeToken;
+import com.example.kafkaredis.dedupe.EventPosition;
+import com.example.kafkaredis.dedupe.WriteOutcome;
+import com.example.kafkaredis.metrics.EventLatencyMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Kafka 메시지 구독을 담당하는 서비스 클래스
  * 
  * 이 클래스는 다음과 같은 기능을 제공합니다:
  * - test-topic에서 일반 메시지 구독 및 처리
  * - user-events 토픽에서 사용자 이벤트 구독 및 Redis 캐싱
- * - 메시지 처리 결과에 따른 수동 커밋 처리
+ * - user-events 토픽 배치 구독, 키별 병합 및 파이프라인 기반 Redis 일괄 캐싱
+ * - 배치 레코드를 키 순서를 유지한 채 여러 워커 스레드에서 병렬 처리
+ * - 사용자 이벤트를 write-behind 버퍼에 넣고 Redis 반영 후 수동 ack
+ * - 재전달된 사용자 이벤트를 Redis 중복 확인으로 걸러 한 번만 적용 (멱등 컨슈머)
+ * - test-topic 메시지의 파생 이벤트 발행과 오프셋 커밋을 하나의 Kafka 트랜잭션으로 처리 (exactly-once)
+ * - 처리 결과를 컨테이너에 알려 커밋 전략(app.kafka.consumer.commit-strategy)에 따라 커밋
+ * - 단건 리스너의 실패 레코드를 재시도 토픽(지연 증가)으로 넘기고, 재시도 소진 시 DLT로 격리
+ * - 토픽별 리스너 동시성(app.kafka.topics.{토픽}.concurrency) 설정
+ * - 사용자 이벤트의 소비 → Redis 반영, 발행 → Redis 반영 지연 시간 기록
  * - 오류 발생 시 상세한 로깅
  * 
  * @author 개발자
@@ -30,6 +62,7 @@ public class KafkaConsumerService {
      */
     private static final Logger log = LoggerFactory.getLogger(KafkaConsumerService.class);
 
+
     /**
      * JSON 역직렬화를 위한 매퍼
      */
@@ -40,32 +73,99 @@ public class KafkaConsumerService {
      */
     private final RedisService redisService;
 
+    /**
+     * 사용자 이벤트 배치를 키별로 병합하는 컴포넌트
+     */
+    private final UserEventCoalescer userEventCoalescer;
+
+    /**
+     * 배치 레코드를 키 기준으로 워커 스레드에 분배하는 디스패처
+     */
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
+
+    /**
+     * 배치 리스너에서 디스패처를 사용한 병렬 처리 여부
+     */
+    private final boolean dispatcherEnabled;
+
+    /**
+     * 사용자 이벤트 Redis 쓰기를 모아서 반영하는 write-behind 버퍼
+     */
+    private final RedisWriteBehindBuffer writeBehindBuffer;
+
+    /**
+     * 재전달된 레코드를 걸러내기 위한 중복 확인 토큰 생성기
+     */
+    private final ConsumerDeduplicator consumerDeduplicator;
+
+    /**
+     * 리스너 컨테이너의 트랜잭션 안에서 파생 이벤트를 발행하는 템플릿
+     */
+    private final KafkaTemplate<String, String> transactionalKafkaTemplate;
+
+    /**
+     * 파생 이벤트를 발행할 토픽
+     */
+    private final String derivedEventsTopic;
+
+    /**
+     * 이벤트 지연 시간을 기록하는 컴포넌트
+     */
+    private final EventLatencyMetrics eventLatencyMetrics;
+
     /**
      * 생성자 주입을 통한 의존성 주입
      */
-    public KafkaConsumerService(ObjectMapper objectMapper, RedisService redisService) {
+    public KafkaConsumerService(ObjectMapper objectMapper, RedisService redisService,
+                                UserEventCoalescer userEventCoalescer,
+                                KeyOrderedDispatcher keyOrderedDispatcher,
+                                @Value("${app.kafka.dispatcher.enabled:false}") boolean dispatcherEnabled,
+                                RedisWriteBehindBuffer writeBehindBuffer,
+                                ConsumerDeduplicator consumerDeduplicator,
+                                @Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, String> transactionalKafkaTemplate,
+                                @Value("${app.kafka.transaction.output-topic:test-topic-derived}") String derivedEventsTopic,
+                                EventLatencyMetrics eventLatencyMetrics) {
         this.objectMapper = objectMapper;
         this.redisService = redisService;
+        this.userEventCoalescer = userEventCoalescer;
+        this.keyOrderedDispatcher = keyOrderedDispatcher;
+        this.dispatcherEnabled = dispatcherEnabled;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.consumerDeduplicator = consumerDeduplicator;
+        this.transactionalKafkaTemplate = transactionalKafkaTemplate;
+        this.derivedEventsTopic = derivedEventsTopic;
+        this.eventLatencyMetrics = eventLatencyMetrics;
     }
 
     /**
      * test-topic에서 메시지를 구독하고 처리합니다.
      * 
      * 이 메서드는 test-topic에서 발행된 메시지를 수신하여 처리합니다.
-     * 메시지 처리 후 수동으로 커밋을 수행하여 메시지 처리 완료를 보장합니다.
+     * 처리 중 오류가 발생하면 예외를 다시 던져 레코드를 재시도 토픽으로 넘기며,
+     * 이 리스너는 기다리지 않고 다음 레코드를 계속 처리합니다.
+     * 재시도를 모두 소진한 레코드는 test-topic-dlt로 격리됩니다.
      * 
      * @param message 수신된 메시지 내용
      * @param topic 메시지가 수신된 토픽 이름
      * @param partition 메시지가 수신된 파티션 번호
      * @param offset 메시지의 오프셋 값
-     * @param acknowledgment 수동 커밋을 위한 acknowledgment 객체
      */
-    @KafkaListener(topics = "test-topic", groupId = "test-group")
+    @RetryableTopic(
+            attempts = "${app.kafka.retry-topics.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${app.kafka.retry-topics.initial-delay:1000}",
+                    multiplierExpression = "${app.kafka.retry-topics.multiplier:5}",
+                    maxDelayExpression = "${app.kafka.retry-topics.max-delay:60000}"),
+            numPartitions = "${app.kafka.retry-topics.partitions:3}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(topics = "test-topic", groupId = "test-group",
+            concurrency = "${app.kafka.topics.test-topic.concurrency:1}",
+            autoStartup = "#{!${app.kafka.consumer.batch-enabled:false} && !${app.kafka.transaction.enabled:false}}")
     public void consumeTestMessage(@Payload String message,
                                  @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
                                  @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                 @Header(KafkaHeaders.OFFSET) long offset,
-                                 Acknowledgment acknowledgment) {
+                                 @Header(KafkaHeaders.OFFSET) long offset) {
         log.info("=== 테스트 메시지 수신 시작 ===");
         log.info("메시지 수신 정보 - 토픽: {}, 파티션: {}, 오프셋: {}", 
                 topic, partition, offset);
@@ -77,40 +177,115 @@ public class KafkaConsumerService {
             processMessage(message);
             log.debug("메시지 처리 완료");
             
-            // 메시지 처리 성공 시 커밋 수행
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-                log.debug("메시지 커밋 완료 - 오프셋: {}", offset);
-            } else {
-                log.warn("Acknowledgment가 null입니다. 자동 커밋이 사용될 수 있습니다.");
-            }
-            
             log.info("=== 테스트 메시지 처리 완료 ===");
             
         } catch (Exception e) {
             log.error("테스트 메시지 처리 중 오류 발생 - 메시지: {}, 오류: {}", 
                     message, e.getMessage(), e);
-            // 오류 발생 시 커밋하지 않음 (메시지 재처리를 위해)
-            log.warn("메시지 처리 실패로 인해 커밋하지 않습니다. 메시지가 재처리될 수 있습니다.");
+            // 오류 발생 시 재시도 토픽으로 넘김 (재시도 소진 시 DLT)
+            log.warn("메시지 처리 실패로 인해 재시도 토픽으로 넘깁니다.");
+            throw e;
         }
     }
 
+    /**
+     * test-topic의 메시지를 poll 단위 배치로 구독하고 처리합니다.
+     * 
+     * app.kafka.consumer.batch-enabled=true 일 때 consumeTestMessage 대신 기동됩니다 (exactly-once 모드 제외).
+     * app.kafka.dispatcher.enabled=true 이면 레코드를 키 기준으로 워커 스레드에 분배하여
+     * 파티션 수보다 많은 스레드로 병렬 처리합니다 (같은 키의 순서는 유지).
+     * 배치에서 연속으로 처리가 끝난 레코드까지만 커밋하고, 나머지는 재전달 받습니다.
+     * 
+     * @param records 한 번의 poll로 수신된 레코드 목록
+     */
+    @KafkaListener(topics = "test-topic", groupId = "test-group",
+            concurrency = "${app.kafka.topics.test-topic.concurrency:1}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{${app.kafka.consumer.batch-enabled:false} && !${app.kafka.transaction.enabled:false}}")
+    public void consumeTestMessageBatch(List<ConsumerRecord<String, String>> records) {
+        log.info("=== 테스트 메시지 배치 수신 시작 - 레코드 수: {}, 병렬 처리: {} ===", 
+                records.size(), dispatcherEnabled);
+        
+        int firstIncomplete = dispatcherEnabled
+                ? keyOrderedDispatcher.dispatch(records, record -> processMessage(record.value()))
+                : processSequentially(records);
+        
+        completeBatch(records, firstIncomplete);
+    }
+
+    /**
+     * test-topic의 메시지를 exactly-once로 처리하여 파생 이벤트를 발행합니다.
+     * 
+     * app.kafka.transaction.enabled=true 일 때 다른 test-topic 리스너 대신 기동됩니다.
+     * 컨테이너가 배치마다 시작한 트랜잭션 안에서 레코드마다 파생 이벤트를 발행하고,
+     * 정상 반환하면 컨테이너가 소비 오프셋을 같은 트랜잭션에 담아(sendOffsetsToTransaction) 커밋합니다.
+     * 하나라도 실패하면 예외를 던져 트랜잭션 전체(발행한 파생 이벤트와 오프셋)를 취소하고 배치를 다시 처리합니다.
+     * 
+     * @param records 한 번의 poll로 수신된 레코드 목록 (트랜잭션 하나)
+     */
+    @KafkaListener(topics = "test-topic", groupId = "test-group",
+            concurrency = "${app.kafka.topics.test-topic.concurrency:1}",
+            containerFactory = "transactionalKafkaListenerContainerFactory",
+            autoStartup = "${app.kafka.transaction.enabled:false}")
+    public void consumeTestMessageTransactional(List<ConsumerRecord<String, String>> records) {
+        log.info("=== 테스트 메시지 트랜잭션 처리 시작 - 레코드 수: {} ===", records.size());
+        
+        for (ConsumerRecord<String, String> record : records) {
+            processMessage(record.value());
+            // 컨테이너 트랜잭션에 참여하여 발행 (커밋 전까지 read_committed 컨슈머에게 보이지 않음)
+            transactionalKafkaTemplate.send(derivedEventsTopic, record.key(), deriveEvent(record));
+        }
+        
+        log.info("=== 테스트 메시지 트랜잭션 처리 완료 - 레코드 수: {}, 파생 이벤트 토픽: {} ===", 
+                records.size(), derivedEventsTopic);
+    }
+
     /**
      * user-events 토픽에서 사용자 이벤트 메시지를 구독하고 Redis에 캐싱합니다.
      * 
      * 이 메서드는 사용자 관련 이벤트를 수신하여 Redis에 캐싱합니다.
      * 사용자 ID를 키로 하여 24시간 동안 이벤트 데이터를 저장합니다.
+     * 캐싱에 실패하면 레코드를 재시도 토픽으로 넘기고, 재시도를 모두 소진하면 user-events-dlt로 격리됩니다.
+     * app.kafka.dedupe.enabled=true 이면 이미 적용된 레코드(재전달)는 Redis 왕복 한 번으로 확인하고 건너뜁니다.
+     * Redis에 반영하면 수신 → 반영, 발행(produced-at 헤더) → 반영 지연 시간을 기록합니다.
+     * 
+     * 재시도 토픽으로 넘어간 이벤트는 지연 후 처리되므로, 그 사이 원래 토픽에서 같은 사용자의
+     * 이후 이벤트가 먼저 반영될 수 있습니다. 오래된 이벤트가 최신 이벤트를 덮어쓰지 않도록
+     * 원본 위치(재시도 토픽이면 원본 파티션/오프셋 헤더)와 사용자별 마지막 반영 위치를 비교하여,
+     * 더 최신 이벤트가 이미 반영되어 있으면 쓰지 않고 건너뜁니다 (RedisService.cacheUserEventInOrder).
      * 
      * @param message 수신된 사용자 이벤트 메시지
      * @param key 메시지 키 (사용자 ID)
      * @param topic 메시지가 수신된 토픽 이름
-     * @param acknowledgment 수동 커밋을 위한 acknowledgment 객체
+     * @param partition 메시지가 수신된 파티션 번호
+     * @param offset 메시지의 오프셋 값
+     * @param eventId event-id 헤더 값 (없으면 null)
+     * @param producedAt produced-at 헤더 값 (없으면 null)
+     * @param originalPartition 재시도 토픽 레코드의 원본 파티션 헤더 값 (원래 토픽이면 null)
+     * @param originalOffset 재시도 토픽 레코드의 원본 오프셋 헤더 값 (원래 토픽이면 null)
      */
-    @KafkaListener(topics = "user-events", groupId = "user-group")
+    @RetryableTopic(
+            attempts = "${app.kafka.retry-topics.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${app.kafka.retry-topics.initial-delay:1000}",
+                    multiplierExpression = "${app.kafka.retry-topics.multiplier:5}",
+                    maxDelayExpression = "${app.kafka.retry-topics.max-delay:60000}"),
+            numPartitions = "${app.kafka.retry-topics.partitions:3}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(topics = "user-events", groupId = "user-group",
+            concurrency = "${app.kafka.topics.user-events.concurrency:1}",
+            autoStartup = "#{!${app.kafka.consumer.batch-enabled:false} && !${app.redis.write-behind.enabled:false}}")
     public void consumeUserEvent(@Payload String message,
                                @Header(KafkaHeaders.RECEIVED_KEY) String key,
                                @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                               Acknowledgment acknowledgment) {
+                               @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                               @Header(KafkaHeaders.OFFSET) long offset,
+                               @Header(name = ConsumerDeduplicator.EVENT_ID_HEADER, required = false) byte[] eventId,
+                               @Header(name = EventLatencyMetrics.PRODUCED_AT_HEADER, required = false) byte[] producedAt,
+                               @Header(name = KafkaHeaders.DLT_ORIGINAL_PARTITION, required = false) byte[] originalPartition,
+                               @Header(name = KafkaHeaders.DLT_ORIGINAL_OFFSET, required = false) byte[] originalOffset) {
+        long consumedAt = System.nanoTime();
         log.info("=== 사용자 이벤트 수신 시작 ===");
         log.info("사용자 이벤트 수신 정보 - 키(사용자ID): {}, 토픽: {}", key, topic);
         log.debug("수신된 이벤트 메시지: {}", message);
@@ -118,24 +293,318 @@ public class KafkaConsumerService {
         try {
             // Redis에 사용자 이벤트 캐싱
             log.debug("Redis에 사용자 이벤트 캐싱 시작 - 사용자ID: {}", key);
-            redisService.cacheUserEvent(key, message);
-            log.debug("Redis 캐싱 완료 - 사용자ID: {}", key);
-            
-            // 메시지 처리 성공 시 커밋 수행
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-                log.debug("사용자 이벤트 메시지 커밋 완료 - 사용자ID: {}", key);
-            } else {
-                log.warn("Acknowledgment가 null입니다. 자동 커밋이 사용될 수 있습니다.");
+            EventPosition position = EventPosition.of(partition, offset, originalPartition, originalOffset);
+            DedupeToken token = consumerDeduplicator.isEnabled()
+                    ? consumerDeduplicator.tokenFor(topic, partition, offset, key, eventId)
+                    : null;
+            WriteOutcome outcome = redisService.cacheUserEventInOrder(key, message, position, token);
+            if (outcome == WriteOutcome.FAILED) {
+                throw new IllegalStateException("Redis 캐싱 실패 - 사용자ID: " + key);
             }
+            if (outcome == WriteOutcome.DUPLICATE) {
+                log.info("=== 이미 적용된 사용자 이벤트라 건너뜁니다 - 사용자ID: {}, 위치: {}-{}@{} ===",
+                        key, topic, partition, offset);
+                return;
+            }
+            if (outcome == WriteOutcome.STALE) {
+                log.info("=== 더 최신 이벤트가 이미 반영되어 건너뜁니다 - 사용자ID: {}, 원본 위치: {}@{} ===",
+                        key, position.partition(), position.offset());
+                return;
+            }
+            log.debug("Redis 캐싱 완료 - 사용자ID: {}", key);
+            eventLatencyMetrics.recordRedisWrite(topic, partition,
+                    EventLatencyMetrics.decodeProducedAt(producedAt), consumedAt);
             
             log.info("=== 사용자 이벤트 처리 완료 - 사용자ID: {} ===", key);
             
         } catch (Exception e) {
             log.error("사용자 이벤트 처리 중 오류 발생 - 사용자ID: {}, 메시지: {}, 오류: {}", 
                     key, message, e.getMessage(), e);
-            // 오류 발생 시 커밋하지 않음 (메시지 재처리를 위해)
-            log.warn("사용자 이벤트 처리 실패로 인해 커밋하지 않습니다. 메시지가 재처리될 수 있습니다.");
+            // 오류 발생 시 재시도 토픽으로 넘김 (재시도 소진 시 DLT)
+            log.warn("사용자 이벤트 처리 실패로 인해 재시도 토픽으로 넘깁니다.");
+            throw e;
+        }
+    }
+
+    /**
+     * user-events 토픽의 사용자 이벤트를 write-behind 버퍼에 넣습니다.
+     * 
+     * app.redis.write-behind.enabled=true 이고 배치 모드가 아닐 때 consumeUserEvent 대신 기동됩니다.
+     * Redis 쓰기를 기다리지 않고 버퍼에 넣은 뒤 바로 반환하며,
+     * 버퍼가 파이프라인으로 Redis에 반영한 뒤에 ack를 호출하므로 오프셋은 반영 이후에만 커밋됩니다.
+     * 버퍼가 가득 차 넣지 못하면 예외를 던져 에러 핸들러가 같은 오프셋부터 재처리하도록 합니다.
+     * 중복 확인을 사용하면 레코드의 중복 확인 토큰을 함께 넣어 반영 시 이미 적용된 이벤트를 걸러냅니다.
+     * 
+     * @param message 수신된 사용자 이벤트 메시지
+     * @param key 메시지 키 (사용자 ID)
+     * @param topic 메시지가 수신된 토픽 이름
+     * @param partition 메시지가 수신된 파티션
+     * @param offset 메시지 오프셋
+     * @param eventId event-id 헤더 값, 없으면 null
+     * @param ack Redis 반영 후 호출할 레코드 ack
+     * @throws InterruptedException 버퍼의 빈 자리를 기다리는 중 인터럽트된 경우
+     */
+    @KafkaListener(topics = "user-events", groupId = "user-group",
+            concurrency = "${app.kafka.topics.user-events.concurrency:1}",
+            containerFactory = "manualAckKafkaListenerContainerFactory",
+            autoStartup = "#{!${app.kafka.consumer.batch-enabled:false} && ${app.redis.write-behind.enabled:false}}")
+    public void consumeUserEventWriteBehind(@Payload(required = false) String message,
+                                            @Header(KafkaHeaders.RECEIVED_KEY) String key,
+                                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                            @Header(KafkaHeaders.OFFSET) long offset,
+                                            @Header(name = ConsumerDeduplicator.EVENT_ID_HEADER, required = false) byte[] eventId,
+                                            Acknowledgment ack) throws InterruptedException {
+        log.debug("사용자 이벤트 write-behind 수신 - 키(사용자ID): {}, 토픽: {}", key, topic);
+        
+        DedupeToken token = consumerDeduplicator.isEnabled()
+                ? consumerDeduplicator.tokenFor(topic, partition, offset, key, eventId)
+                : null;
+        if (!writeBehindBuffer.submit(key, message, token, ack)) {
+            // 버퍼가 비워지지 않는 상태 (Redis 장애 등) - 커밋하지 않고 재처리
+            throw new IllegalStateException("write-behind 버퍼가 가득 찼습니다 - 사용자ID: " + key);
+        }
+    }
+
+    /**
+     * user-events 토픽의 사용자 이벤트를 poll 단위 배치로 구독하고 Redis에 일괄 캐싱합니다.
+     * 
+     * app.kafka.consumer.batch-enabled=true 일 때 consumeUserEvent 대신 기동됩니다.
+     * 배치를 사용자 ID(레코드 키)별로 병합하여 사용자마다 가장 최신 이벤트만 남긴 뒤,
+     * user:event:{userId} 쓰기를 하나의 Redis 파이프라인으로 전송합니다.
+     * app.kafka.dispatcher.enabled=true 이면 사용자별 쓰기를 워커 스레드에서 병렬로 수행합니다.
+     * 실패하면 완료되지 않은 레코드부터 다시 전달받습니다.
+     * 반영이 끝난 레코드마다 지연 시간을 기록합니다 (병합으로 생략된 이벤트는 최신 이벤트와 함께 반영된 것으로 봄).
+     * 
+     * @param records 한 번의 poll로 수신된 사용자 이벤트 레코드 목록
+     */
+    @KafkaListener(topics = "user-events", groupId = "user-group",
+            concurrency = "${app.kafka.topics.user-events.concurrency:1}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${app.kafka.consumer.batch-enabled:false}")
+    public void consumeUserEventBatch(List<ConsumerRecord<String, String>> records) {
+        long consumedAt = System.nanoTime();
+        log.info("=== 사용자 이벤트 배치 수신 시작 - 레코드 수: {} ===", records.size());
+        
+        // 같은 사용자의 이벤트는 가장 높은 오프셋의 이벤트만 남김 (사용자당 쓰기 1회)
+        List<ConsumerRecord<String, String>> latestEvents = userEventCoalescer.coalesce(records);
+        log.debug("사용자 이벤트 병합 결과 - 수신: {}, Redis 쓰기: {}", records.size(), latestEvents.size());
+        
+        int firstIncomplete = dispatcherEnabled
+                ? cacheUserEventsInParallel(records, latestEvents)
+                : cacheUserEventsInPipeline(records, latestEvents);
+        
+        for (int i = 0; i < firstIncomplete; i++) {
+            eventLatencyMetrics.recordRedisWrite(records.get(i), consumedAt);
+        }
+        completeBatch(records, firstIncomplete);
+    }
+
+    /**
+     * 병합된 사용자 이벤트를 하나의 Redis 파이프라인으로 캐싱합니다.
+     * 
+     * 중복 확인을 사용하면 이미 적용된 레코드는 같은 파이프라인 안에서 걸러지며,
+     * 파티션별 오프셋 순서대로 확인되도록 레코드를 정렬하여 전송합니다.
+     * 
+     * @param records 원본 배치 레코드 목록
+     * @param latestEvents 키별로 병합된 레코드 목록
+     * @return 처음으로 완료되지 않은 원본 레코드 인덱스 (성공 시 records.size(), 실패 시 0)
+     */
+    private int cacheUserEventsInPipeline(List<ConsumerRecord<String, String>> records,
+                                          List<ConsumerRecord<String, String>> latestEvents) {
+        if (!consumerDeduplicator.isEnabled()) {
+            Map<String, String> events = new LinkedHashMap<>();
+            for (ConsumerRecord<String, String> record : latestEvents) {
+                events.put(record.key(), record.value());
+            }
+            return redisService.cacheUserEvents(events) ? records.size() : 0;
+        }
+        
+        Map<String, WriteOutcome> outcomes = cacheUserEventsOnce(latestEvents);
+        if (outcomes.containsValue(WriteOutcome.FAILED)) {
+            return 0;
+        }
+        log.debug("사용자 이벤트 중복 확인 결과 - Redis 쓰기: {}, 중복: {}", outcomes.size(),
+                outcomes.values().stream().filter(WriteOutcome.DUPLICATE::equals).count());
+        return records.size();
+    }
+
+    /**
+     * 레코드마다 중복 확인 토큰을 만들어 하나의 파이프라인으로 캐싱합니다.
+     * 
+     * 오프셋 방식 토큰이 파티션별 오프셋 순서대로 확인되도록 레코드를 정렬하여 전송합니다.
+     * 
+     * @param latestEvents 키별로 병합된 레코드 목록
+     * @return 사용자 ID별 결과
+     */
+    private Map<String, WriteOutcome> cacheUserEventsOnce(List<ConsumerRecord<String, String>> latestEvents) {
+        Map<String, String> events = new LinkedHashMap<>();
+        Map<String, DedupeToken> tokens = new LinkedHashMap<>();
+        latestEvents.stream()
+                .sorted(Comparator.comparing((ConsumerRecord<String, String> record) -> record.topic())
+                        .thenComparingInt(ConsumerRecord::partition)
+                        .thenComparingLong(ConsumerRecord::offset))
+                .forEach(record -> {
+                    events.put(record.key(), record.value());
+                    tokens.put(record.key(), consumerDeduplicator.tokenFor(record));
+                });
+        return redisService.cacheUserEventsOnce(events, tokens);
+    }
+
+    /**
+     * 병합된 사용자 이벤트를 디스패처를 통해 워커 스레드에서 병렬로 캐싱합니다.
+     * 
+     * 워커마다 배정된 이벤트를 하나의 Redis 파이프라인으로 보내므로 병렬 처리하면서도 왕복 횟수가 늘지 않습니다.
+     * 중복 확인을 사용하면 워커마다 cacheUserEventsInPipeline과 같은 방식으로 토큰을 함께 전송합니다.
+     * 실패한 사용자의 레코드 중 원본 배치에서 가장 앞선 레코드의 인덱스를 반환하므로,
+     * 그 앞까지만 커밋되고 실패한 사용자의 이벤트는 재전달됩니다.
+     * 
+     * @param records 원본 배치 레코드 목록
+     * @param latestEvents 키별로 병합된 레코드 목록
+     * @return 처음으로 완료되지 않은 원본 레코드 인덱스 (모두 성공 시 records.size())
+     */
+    private int cacheUserEventsInParallel(List<ConsumerRecord<String, String>> records,
+                                          List<ConsumerRecord<String, String>> latestEvents) {
+        // 워커마다 배정된 사용자 이벤트를 하나의 파이프라인으로 전송 (왕복 횟수 = 워커 수 이하)
+        boolean[] completed = keyOrderedDispatcher.dispatchChunks(latestEvents, chunk -> {
+            if (consumerDeduplicator.isEnabled()) {
+                if (cacheUserEventsOnce(chunk).containsValue(WriteOutcome.FAILED)) {
+                    throw new IllegalStateException("Redis 캐싱 실패 - 사용자 수: " + chunk.size());
+                }
+                return;
+            }
+            Map<String, String> events = new LinkedHashMap<>();
+            for (ConsumerRecord<String, String> record : chunk) {
+                events.put(record.key(), record.value());
+            }
+            if (!redisService.cacheUserEvents(events)) {
+                throw new IllegalStateException("Redis 캐싱 실패 - 사용자 수: " + events.size());
+            }
+        });
+        
+        Set<String> failedUserIds = new HashSet<>();
+        for (int i = 0; i < completed.length; i++) {
+            if (!completed[i]) {
+                failedUserIds.add(latestEvents.get(i).key());
+            }
+        }
+        if (failedUserIds.isEmpty()) {
+            return records.size();
+        }
+        for (int i = 0; i < records.size(); i++) {
+            if (failedUserIds.contains(records.get(i).key())) {
+                return i;
+            }
+        }
+        return records.size();
+    }
+
+    /**
+     * 재시도를 모두 소진하여 DLT로 격리된 레코드를 처리합니다.
+     * 
+     * 이 클래스의 재시도 토픽(test-topic, user-events)에서 공통으로 사용되며,
+     * 발행 시 추가된 헤더의 원본 위치와 오류 정보를 로그로 남깁니다.
+     * 레코드는 DLT에 남아 있으므로 원인을 해결한 뒤 원래 토픽으로 다시 발행할 수 있습니다.
+     * 
+     * @param record DLT에서 수신한 레코드
+     */
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<String, String> record) {
+        log.error("=== DLT 레코드 수신 - 토픽: {}, 키: {}, 원본 위치: {}-{}@{}, 예외: {}, 오류: {} ===",
+                record.topic(), record.key(),
+                headerValue(record, KafkaHeaders.DLT_ORIGINAL_TOPIC),
+                headerValue(record, KafkaHeaders.DLT_ORIGINAL_PARTITION),
+                headerValue(record, KafkaHeaders.DLT_ORIGINAL_OFFSET),
+                headerValue(record, KafkaHeaders.DLT_EXCEPTION_FQCN),
+                headerValue(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        log.debug("DLT 레코드 내용: {}", record.value());
+    }
+
+    /**
+     * 레코드 헤더 값을 문자열로 반환합니다.
+     * 
+     * 원본 파티션과 오프셋 헤더는 4바이트/8바이트 정수로, 나머지는 UTF-8 문자열로 저장됩니다.
+     * 
+     * @param record 레코드
+     * @param name 헤더 이름
+     * @return 헤더 값, 없으면 null
+     */
+    private String headerValue(ConsumerRecord<String, String> record, String name) {
+        org.apache.kafka.common.header.Header header = record.headers().lastHeader(name);
+        if (header == null) {
+            return null;
+        }
+        byte[] value = header.value();
+        if (KafkaHeaders.DLT_ORIGINAL_PARTITION.equals(name) && value.length == Integer.BYTES) {
+            return String.valueOf(ByteBuffer.wrap(value).getInt());
+        }
+        if (KafkaHeaders.DLT_ORIGINAL_OFFSET.equals(name) && value.length == Long.BYTES) {
+            return String.valueOf(ByteBuffer.wrap(value).getLong());
+        }
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 배치 레코드를 현재 스레드에서 순서대로 처리합니다.
+     * 
+     * @param records 처리할 레코드 목록
+     * @return 처음으로 실패한 레코드 인덱스 (모두 성공 시 records.size())
+     */
+    private int processSequentially(List<ConsumerRecord<String, String>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                processMessage(record.value());
+            } catch (Exception e) {
+                log.error("테스트 메시지 처리 중 오류 발생 - 파티션: {}, 오프셋: {}, 오류: {}", 
+                        record.partition(), record.offset(), e.getMessage(), e);
+                return i;
+            }
+        }
+        return records.size();
+    }
+
+    /**
+     * 배치 처리 결과를 컨테이너에 알립니다.
+     * 
+     * 모든 레코드가 완료되었으면 정상 반환하여 커밋 전략에 따라 배치 전체가 커밋되도록 합니다.
+     * 그렇지 않으면 BatchListenerFailedException을 던져, 에러 핸들러가
+     * 처음으로 완료되지 않은 레코드 앞까지만 커밋하고 그 레코드부터 다시 전달하도록 합니다.
+     * 
+     * @param records 배치 레코드 목록
+     * @param firstIncomplete 처음으로 완료되지 않은 레코드 인덱스
+     */
+    private void completeBatch(List<ConsumerRecord<String, String>> records, int firstIncomplete) {
+        if (firstIncomplete >= records.size()) {
+            log.info("=== 배치 처리 완료 - 레코드 수: {} ===", records.size());
+            return;
+        }
+        // 완료된 앞부분만 커밋하고 나머지는 재전달 받음
+        ConsumerRecord<String, String> failed = records.get(firstIncomplete);
+        log.warn("배치 처리 실패로 인해 일부만 커밋합니다 - 커밋 대상 레코드 수: {}, 재처리 시작 위치: {}-{}@{}", 
+                firstIncomplete, failed.topic(), failed.partition(), failed.offset());
+        throw new BatchListenerFailedException("배치 처리 실패 - 인덱스: " + firstIncomplete, firstIncomplete);
+    }
+
+    /**
+     * 처리한 레코드로부터 파생 이벤트를 만듭니다.
+     * 
+     * 원본 위치와 원본 메시지를 담은 JSON 문자열을 반환합니다.
+     * 
+     * @param record 처리한 레코드
+     * @return 파생 이벤트 (JSON 문자열)
+     */
+    private String deriveEvent(ConsumerRecord<String, String> record) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("sourceTopic", record.topic());
+        event.put("sourcePartition", record.partition());
+        event.put("sourceOffset", record.offset());
+        event.put("payload", record.value());
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("파생 이벤트 변환 실패 - 위치: "
+                    + record.topic() + "-" + record.partition() + "@" + record.offset(), e);
         }
     }
 
@@ -1,29 +1,60 @@
 package com.example.kafkaredis.service;
 
+import com.example.kafkaredis.codec.PayloadCodec;
+import com.example.kafkaredis.codec.PayloadCodecRegistry;
+import com.example.kafkaredis.codec.PayloadCodecs;
+import com.example.kafkaredis.dto.BatchSendResult;
+import com.example.kafkaredis.dto.KeyedMessage;
+import com.example.kafkaredis.dto.SendReceipt;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Kafka 메시지 발행을 담당하는 서비스 클래스
  * 
  * 이 클래스는 다음과 같은 기능을 제공합니다:
- * - 객체를 JSON으로 변환하여 Kafka에 발행
+ * - 페이로드 타입에 따른 발행 (문자열/바이트 배열은 그대로, 객체는 JSON 바이트로 직접 직렬화)
+ * - 토픽별 코덱(JSON/Smile/CBOR) 선택 및 content-codec 헤더 표시
  * - 키와 함께 메시지 발행 (파티션 분산 처리)
  * - 문자열 메시지 직접 발행
  * - 비동기 발행 결과 처리 및 로깅
+ * - 브로커 ack 결과(파티션, 오프셋)를 CompletableFuture로 반환
+ * - 대량 메시지 일괄 발행 및 ack/실패 건수 집계
+ * 
+ * 발행 결과 로그와 반환한 Future에 호출자가 이어 붙인 작업은 Producer 네트워크 스레드가 아닌
+ * 발행 콜백 실행기(플랫폼 스레드 풀 또는 가상 스레드)에서 실행됩니다.
+ * 발행마다 결과 로그와 결과 변환을 하나의 콜백으로 묶어 실행기로 한 번만 넘깁니다.
+ * 콜백 실행기는 Bean으로 등록하지 않고 이 서비스가 직접 만들고 종료합니다
+ * (Executor Bean이 있으면 Spring Boot의 applicationTaskExecutor 자동 설정이 꺼짐).
  * 
  * @author 개발자
  * @version 1.0
  */
 @Service  // Spring 서비스 컴포넌트임을 나타내는 어노테이션
-public class KafkaProducerService {
+public class KafkaProducerService implements DisposableBean {
 
     /**
      * 로깅을 위한 Logger 인스턴스
@@ -35,65 +66,190 @@ public class KafkaProducerService {
      * String 타입의 키와 값을 사용합니다.
      */
     private final KafkaTemplate<String, String> kafkaTemplate;
+
+    /**
+     * 바이트 배열 메시지 발행을 위한 템플릿
+     * 객체를 코덱으로 직접 직렬화하여 발행할 때 사용합니다.
+     */
+    private final KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
     
     /**
-     * 객체를 JSON으로 변환하기 위한 매퍼
+     * 토픽별 코덱을 결정하는 레지스트리
+     */
+    private final PayloadCodecRegistry payloadCodecRegistry;
+
+    /**
+     * 발행 콜백을 Producer 네트워크 스레드 밖에서 실행하기 위한 실행기
+     */
+    private final Executor callbackExecutor;
+
+    /**
+     * 이 서비스가 만든 플랫폼 스레드 콜백 실행기 (종료 시 정리, 외부에서 받았거나 가상 스레드 모드이면 null)
+     */
+    private final ThreadPoolTaskExecutor ownedCallbackExecutor;
+
+    /**
+     * 플랫폼 스레드 콜백 실행기의 대기열 자리 (대기열 크기만큼, 제한이 없는 실행기이면 null)
+     *
+     * 발행을 요청한 스레드가 자리를 확보한 뒤에 발행하고 콜백이 끝나면 돌려주므로,
+     * 네트워크 스레드가 콜백을 넘길 때는 대기열이 가득 차 있지 않습니다.
+     */
+    private final Semaphore callbackSlots;
+
+    /**
+     * 콜백 대기열이 가득 찼을 때 발행을 요청한 스레드가 자리를 기다리는 최대 시간
      */
-    private final ObjectMapper objectMapper;
+    private final Duration callbackWaitTimeout;
+
+    /**
+     * 생성자 주입을 통한 의존성 및 설정값 주입
+     *
+     * spring.threads.virtual.enabled=true 이고 Java 21 이상이면 콜백마다 가상 스레드를 사용하고,
+     * 그렇지 않으면 고정 크기 플랫폼 스레드 풀을 사용합니다.
+     */
+    @Autowired
+    public KafkaProducerService(KafkaTemplate<String, String> kafkaTemplate,
+                                KafkaTemplate<String, byte[]> byteArrayKafkaTemplate,
+                                PayloadCodecRegistry payloadCodecRegistry,
+                                Environment environment,
+                                @Value("${app.kafka.producer.callback-threads:4}") int callbackThreads,
+                                @Value("${app.kafka.producer.callback-queue-capacity:10000}") int callbackQueueCapacity,
+                                @Value("${app.kafka.producer.callback-wait-timeout:5s}") Duration callbackWaitTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.byteArrayKafkaTemplate = byteArrayKafkaTemplate;
+        this.payloadCodecRegistry = payloadCodecRegistry;
+        this.callbackWaitTimeout = callbackWaitTimeout;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("발행 콜백 실행기 초기화 중... (가상 스레드)");
+            this.callbackExecutor = new VirtualThreadTaskExecutor("kafka-callback-");
+            this.ownedCallbackExecutor = null;
+            this.callbackSlots = null;
+        } else {
+            this.ownedCallbackExecutor = platformCallbackExecutor(callbackThreads, callbackQueueCapacity);
+            this.callbackExecutor = ownedCallbackExecutor;
+            this.callbackSlots = new Semaphore(callbackQueueCapacity);
+        }
+    }
 
     /**
-     * 생성자 주입을 통한 의존성 주입
+     * 콜백 실행기를 직접 지정하는 생성자 (테스트와 벤치마크에서 사용, 실행기는 호출자가 종료)
      */
-    public KafkaProducerService(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
+    public KafkaProducerService(KafkaTemplate<String, String> kafkaTemplate,
+                                KafkaTemplate<String, byte[]> byteArrayKafkaTemplate,
+                                PayloadCodecRegistry payloadCodecRegistry,
+                                Executor callbackExecutor) {
         this.kafkaTemplate = kafkaTemplate;
-        this.objectMapper = objectMapper;
+        this.byteArrayKafkaTemplate = byteArrayKafkaTemplate;
+        this.payloadCodecRegistry = payloadCodecRegistry;
+        this.callbackExecutor = callbackExecutor;
+        this.ownedCallbackExecutor = null;
+        this.callbackSlots = null;
+        this.callbackWaitTimeout = Duration.ZERO;
+    }
+
+    /**
+     * 플랫폼 스레드 모드의 발행 콜백 실행기를 만듭니다.
+     *
+     * 발행 콜백은 기본적으로 Producer의 네트워크(I/O) 스레드에서 실행되므로,
+     * 로그 기록이나 호출자가 이어 붙인 응답 생성처럼 무거운 작업이 다음 배치 전송을 늦춥니다.
+     * 고정 크기 스레드 풀로 넘겨 네트워크 스레드를 바로 돌려줍니다.
+     * 
+     * 대기열이 가득 찼을 때 넘기는 스레드에서 실행(CallerRunsPolicy)하면 그 스레드가 네트워크 스레드이므로
+     * 피하려던 지연이 그대로 생기고, 콜백을 버리면 반환한 Future가 완료되지 않습니다.
+     * 그래서 대기열이 넘치지 않도록 발행 전에 발행을 요청한 스레드에서 대기열 자리(callbackSlots)를
+     * callback-wait-timeout 동안 기다려 확보하며, 거부 정책은 기본값(AbortPolicy)을 유지합니다.
+     *
+     * @param threads 콜백 스레드 수
+     * @param queueCapacity 실행을 기다릴 수 있는 최대 콜백 수
+     * @return 발행 콜백 실행기
+     */
+    private static ThreadPoolTaskExecutor platformCallbackExecutor(int threads, int queueCapacity) {
+        log.info("발행 콜백 실행기 초기화 중... (플랫폼 스레드: {}, 대기열: {})", threads, queueCapacity);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("kafka-callback-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
     }
 
     /**
      * 키와 함께 객체를 Kafka 토픽에 발행합니다.
      * 
-     * 이 메서드는 객체를 JSON 문자열로 변환한 후 Kafka에 발행합니다.
+     * 페이로드 타입과 토픽에 설정된 코덱에 따라 직렬화 방식을 선택합니다.
+     * - String: 이미 인코딩된 JSON으로 보고 그대로 발행 (따옴표로 감싸거나 이스케이프하지 않음),
+     *   바이너리 코덱 토픽이면 해당 코덱으로 변환하여 발행
+     * - byte[]: 그대로 발행
+     * - 그 외 객체: 토픽의 코덱 바이트로 직접 직렬화하여 발행 (중간 String 생성 없음)
+     * 바이너리 코덱으로 발행한 메시지에는 content-codec 헤더를 붙여 컨슈머가 코덱을 판별할 수 있게 합니다.
      * 키를 사용하여 특정 파티션에 메시지를 전송할 수 있습니다.
      * 
      * @param topic 발행할 토픽 이름
      * @param key 메시지 키 (파티션 분산에 사용, null 가능)
      * @param message 발행할 객체
+     * @return 브로커 ack 시 발행 결과로 완료되는 Future (실패 시 예외로 완료)
      */
-    public void sendMessage(String topic, String key, Object message) {
+    public CompletableFuture<SendReceipt> sendMessage(String topic, String key, Object message) {
         log.info("Kafka 메시지 발행 시작 - 토픽: {}, 키: {}, 메시지 타입: {}", 
                 topic, key, message.getClass().getSimpleName());
         
+        if (!acquireCallbackSlot()) {
+            return callbackQueueFull(topic);
+        }
         try {
-            // 객체를 JSON 문자열로 변환
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            log.debug("메시지 JSON 변환 완료: {}", jsonMessage);
-            
-            // Kafka에 메시지 발행 (비동기)
-            CompletableFuture<SendResult<String, String>> future = 
-                kafkaTemplate.send(topic, key, jsonMessage);
+            // Kafka에 메시지 발행 (비동기) - 페이로드 타입에 따라 직렬화 방식 선택
+            PayloadCodec codec = payloadCodecRegistry.forTopic(topic);
+            CompletableFuture<? extends SendResult<String, ?>> future;
+            if (message instanceof String text) {
+                if (codec.isTextual()) {
+                    // 이미 인코딩된 문자열은 그대로 발행 (JSON 재인코딩 없음)
+                    future = kafkaTemplate.send(topic, key, text);
+                } else {
+                    // 바이너리 코덱 토픽이면 JSON 문자열을 코덱 형식으로 변환
+                    future = sendEncoded(topic, key, codec, codec.fromJson(text));
+                }
+            } else if (message instanceof byte[] bytes) {
+                future = byteArrayKafkaTemplate.send(topic, key, bytes);
+            } else {
+                // 객체는 코덱 바이트로 직접 직렬화
+                future = sendEncoded(topic, key, codec, codec.encode(message));
+            }
             
-            // 발행 결과 처리 (비동기 콜백)
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
+            // 발행 결과 처리와 결과 변환을 하나의 콜백으로 네트워크 스레드 밖에서 실행
+            // (호출자가 이어 붙인 작업도 콜백 실행기에서 실행됨)
+            return future.handleAsync((result, ex) -> {
+                try {
+                    if (ex != null) {
+                        // 발행 실패
+                        log.error("메시지 발행 실패 - 토픽: {}, 키: {}, 오류: {}", 
+                                topic, key, ex.getMessage(), ex);
+                        throw asCompletionException(ex);
+                    }
                     // 발행 성공
-                    log.info("메시지 발행 성공 - 토픽: {}, 파티션: {}, 오프셋: {}, 메시지: {}", 
+                    log.info("메시지 발행 성공 - 토픽: {}, 파티션: {}, 오프셋: {}, 메시지 타입: {}", 
                             topic, 
                             result.getRecordMetadata().partition(),
                             result.getRecordMetadata().offset(),
-                            jsonMessage);
-                } else {
-                    // 발행 실패
-                    log.error("메시지 발행 실패 - 토픽: {}, 메시지: {}, 오류: {}", 
-                            topic, jsonMessage, ex.getMessage(), ex);
+                            message.getClass().getSimpleName());
+                    return SendReceipt.from(result.getRecordMetadata());
+                } finally {
+                    releaseCallbackSlot();
                 }
-            });
+            }, callbackExecutor);
             
         } catch (JsonProcessingException e) {
-            log.error("메시지 JSON 변환 실패 - 메시지: {}, 오류: {}", 
+            releaseCallbackSlot();
+            log.error("메시지 직렬화 실패 - 메시지: {}, 오류: {}", 
                     message, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
         } catch (Exception e) {
+            releaseCallbackSlot();
             log.error("메시지 발행 중 예상치 못한 오류 발생 - 토픽: {}, 오류: {}", 
                     topic, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
@@ -104,10 +260,11 @@ public class KafkaProducerService {
      * 
      * @param topic 발행할 토픽 이름
      * @param message 발행할 객체
+     * @return 브로커 ack 시 발행 결과로 완료되는 Future (실패 시 예외로 완료)
      */
-    public void sendMessage(String topic, Object message) {
+    public CompletableFuture<SendReceipt> sendMessage(String topic, Object message) {
         log.debug("키 없이 메시지 발행 - 토픽: {}", topic);
-        sendMessage(topic, null, message);
+        return sendMessage(topic, null, message);
     }
 
     /**
@@ -118,35 +275,189 @@ public class KafkaProducerService {
      * 
      * @param topic 발행할 토픽 이름
      * @param message 발행할 문자열 메시지
+     * @return 브로커 ack 시 발행 결과로 완료되는 Future (실패 시 예외로 완료)
      */
-    public void sendStringMessage(String topic, String message) {
+    public CompletableFuture<SendReceipt> sendStringMessage(String topic, String message) {
         log.info("문자열 메시지 발행 시작 - 토픽: {}, 메시지 길이: {}", 
                 topic, message != null ? message.length() : 0);
         
+        if (!acquireCallbackSlot()) {
+            return callbackQueueFull(topic);
+        }
         try {
             // 문자열 메시지를 직접 Kafka에 발행
             CompletableFuture<SendResult<String, String>> future = 
                 kafkaTemplate.send(topic, message);
             
-            // 발행 결과 처리 (비동기 콜백)
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
+            // 발행 결과 처리와 결과 변환을 하나의 콜백으로 네트워크 스레드 밖에서 실행
+            return future.handleAsync((result, ex) -> {
+                try {
+                    if (ex != null) {
+                        // 발행 실패
+                        log.error("문자열 메시지 발행 실패 - 토픽: {}, 메시지: {}, 오류: {}", 
+                                topic, message, ex.getMessage(), ex);
+                        throw asCompletionException(ex);
+                    }
                     // 발행 성공
                     log.info("문자열 메시지 발행 성공 - 토픽: {}, 파티션: {}, 오프셋: {}, 메시지: {}", 
                             topic, 
                             result.getRecordMetadata().partition(),
                             result.getRecordMetadata().offset(),
                             message);
-                } else {
-                    // 발행 실패
-                    log.error("문자열 메시지 발행 실패 - 토픽: {}, 메시지: {}, 오류: {}", 
-                            topic, message, ex.getMessage(), ex);
+                    return SendReceipt.from(result.getRecordMetadata());
+                } finally {
+                    releaseCallbackSlot();
                 }
-            });
+            }, callbackExecutor);
             
         } catch (Exception e) {
+            releaseCallbackSlot();
             log.error("문자열 메시지 발행 중 예상치 못한 오류 발생 - 토픽: {}, 오류: {}", 
                     topic, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 이미 인코딩된 문자열 메시지 목록을 Kafka 토픽에 일괄 발행합니다.
+     * 
+     * 대량 적재용으로, 메시지별 로그나 JSON 재변환 없이 모든 메시지를 바로 프로듀서에 넘깁니다.
+     * 토픽에 바이너리 코덱이 설정되어 있으면 각 메시지를 해당 코덱으로 변환하여 발행하며,
+     * 변환할 수 없는 메시지는 실패로 집계합니다.
+     * 프로듀서가 내부적으로 배치를 구성해 전송하며,
+     * 모든 메시지의 ack(또는 실패)가 확인되면 건수 요약으로 완료됩니다.
+     * 
+     * @param topic 발행할 토픽 이름
+     * @param messages 발행할 메시지 목록
+     * @return 모든 메시지의 결과가 확인되면 ack/실패 건수로 완료되는 Future
+     */
+    public CompletableFuture<BatchSendResult> sendBatch(String topic, List<KeyedMessage> messages) {
+        log.debug("메시지 일괄 발행 시작 - 토픽: {}, 메시지 수: {}", topic, messages.size());
+        
+        // 요약 콜백 하나의 대기열 자리를 먼저 확보 (확보하지 못하면 아무것도 발행하지 않음)
+        if (!acquireCallbackSlot()) {
+            return callbackQueueFull(topic);
+        }
+        AtomicLong acked = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[messages.size()];
+        PayloadCodec codec = payloadCodecRegistry.forTopic(topic);
+        
+        for (int i = 0; i < messages.size(); i++) {
+            KeyedMessage message = messages.get(i);
+            try {
+                CompletableFuture<? extends SendResult<String, ?>> future = codec.isTextual()
+                        ? kafkaTemplate.send(topic, message.key(), message.value())
+                        : sendEncoded(topic, message.key(), codec, codec.fromJson(message.value()));
+                // 건수 집계만 하는 가벼운 콜백이므로 메시지마다 스레드를 넘기지 않고 네트워크 스레드에서 실행
+                futures[i] = future.whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        acked.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                        log.debug("일괄 발행 중 메시지 발행 실패 - 토픽: {}, 오류: {}", topic, ex.getMessage());
+                    }
+                });
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                futures[i] = CompletableFuture.completedFuture(null);
+                log.debug("일괄 발행 중 메시지 전송 요청 실패 - 토픽: {}, 오류: {}", topic, e.getMessage());
+            }
+        }
+        
+        // 개별 실패는 건수로 집계하므로 allOf의 예외는 무시하고 요약을 반환 (콜백 실행기에서 완료)
+        return CompletableFuture.allOf(futures).handleAsync((ignored, ex) -> {
+            releaseCallbackSlot();
+            BatchSendResult result = new BatchSendResult(acked.get(), failed.get());
+            log.debug("메시지 일괄 발행 완료 - 토픽: {}, ack: {}, 실패: {}", topic, result.acked(), result.failed());
+            return result;
+        }, callbackExecutor);
+    }
+
+    /**
+     * 발행 콜백 하나를 실행할 대기열 자리를 확보합니다.
+     * 
+     * 발행을 요청한 스레드에서 호출하며, 대기열이 가득 차 있으면 callback-wait-timeout 동안 기다립니다.
+     * 네트워크 스레드가 콜백을 넘기는 시점에는 기다리지 않도록 발행 전에 자리를 확보합니다.
+     * 
+     * @return 확보했거나 대기열 제한이 없으면 true, 대기 시간 안에 자리가 나지 않거나 인터럽트되면 false
+     */
+    private boolean acquireCallbackSlot() {
+        if (callbackSlots == null) {
+            return true;
+        }
+        try {
+            return callbackSlots.tryAcquire(callbackWaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 콜백이 끝났거나 발행 요청이 실패하여 확보한 대기열 자리를 돌려줍니다.
+     */
+    private void releaseCallbackSlot() {
+        if (callbackSlots != null) {
+            callbackSlots.release();
+        }
+    }
+
+    /**
+     * 콜백 대기열 자리를 확보하지 못해 발행하지 않은 요청의 결과를 만듭니다.
+     * 
+     * @param <T> 결과 타입
+     * @param topic 발행할 토픽 이름
+     * @return 거부 예외로 완료된 Future
+     */
+    private <T> CompletableFuture<T> callbackQueueFull(String topic) {
+        log.warn("발행 콜백 대기열이 가득 차 발행하지 않았습니다 - 토픽: {}, 대기 시간: {}", topic, callbackWaitTimeout);
+        return CompletableFuture.failedFuture(
+                new RejectedExecutionException("발행 콜백 대기열이 가득 찼습니다 - 토픽: " + topic));
+    }
+
+    /**
+     * 발행 실패 예외를 콜백 밖으로 전달할 수 있도록 감쌉니다.
+     * 
+     * @param ex 발행 실패 예외
+     * @return 이미 CompletionException이면 그대로, 아니면 감싼 예외
+     */
+    private static CompletionException asCompletionException(Throwable ex) {
+        return ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+    }
+
+    /**
+     * 코덱으로 인코딩된 바이트를 발행합니다.
+     * 
+     * 바이너리 코덱이면 content-codec 헤더를 붙여 컨슈머가 헤더로 코덱을 판별할 수 있게 합니다.
+     * 
+     * @param topic 발행할 토픽 이름
+     * @param key 메시지 키 (null 가능)
+     * @param codec 인코딩에 사용한 코덱
+     * @param payload 인코딩된 바이트
+     * @return 발행 결과 Future
+     */
+    private CompletableFuture<SendResult<String, byte[]>> sendEncoded(String topic, String key,
+                                                                     PayloadCodec codec, byte[] payload) {
+        log.debug("메시지 코덱 변환 완료 - 코덱: {}, 바이트 수: {}", codec.name(), payload.length);
+        if (codec.isTextual()) {
+            return byteArrayKafkaTemplate.send(topic, key, payload);
+        }
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, payload);
+        record.headers().add(PayloadCodecs.HEADER, codec.name().getBytes(StandardCharsets.UTF_8));
+        return byteArrayKafkaTemplate.send(record);
+    }
+
+    /**
+     * 애플리케이션 종료 시 이 서비스가 만든 콜백 실행기를 종료합니다.
+     *
+     * 이미 넘겨받은 콜백은 끝까지 실행한 뒤 종료합니다.
+     */
+    @Override
+    public void destroy() {
+        if (ownedCallbackExecutor != null) {
+            log.info("발행 콜백 실행기 종료 중...");
+            ownedCallbackExecutor.shutdown();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,335 @@
+package com.example.kafkaredis.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 배치 레코드를 키 기준으로 여러 워커 스레드에 분배하는 디스패처
+ *
+ * 파티션 수보다 많은 스레드로 레코드를 처리하기 위해 사용합니다.
+ * - 같은 키의 레코드는 항상 같은 워커(단일 스레드)에 배정되므로 키별 순서가 보장됩니다.
+ * - 레코드별 처리 완료 여부를 추적하여, 배치에서 연속으로 완료된 구간까지만 커밋할 수 있도록
+ *   첫 번째 미완료 레코드의 인덱스를 계산합니다.
+ * - 어떤 키의 레코드가 실패하면 같은 배치 안의 그 키의 이후 레코드는 순서 보장을 위해 처리하지 않습니다.
+ * - 워커별 묶음 처리(dispatchChunks)를 사용하면 워커마다 배정된 레코드를 한 번에 넘겨
+ *   Redis 파이프라인 등으로 왕복 횟수를 줄일 수 있습니다.
+ * - 대기 시간이 지나면 배치를 포기하고 아직 시작하지 않은 작업을 취소합니다.
+ *   포기한 배치의 레코드는 재전달되므로, 이미 실행 중인 작업 외에는 재전달분과 겹쳐 실행되지 않습니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class KeyOrderedDispatcher implements DisposableBean {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedDispatcher.class);
+
+    /**
+     * 레코드 하나를 처리하는 핸들러
+     *
+     * @param <V> 레코드 값의 타입
+     */
+    @FunctionalInterface
+    public interface RecordHandler<V> {
+        /**
+         * 레코드를 처리합니다. 예외가 발생하면 해당 레코드는 미완료로 간주됩니다.
+         *
+         * @param record 처리할 레코드
+         * @throws Exception 처리 실패 시
+         */
+        void handle(ConsumerRecord<String, V> record) throws Exception;
+    }
+
+    /**
+     * 한 워커에 배정된 레코드를 한 번에 처리하는 핸들러
+     *
+     * @param <V> 레코드 값의 타입
+     */
+    @FunctionalInterface
+    public interface ChunkHandler<V> {
+        /**
+         * 워커에 배정된 레코드를 배치 순서대로 처리합니다. 예외가 발생하면 묶음 전체가 미완료로 간주됩니다.
+         *
+         * @param records 처리할 레코드 목록 (같은 키의 레코드는 배치 순서 유지)
+         * @throws Exception 처리 실패 시
+         */
+        void handle(List<ConsumerRecord<String, V>> records) throws Exception;
+    }
+
+    /**
+     * 키별 순서를 보장하기 위한 단일 스레드 워커 목록 (가상 스레드 모드이면 워커마다 가상 스레드 하나)
+     */
+    private final ExecutorService[] workers;
+
+    /**
+     * 배치 하나의 처리 완료를 기다리는 최대 시간
+     */
+    private final Duration timeout;
+
+    /**
+     * 생성자 주입을 통한 설정값 주입
+     *
+     * spring.threads.virtual.enabled=true 이고 Java 21 이상이면 워커마다 가상 스레드를 사용하고,
+     * 그렇지 않으면 플랫폼 스레드를 사용합니다. 어느 쪽이든 워커는 단일 스레드이므로 키별 순서는 같습니다.
+     *
+     * @param workerCount 워커 스레드 수 (키 샤드 수)
+     * @param timeout 배치 하나의 처리 완료를 기다리는 최대 시간
+     * @param environment 가상 스레드 사용 여부를 확인할 환경
+     */
+    @Autowired
+    public KeyOrderedDispatcher(@Value("${app.kafka.dispatcher.workers:8}") int workerCount,
+                                @Value("${app.kafka.dispatcher.timeout:30s}") Duration timeout,
+                                Environment environment) {
+        this(workerCount, timeout, Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * 플랫폼 스레드 워커를 사용하는 생성자 (테스트에서 사용)
+     *
+     * @param workerCount 워커 스레드 수 (키 샤드 수)
+     * @param timeout 배치 하나의 처리 완료를 기다리는 최대 시간
+     */
+    public KeyOrderedDispatcher(int workerCount, Duration timeout) {
+        this(workerCount, timeout, false);
+    }
+
+    private KeyOrderedDispatcher(int workerCount, Duration timeout, boolean virtualThreads) {
+        this.workers = new ExecutorService[workerCount];
+        this.timeout = timeout;
+        for (int i = 0; i < workerCount; i++) {
+            String threadName = "kafka-dispatch-" + i;
+            this.workers[i] = virtualThreads
+                    ? Executors.newSingleThreadExecutor(
+                            new VirtualThreadTaskExecutor(threadName + "-").getVirtualThreadFactory())
+                    : Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName));
+        }
+        log.info("키 기반 디스패처 초기화 완료 - 워커 수: {}, 배치 대기 시간: {}, 가상 스레드: {}",
+                workerCount, timeout, virtualThreads);
+    }
+
+    /**
+     * 배치 레코드를 키 기준으로 워커에 분배하고 모든 처리가 끝날 때까지 기다립니다.
+     *
+     * 반환값은 배치에서 처음으로 완료되지 않은 레코드의 인덱스입니다.
+     * 그 앞의 레코드는 모두 처리가 끝났으므로 커밋해도 안전하며,
+     * 모든 레코드가 완료되었으면 records.size()를 반환합니다.
+     *
+     * @param <V> 레코드 값의 타입
+     * @param records 처리할 레코드 목록
+     * @param handler 레코드 처리 핸들러
+     * @return 처음으로 완료되지 않은 레코드의 인덱스 (모두 완료 시 records.size())
+     */
+    public <V> int dispatch(List<ConsumerRecord<String, V>> records, RecordHandler<V> handler) {
+        boolean[] completed = dispatchAll(records, handler);
+        for (int i = 0; i < completed.length; i++) {
+            if (!completed[i]) {
+                return i;
+            }
+        }
+        return records.size();
+    }
+
+    /**
+     * 배치 레코드를 키 기준으로 워커에 분배하고 레코드별 완료 여부를 반환합니다.
+     *
+     * @param <V> 레코드 값의 타입
+     * @param records 처리할 레코드 목록
+     * @param handler 레코드 처리 핸들러
+     * @return records와 같은 순서의 레코드별 완료 여부
+     */
+    public <V> boolean[] dispatchAll(List<ConsumerRecord<String, V>> records, RecordHandler<V> handler) {
+        DispatchedBatch batch = new DispatchedBatch(records.size(), records.size());
+        // 배치 안에서 실패한 키 (같은 키의 이후 레코드는 순서 보장을 위해 처리하지 않음)
+        Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+
+        log.debug("레코드 분배 시작 - 레코드 수: {}, 워커 수: {}", records.size(), workers.length);
+        for (int i = 0; i < records.size(); i++) {
+            int index = i;
+            ConsumerRecord<String, V> record = records.get(i);
+            batch.submit(workers[shardOf(record)], () -> {
+                if (record.key() != null && failedKeys.contains(record.key())) {
+                    log.debug("앞선 레코드 실패로 처리를 건너뜁니다 - 키: {}, 오프셋: {}",
+                            record.key(), record.offset());
+                    return;
+                }
+                try {
+                    handler.handle(record);
+                    batch.complete(index);
+                } catch (Exception e) {
+                    if (record.key() != null) {
+                        failedKeys.add(record.key());
+                    }
+                    log.error("레코드 처리 실패 - 토픽: {}, 파티션: {}, 오프셋: {}, 키: {}, 오류: {}",
+                            record.topic(), record.partition(), record.offset(), record.key(),
+                            e.getMessage(), e);
+                }
+            });
+        }
+
+        return batch.await(timeout);
+    }
+
+    /**
+     * 배치 레코드를 키 기준으로 워커에 나눈 뒤 워커마다 한 번에 처리하고 레코드별 완료 여부를 반환합니다.
+     *
+     * 워커마다 핸들러를 한 번만 호출하므로, 핸들러가 묶음을 하나의 Redis 파이프라인으로 보내면
+     * 병렬 처리하면서도 왕복 횟수는 워커 수 이하로 유지됩니다.
+     * 묶음 처리가 실패하면 그 묶음의 레코드는 모두 미완료로 표시됩니다.
+     *
+     * @param <V> 레코드 값의 타입
+     * @param records 처리할 레코드 목록
+     * @param handler 워커별 묶음 처리 핸들러
+     * @return records와 같은 순서의 레코드별 완료 여부
+     */
+    public <V> boolean[] dispatchChunks(List<ConsumerRecord<String, V>> records, ChunkHandler<V> handler) {
+        List<List<Integer>> indexesByWorker = new ArrayList<>(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            indexesByWorker.add(new ArrayList<>());
+        }
+        for (int i = 0; i < records.size(); i++) {
+            indexesByWorker.get(shardOf(records.get(i))).add(i);
+        }
+        int chunkCount = (int) indexesByWorker.stream().filter(indexes -> !indexes.isEmpty()).count();
+        DispatchedBatch batch = new DispatchedBatch(records.size(), chunkCount);
+
+        log.debug("레코드 묶음 분배 시작 - 레코드 수: {}, 묶음 수: {}", records.size(), chunkCount);
+        for (int worker = 0; worker < workers.length; worker++) {
+            List<Integer> indexes = indexesByWorker.get(worker);
+            if (indexes.isEmpty()) {
+                continue;
+            }
+            List<ConsumerRecord<String, V>> chunk = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                chunk.add(records.get(index));
+            }
+            int workerIndex = worker;
+            batch.submit(workers[worker], () -> {
+                try {
+                    handler.handle(chunk);
+                    indexes.forEach(batch::complete);
+                } catch (Exception e) {
+                    log.error("레코드 묶음 처리 실패 - 워커: {}, 레코드 수: {}, 오류: {}",
+                            workerIndex, chunk.size(), e.getMessage(), e);
+                }
+            });
+        }
+
+        return batch.await(timeout);
+    }
+
+    /**
+     * 레코드가 처리될 워커 번호를 계산합니다.
+     *
+     * 키가 있으면 키의 해시로, 키가 없으면 파티션과 오프셋으로 분산합니다.
+     *
+     * @param record 대상 레코드
+     * @return 워커 번호
+     */
+    private int shardOf(ConsumerRecord<String, ?> record) {
+        int hash = record.key() != null
+                ? record.key().hashCode()
+                : 31 * record.partition() + Long.hashCode(record.offset());
+        return Math.floorMod(hash, workers.length);
+    }
+
+    /**
+     * 애플리케이션 종료 시 워커 스레드를 정리합니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        log.info("키 기반 디스패처 종료 중...");
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        for (ExecutorService worker : workers) {
+            if (!worker.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                worker.shutdownNow();
+            }
+        }
+        log.info("키 기반 디스패처가 종료되었습니다");
+    }
+
+    /**
+     * 디스패치한 배치 하나의 진행 상태
+     *
+     * 대기 시간이 지나면 배치를 포기(fence)하여, 아직 시작하지 않은 작업은 취소하고
+     * 취소 직전에 꺼내진 작업도 실행하지 않도록 합니다.
+     */
+    private static final class DispatchedBatch {
+
+        private final boolean[] completed;
+
+        private final CountDownLatch latch;
+
+        private final List<Future<?>> tasks;
+
+        private final AtomicBoolean abandoned = new AtomicBoolean();
+
+        DispatchedBatch(int recordCount, int taskCount) {
+            this.completed = new boolean[recordCount];
+            this.latch = new CountDownLatch(taskCount);
+            this.tasks = new ArrayList<>(taskCount);
+        }
+
+        void submit(ExecutorService worker, Runnable task) {
+            tasks.add(worker.submit(() -> {
+                try {
+                    if (!abandoned.get()) {
+                        task.run();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            }));
+        }
+
+        void complete(int index) {
+            completed[index] = true;
+        }
+
+        boolean[] await(Duration timeout) {
+            try {
+                if (!latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    abandon();
+                    log.warn("배치 처리 대기 시간 초과로 남은 작업을 취소합니다 - 대기 시간: {}, 남은 작업 수: {}",
+                            timeout, latch.getCount());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abandon();
+                log.warn("배치 처리 대기 중 인터럽트 발생으로 남은 작업을 취소합니다");
+            }
+            // 포기한 뒤에도 실행 중이던 작업이 기록할 수 있으므로 현재 상태의 복사본을 반환
+            return completed.clone();
+        }
+
+        private void abandon() {
+            abandoned.set(true);
+            // 실행 중인 작업은 Redis 호출 도중일 수 있으므로 인터럽트하지 않음
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+}
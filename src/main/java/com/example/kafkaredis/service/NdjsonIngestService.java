@@ -0,0 +1,156 @@
+package com.example.kafkaredis.service;
+
+import com.example.kafkaredis.dto.BatchSendResult;
+import com.example.kafkaredis.dto.IngestSummary;
+import com.example.kafkaredis.dto.KeyedMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * NDJSON(줄 단위 JSON) 스트림을 Kafka에 대량 적재하는 서비스 클래스
+ *
+ * 이 클래스는 다음과 같은 기능을 제공합니다:
+ * - 요청 본문 전체를 메모리에 올리지 않고 한 줄씩 읽어서 처리
+ * - 일정 줄 수(chunk-size)마다 KafkaProducerService.sendBatch로 일괄 발행
+ * - 동시에 ack를 기다리는 chunk 수를 제한하여 프로듀서 버퍼가 넘치지 않도록 조절
+ * - 전체 ack/실패 건수 요약 반환
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Service  // Spring 서비스 컴포넌트임을 나타내는 어노테이션
+public class NdjsonIngestService {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(NdjsonIngestService.class);
+
+    /**
+     * Kafka 메시지 일괄 발행을 위한 서비스
+     */
+    private final KafkaProducerService kafkaProducerService;
+
+    /**
+     * 키 필드 추출을 위한 매퍼
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * sendBatch 한 번에 넘길 줄 수
+     */
+    private final int chunkSize;
+
+    /**
+     * 동시에 ack를 기다릴 수 있는 최대 chunk 수
+     */
+    private final int maxInFlightChunks;
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public NdjsonIngestService(KafkaProducerService kafkaProducerService, ObjectMapper objectMapper,
+                               @Value("${app.kafka.ingest.chunk-size:1000}") int chunkSize,
+                               @Value("${app.kafka.ingest.max-in-flight-chunks:8}") int maxInFlightChunks) {
+        this.kafkaProducerService = kafkaProducerService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxInFlightChunks = maxInFlightChunks;
+    }
+
+    /**
+     * NDJSON 스트림을 읽어 각 줄을 Kafka 메시지로 발행합니다.
+     *
+     * 각 줄은 이미 인코딩된 JSON으로 보고 그대로 발행하며, 빈 줄은 건너뜁니다.
+     * keyField가 지정되면 각 줄의 해당 최상위 필드 값을 메시지 키로 사용하고,
+     * 이때 JSON으로 읽을 수 없는 줄은 실패로 집계합니다.
+     *
+     * @param topic 발행할 토픽 이름
+     * @param keyField 메시지 키로 사용할 JSON 필드 이름 (null이면 키 없이 발행)
+     * @param body NDJSON 요청 본문 스트림
+     * @return 읽은 줄 수와 ack/실패 건수 요약
+     * @throws IOException 요청 본문을 읽는 중 오류가 발생한 경우
+     */
+    public IngestSummary ingest(String topic, String keyField, InputStream body) throws IOException {
+        log.info("NDJSON 적재 시작 - 토픽: {}, 키 필드: {}, chunk 크기: {}", topic, keyField, chunkSize);
+        long startNanos = System.nanoTime();
+
+        long lines = 0;
+        long invalid = 0;
+        BatchSendResult total = BatchSendResult.EMPTY;
+        Deque<CompletableFuture<BatchSendResult>> inFlight = new ArrayDeque<>();
+        List<KeyedMessage> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines++;
+
+                String key = null;
+                if (keyField != null) {
+                    try {
+                        key = extractKey(line, keyField);
+                    } catch (IOException e) {
+                        invalid++;
+                        log.debug("JSON으로 읽을 수 없는 줄을 건너뜁니다 - 줄 번호: {}, 오류: {}", lines, e.getMessage());
+                        continue;
+                    }
+                }
+                chunk.add(new KeyedMessage(key, line));
+
+                if (chunk.size() >= chunkSize) {
+                    inFlight.add(kafkaProducerService.sendBatch(topic, chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                    // 대기 중인 chunk가 너무 많으면 가장 오래된 chunk의 ack를 기다림 (backpressure)
+                    while (inFlight.size() >= maxInFlightChunks) {
+                        total = total.plus(inFlight.poll().join());
+                    }
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            inFlight.add(kafkaProducerService.sendBatch(topic, chunk));
+        }
+        while (!inFlight.isEmpty()) {
+            total = total.plus(inFlight.poll().join());
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        IngestSummary summary = new IngestSummary(topic, lines, total.acked(), total.failed() + invalid, elapsedMillis);
+        log.info("NDJSON 적재 완료 - 토픽: {}, 줄 수: {}, ack: {}, 실패: {}, 소요시간: {}ms",
+                topic, summary.lines(), summary.acked(), summary.failed(), summary.elapsedMillis());
+        return summary;
+    }
+
+    /**
+     * JSON 줄에서 최상위 키 필드 값을 추출합니다.
+     *
+     * @param line JSON 문자열
+     * @param keyField 키 필드 이름
+     * @return 필드 값 (필드가 없거나 null이면 null)
+     * @throws IOException JSON으로 읽을 수 없는 경우
+     */
+    private String extractKey(String line, String keyField) throws IOException {
+        JsonNode value = objectMapper.readTree(line).get(keyField);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
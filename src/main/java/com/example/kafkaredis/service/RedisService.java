@@ -1,13 +1,53 @@
 package com.example.kafkaredis.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.example.kafkaredis.backpressure.RedisHealthMonitor;
+import com.example.kafkaredis.cache.NearCache;
+import com.example.kafkaredis.cache.NearCacheInvalidationBus;
+import com.example.kafkaredis.cache.SingleFlight;
+import com.example.kafkaredis.codec.PayloadCodec;
+import com.example.kafkaredis.codec.PayloadCodecRegistry;
+import com.example.kafkaredis.dedupe.DedupeToken;
+import com.example.kafkaredis.dedupe.EventPosition;
+import com.example.kafkaredis.dedupe.WriteOutcome;
+import com.example.kafkaredis.metrics.RedisOperationMetrics;
+import com.example.kafkaredis.metrics.RedisOperationMetrics.Operation;
+import com.example.kafkaredis.metrics.RedisOperationMetrics.Outcome;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Redis 캐시 관리를 담당하는 서비스 클래스
@@ -18,6 +58,15 @@ import java.time.Duration;
  * - 만료 시간이 있는 데이터 저장
  * - 키 존재 여부 확인 및 삭제
  * - 사용자 이벤트 전용 캐싱 기능
+ * - 파이프라인을 이용한 사용자 이벤트 일괄 캐싱
+ * - 키 접두사별 코덱(JSON/Smile/CBOR) 선택 및 저장된 값의 코덱 자동 판별
+ * - 조회 결과를 메모리에 보관하는 근접 캐시(선택) 및 쓰기 시 무효화 (다른 인스턴스에도 전파)
+ * - 여러 키 일괄 조회(MGET) 및 일괄 저장(MSET / 파이프라인 SET EX)
+ * - 캐시 미스 시 로더 호출을 하나로 합치는 getOrLoad (JVM 내 single-flight + Redis 락)
+ * - 사용자 이벤트 쓰기의 지연 시간과 성공 여부 기록 (백프레셔 판단용)
+ * - 중복 확인과 사용자 이벤트 쓰기를 하나의 Lua 스크립트로 원자적으로 수행 (멱등 컨슈머)
+ * - 만료 시간 분산(TTL jitter)과 만료 직전 확률적 조기 갱신(XFetch)
+ * - 단건 연산의 Redis 호출 시간, 객체 변환 시간, 결과(성공/히트/미스/실패) 메트릭 기록
  * 
  * @author 개발자
  * @version 1.0
@@ -30,6 +79,80 @@ public class RedisService {
      */
     private static final Logger log = LoggerFactory.getLogger(RedisService.class);
 
+    /**
+     * 사용자 이벤트 캐시 키의 접두사 (user:event:{userId})
+     */
+    private static final String USER_EVENT_KEY_PREFIX = "user:event:";
+
+    /**
+     * 사용자별로 마지막으로 반영한 이벤트 위치("파티션:오프셋")를 저장하는 키의 접두사 (user:position:{userId})
+     */
+    private static final String USER_EVENT_POSITION_KEY_PREFIX = "user:position:";
+
+    /**
+     * 사용자 이벤트 캐시의 만료 시간 (24시간)
+     */
+    private static final Duration USER_EVENT_TTL = Duration.ofHours(24);
+
+    /**
+     * 일괄 조회 시 이 개수 이상이면 객체 변환을 병렬로 수행
+     */
+    private static final int PARALLEL_DECODE_THRESHOLD = 64;
+
+    /**
+     * getOrLoad 적재 락 키의 접두사
+     */
+    private static final String LOAD_LOCK_KEY_PREFIX = "lock:load:";
+
+    /**
+     * getOrLoad 로더 소요 시간(조기 갱신 계산용)을 저장하는 키의 접두사
+     */
+    private static final String LOAD_DELTA_KEY_PREFIX = "load:delta:";
+
+    /**
+     * 락을 잡은 요청의 토큰과 일치할 때만 락을 해제하는 스크립트
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * 순서 확인, 중복 확인, 값 쓰기를 한 번에 수행하는 스크립트
+     * 
+     * KEYS[1]: 값을 쓸 키, KEYS[2]: 사용자별 반영 위치 키, KEYS[3]: 중복 확인 키 (없으면 중복 확인 생략)
+     * ARGV[1]: 값, ARGV[2]: 값 만료 시간(ms),
+     * ARGV[3]: 이벤트의 원본 파티션 (순서 확인을 생략하면 빈 문자열), ARGV[4]: 이벤트의 원본 오프셋,
+     * ARGV[5]: 오프셋 방식의 해시 필드 (이벤트 ID 방식이면 빈 문자열), ARGV[6]: 중복 확인 오프셋,
+     * ARGV[7]: 중복 확인 기록 유지 시간(ms)
+     * 적용했으면 1, 중복이면 0, 같은 파티션의 더 뒤 오프셋이 이미 반영되어 있으면 -1을 반환합니다.
+     * 
+     * 세 키는 모두 사용자 ID 해시 태그({userId})를 포함하므로 Redis 클러스터에서도 같은 슬롯에 놓입니다.
+     * 파이프라인에서는 스크립트 본문 대신 SHA1(EVALSHA)로 호출하고, 서버에 없으면 한 번 적재한 뒤 다시 보냅니다.
+     */
+    private static final RedisScript<Long> USER_EVENT_WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[3] ~= '' then "
+            + "  local position = redis.call('get', KEYS[2]) "
+            + "  if position then "
+            + "    local sep = string.find(position, ':', 1, true) "
+            + "    if sep and string.sub(position, 1, sep - 1) == ARGV[3] "
+            + "        and tonumber(string.sub(position, sep + 1)) > tonumber(ARGV[4]) then return -1 end "
+            + "  end "
+            + "end "
+            + "if KEYS[3] then "
+            + "  if ARGV[5] == '' then "
+            + "    if not redis.call('set', KEYS[3], ARGV[6], 'NX', 'PX', ARGV[7]) then return 0 end "
+            + "  else "
+            + "    local last = redis.call('hget', KEYS[3], ARGV[5]) "
+            + "    if last and tonumber(last) >= tonumber(ARGV[6]) then return 0 end "
+            + "    redis.call('hset', KEYS[3], ARGV[5], ARGV[6]) "
+            + "    redis.call('pexpire', KEYS[3], ARGV[7]) "
+            + "  end "
+            + "end "
+            + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+            + "if ARGV[3] ~= '' then redis.call('set', KEYS[2], ARGV[3] .. ':' .. ARGV[4], 'PX', ARGV[2]) end "
+            + "return 1",
+            Long.class);
+
     /**
      * Redis와의 모든 상호작용을 담당하는 템플릿
      * String 타입의 키와 값을 사용합니다.
@@ -41,12 +164,112 @@ public class RedisService {
      */
     private final ObjectMapper objectMapper;
 
+    /**
+     * 바이너리 코덱으로 인코딩된 값을 저장하고 조회하기 위한 템플릿
+     */
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    /**
+     * 키 접두사별 코덱을 결정하는 레지스트리
+     */
+    private final PayloadCodecRegistry payloadCodecRegistry;
+
+    /**
+     * 조회 결과를 보관하는 L1 근접 캐시
+     */
+    private final NearCache nearCache;
+
+    /**
+     * 쓰기 시 로컬 및 다른 인스턴스의 근접 캐시를 무효화하는 버스
+     */
+    private final NearCacheInvalidationBus nearCacheInvalidationBus;
+
+    /**
+     * MGET/MSET 한 번, 또는 파이프라인 한 번에 보낼 최대 키 수
+     */
+    private final int bulkChunkSize;
+
+    /**
+     * getOrLoad 적재 락의 최대 유지 시간 (로더가 이 시간 안에 끝난다고 가정)
+     */
+    private final Duration loadLockLease;
+
+    /**
+     * 락을 얻지 못한 요청이 다른 요청의 적재 결과를 기다리는 최대 시간
+     */
+    private final Duration loadLockWait;
+
+    /**
+     * 락을 얻지 못한 요청이 적재 결과를 확인하는 간격
+     */
+    private final Duration loadPollInterval;
+
+    /**
+     * JVM 안에서 같은 키의 동시 적재를 하나로 합치기 위한 single-flight
+     */
+    private final SingleFlight<String> loadFlight = new SingleFlight<>();
+
+    /**
+     * 만료 시간을 최대 몇 퍼센트까지 줄여 분산시킬지 (0이면 분산하지 않음)
+     */
+    private final int ttlJitterPercent;
+
+    /**
+     * 조기 갱신 강도 (XFetch beta, 클수록 일찍 갱신하며 0이면 조기 갱신하지 않음)
+     */
+    private final double earlyRefreshBeta;
+
+    /**
+     * 조기 갱신을 백그라운드에서 실행할 실행기
+     */
+    private final Executor refreshExecutor;
+
+    /**
+     * 이 인스턴스에서 조기 갱신 중인 키
+     */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 사용자 이벤트 쓰기의 지연 시간과 오류율을 추적하는 모니터
+     */
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    /**
+     * 연산별 지연 시간과 결과를 기록하는 메트릭
+     */
+    private final RedisOperationMetrics redisOperationMetrics;
+
     /**
      * 생성자 주입을 통한 의존성 주입
      */
-    public RedisService(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    public RedisService(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                        RedisTemplate<String, byte[]> binaryRedisTemplate,
+                        PayloadCodecRegistry payloadCodecRegistry, NearCache nearCache,
+                        NearCacheInvalidationBus nearCacheInvalidationBus,
+                        @Value("${app.redis.bulk.chunk-size:500}") int bulkChunkSize,
+                        @Value("${app.redis.load.lock-lease:10s}") Duration loadLockLease,
+                        @Value("${app.redis.load.lock-wait:3s}") Duration loadLockWait,
+                        @Value("${app.redis.load.poll-interval:50ms}") Duration loadPollInterval,
+                        @Value("${app.redis.ttl-jitter-percent:10}") int ttlJitterPercent,
+                        @Value("${app.redis.load.early-refresh-beta:1.0}") double earlyRefreshBeta,
+                        @Qualifier("applicationTaskExecutor") Executor refreshExecutor,
+                        RedisHealthMonitor redisHealthMonitor,
+                        RedisOperationMetrics redisOperationMetrics) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.payloadCodecRegistry = payloadCodecRegistry;
+        this.nearCache = nearCache;
+        this.nearCacheInvalidationBus = nearCacheInvalidationBus;
+        this.bulkChunkSize = bulkChunkSize;
+        this.loadLockLease = loadLockLease;
+        this.loadLockWait = loadLockWait;
+        this.loadPollInterval = loadPollInterval;
+        this.ttlJitterPercent = ttlJitterPercent;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.refreshExecutor = refreshExecutor;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.redisOperationMetrics = redisOperationMetrics;
     }
 
     /**
@@ -61,11 +284,16 @@ public class RedisService {
         log.debug("Redis에 문자열 저장 시작 - 키: {}, 값 길이: {}", 
                 key, value != null ? value.length() : 0);
         
+        long start = System.nanoTime();
         try {
             redisTemplate.opsForValue().set(key, value);
+            redisOperationMetrics.record(Operation.SET, key, Outcome.SUCCESS, start);
             log.debug("Redis에 문자열 저장 완료 - 키: {}, 값: {}", key, value);
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.SET, key, start, e);
             log.error("Redis에 문자열 저장 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+        } finally {
+            nearCacheInvalidationBus.invalidate(key);
         }
     }
 
@@ -82,27 +310,42 @@ public class RedisService {
         log.debug("Redis에 만료시간이 있는 문자열 저장 시작 - 키: {}, 값 길이: {}, 만료시간: {}", 
                 key, value != null ? value.length() : 0, expiration);
         
+        long start = System.nanoTime();
         try {
             redisTemplate.opsForValue().set(key, value, expiration);
+            redisOperationMetrics.record(Operation.SET_WITH_TTL, key, Outcome.SUCCESS, start);
             log.debug("Redis에 만료시간이 있는 문자열 저장 완료 - 키: {}, 값: {}, 만료시간: {}", 
                     key, value, expiration);
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.SET_WITH_TTL, key, start, e);
             log.error("Redis에 만료시간이 있는 문자열 저장 실패 - 키: {}, 만료시간: {}, 오류: {}", 
                     key, expiration, e.getMessage(), e);
+        } finally {
+            nearCacheInvalidationBus.invalidate(key);
         }
     }
 
     /**
      * Redis에서 문자열 값을 조회합니다.
      * 
+     * 근접 캐시가 활성화되어 있으면 캐싱된 값을 먼저 반환합니다.
+     * 
      * @param key 조회할 키
      * @return 저장된 문자열 값, 키가 존재하지 않으면 null
      */
     public String getString(String key) {
         log.debug("Redis에서 문자열 조회 시작 - 키: {}", key);
         
+        long start = System.nanoTime();
         try {
-            String value = redisTemplate.opsForValue().get(key);
+            String value = nearCached(key, String.class);
+            if (value != null) {
+                redisOperationMetrics.record(Operation.GET, key, Outcome.NEAR_HIT, start);
+                log.debug("근접 캐시에서 문자열 조회 성공 - 키: {}", key);
+                return value;
+            }
+            value = readRemote(redisTemplate, key, String.class);
+            redisOperationMetrics.record(Operation.GET, key, value != null ? Outcome.HIT : Outcome.MISS, start);
             if (value != null) {
                 log.debug("Redis에서 문자열 조회 성공 - 키: {}, 값: {}", key, value);
             } else {
@@ -110,6 +353,7 @@ public class RedisService {
             }
             return value;
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.GET, key, start, e);
             log.error("Redis에서 문자열 조회 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
             return null;
         }
@@ -119,6 +363,7 @@ public class RedisService {
      * 객체를 JSON으로 변환하여 Redis에 저장합니다.
      * 
      * 만료 시간이 없는 영구 저장입니다.
+     * 키 접두사에 바이너리 코덱(Smile/CBOR)이 설정되어 있으면 해당 코덱으로 저장합니다.
      * 
      * @param <T> 저장할 객체의 타입
      * @param key 저장할 키
@@ -128,21 +373,39 @@ public class RedisService {
     public <T> void setObject(String key, T object, Class<T> clazz) {
         log.debug("Redis에 객체 저장 시작 - 키: {}, 객체 타입: {}", key, clazz.getSimpleName());
         
+        long start = System.nanoTime();
         try {
+            PayloadCodec codec = payloadCodecRegistry.forRedisKey(key);
+            if (!codec.isTextual()) {
+                // 바이너리 코덱으로 직렬화하여 저장 (변환 시간과 Redis 호출 시간을 따로 기록)
+                byte[] encoded = codec.encode(object);
+                start = redisOperationMetrics.recordSerialization(Operation.SET_OBJECT, key, start);
+                binaryRedisTemplate.opsForValue().set(key, encoded);
+                redisOperationMetrics.record(Operation.SET_OBJECT, key, Outcome.SUCCESS, start);
+                log.debug("Redis에 객체 저장 완료 - 키: {}, 코덱: {}, 바이트 수: {}", key, codec.name(), encoded.length);
+                return;
+            }
+            
             // 객체를 JSON 문자열로 변환
             String jsonValue = objectMapper.writeValueAsString(object);
+            start = redisOperationMetrics.recordSerialization(Operation.SET_OBJECT, key, start);
             log.debug("객체 JSON 변환 완료 - 키: {}, JSON 길이: {}", key, jsonValue.length());
             
             // Redis에 저장
             redisTemplate.opsForValue().set(key, jsonValue);
+            redisOperationMetrics.record(Operation.SET_OBJECT, key, Outcome.SUCCESS, start);
             log.debug("Redis에 객체 저장 완료 - 키: {}, 객체 타입: {}", key, clazz.getSimpleName());
             
-        } catch (JsonProcessingException e) {
-            log.error("객체 JSON 변환 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
+        } catch (IOException e) {
+            redisOperationMetrics.recordSerializationError(Operation.SET_OBJECT, key, start, e);
+            log.error("객체 변환 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
                     key, clazz.getSimpleName(), e.getMessage(), e);
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.SET_OBJECT, key, start, e);
             log.error("Redis에 객체 저장 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
                     key, clazz.getSimpleName(), e.getMessage(), e);
+        } finally {
+            nearCacheInvalidationBus.invalidate(key);
         }
     }
 
@@ -150,6 +413,7 @@ public class RedisService {
      * 만료 시간과 함께 객체를 JSON으로 변환하여 Redis에 저장합니다.
      * 
      * 지정된 시간 후에 자동으로 삭제됩니다.
+     * 키 접두사에 바이너리 코덱(Smile/CBOR)이 설정되어 있으면 해당 코덱으로 저장합니다.
      * 
      * @param <T> 저장할 객체의 타입
      * @param key 저장할 키
@@ -161,28 +425,51 @@ public class RedisService {
         log.debug("Redis에 만료시간이 있는 객체 저장 시작 - 키: {}, 객체 타입: {}, 만료시간: {}", 
                 key, clazz.getSimpleName(), expiration);
         
+        long start = System.nanoTime();
         try {
+            PayloadCodec codec = payloadCodecRegistry.forRedisKey(key);
+            if (!codec.isTextual()) {
+                // 바이너리 코덱으로 직렬화하여 만료시간과 함께 저장 (변환 시간과 Redis 호출 시간을 따로 기록)
+                byte[] encoded = codec.encode(object);
+                start = redisOperationMetrics.recordSerialization(Operation.SET_OBJECT_WITH_TTL, key, start);
+                binaryRedisTemplate.opsForValue().set(key, encoded, expiration);
+                redisOperationMetrics.record(Operation.SET_OBJECT_WITH_TTL, key, Outcome.SUCCESS, start);
+                log.debug("Redis에 만료시간이 있는 객체 저장 완료 - 키: {}, 코덱: {}, 바이트 수: {}, 만료시간: {}", 
+                        key, codec.name(), encoded.length, expiration);
+                return;
+            }
+            
             // 객체를 JSON 문자열로 변환
             String jsonValue = objectMapper.writeValueAsString(object);
+            start = redisOperationMetrics.recordSerialization(Operation.SET_OBJECT_WITH_TTL, key, start);
             log.debug("객체 JSON 변환 완료 - 키: {}, JSON 길이: {}", key, jsonValue.length());
             
             // Redis에 만료시간과 함께 저장
             redisTemplate.opsForValue().set(key, jsonValue, expiration);
+            redisOperationMetrics.record(Operation.SET_OBJECT_WITH_TTL, key, Outcome.SUCCESS, start);
             log.debug("Redis에 만료시간이 있는 객체 저장 완료 - 키: {}, 객체 타입: {}, 만료시간: {}", 
                     key, clazz.getSimpleName(), expiration);
             
-        } catch (JsonProcessingException e) {
-            log.error("객체 JSON 변환 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
+        } catch (IOException e) {
+            redisOperationMetrics.recordSerializationError(Operation.SET_OBJECT_WITH_TTL, key, start, e);
+            log.error("객체 변환 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
                     key, clazz.getSimpleName(), e.getMessage(), e);
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.SET_OBJECT_WITH_TTL, key, start, e);
             log.error("Redis에 만료시간이 있는 객체 저장 실패 - 키: {}, 객체 타입: {}, 만료시간: {}, 오류: {}", 
                     key, clazz.getSimpleName(), expiration, e.getMessage(), e);
+        } finally {
+            nearCacheInvalidationBus.invalidate(key);
         }
     }
 
     /**
      * Redis에서 JSON 문자열을 조회하여 객체로 변환합니다.
      * 
+     * 키 접두사에 바이너리 코덱이 설정되어 있으면 바이트로 조회한 뒤
+     * 저장된 값의 매직 바이트로 코덱을 판별하여 변환합니다 (기존 JSON 값도 읽을 수 있음).
+     * 근접 캐시가 활성화되어 있으면 캐싱된 원본 값을 사용하여 변환합니다.
+     * 
      * @param <T> 조회할 객체의 타입
      * @param key 조회할 키
      * @param clazz 객체의 클래스 타입
@@ -191,21 +478,56 @@ public class RedisService {
     public <T> T getObject(String key, Class<T> clazz) {
         log.debug("Redis에서 객체 조회 시작 - 키: {}, 객체 타입: {}", key, clazz.getSimpleName());
         
+        long start = System.nanoTime();
         try {
+            if (!payloadCodecRegistry.forRedisKey(key).isTextual()) {
+                byte[] data = nearCached(key, byte[].class);
+                if (data != null) {
+                    start = redisOperationMetrics.record(Operation.GET_OBJECT, key, Outcome.NEAR_HIT, start);
+                } else {
+                    data = readRemote(binaryRedisTemplate, key, byte[].class);
+                    start = redisOperationMetrics.record(Operation.GET_OBJECT, key, data != null ? Outcome.HIT : Outcome.MISS, start);
+                }
+                if (data == null) {
+                    log.debug("Redis에서 객체 조회 결과 없음 - 키: {}", key);
+                    return null;
+                }
+                // 저장된 값의 코덱을 판별하여 객체로 변환
+                PayloadCodec codec = payloadCodecRegistry.detect(data);
+                T object = codec.decode(data, clazz);
+                redisOperationMetrics.recordSerialization(Operation.GET_OBJECT, key, start);
+                log.debug("객체 변환 완료 - 키: {}, 코덱: {}, 객체 타입: {}", key, codec.name(), clazz.getSimpleName());
+                return object;
+            }
+            
             // Redis에서 JSON 문자열 조회
-            String jsonValue = redisTemplate.opsForValue().get(key);
+            String jsonValue = nearCached(key, String.class);
+            if (jsonValue != null) {
+                start = redisOperationMetrics.record(Operation.GET_OBJECT, key, Outcome.NEAR_HIT, start);
+            } else {
+                jsonValue = readRemote(redisTemplate, key, String.class);
+                start = redisOperationMetrics.record(Operation.GET_OBJECT, key, jsonValue != null ? Outcome.HIT : Outcome.MISS, start);
+            }
             if (jsonValue != null) {
                 log.debug("Redis에서 JSON 조회 성공 - 키: {}, JSON 길이: {}", key, jsonValue.length());
                 
                 // JSON을 객체로 변환
                 T object = objectMapper.readValue(jsonValue, clazz);
+                redisOperationMetrics.recordSerialization(Operation.GET_OBJECT, key, start);
                 log.debug("JSON 객체 변환 완료 - 키: {}, 객체 타입: {}", key, clazz.getSimpleName());
                 return object;
             } else {
                 log.debug("Redis에서 객체 조회 결과 없음 - 키: {}", key);
                 return null;
             }
+        } catch (IOException e) {
+            // 조회는 성공했으므로 Redis 호출은 이미 기록됨
+            redisOperationMetrics.recordSerializationError(Operation.GET_OBJECT, key, start, e);
+            log.error("객체 변환 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
+                    key, clazz.getSimpleName(), e.getMessage(), e);
+            return null;
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.GET_OBJECT, key, start, e);
             log.error("Redis에서 객체 조회 실패 - 키: {}, 객체 타입: {}, 오류: {}", 
                     key, clazz.getSimpleName(), e.getMessage(), e);
             return null;
@@ -221,12 +543,15 @@ public class RedisService {
     public boolean exists(String key) {
         log.debug("Redis 키 존재 여부 확인 - 키: {}", key);
         
+        long start = System.nanoTime();
         try {
             Boolean exists = redisTemplate.hasKey(key);
             boolean result = Boolean.TRUE.equals(exists);
+            redisOperationMetrics.record(Operation.EXISTS, key, result ? Outcome.HIT : Outcome.MISS, start);
             log.debug("Redis 키 존재 여부 확인 결과 - 키: {}, 존재: {}", key, result);
             return result;
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.EXISTS, key, start, e);
             log.error("Redis 키 존재 여부 확인 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
             return false;
         }
@@ -240,11 +565,16 @@ public class RedisService {
     public void delete(String key) {
         log.debug("Redis 키 삭제 시작 - 키: {}", key);
         
+        long start = System.nanoTime();
         try {
             redisTemplate.delete(key);
+            redisOperationMetrics.record(Operation.DELETE, key, Outcome.SUCCESS, start);
             log.debug("Redis 키 삭제 완료 - 키: {}", key);
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.DELETE, key, start, e);
             log.error("Redis 키 삭제 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+        } finally {
+            nearCacheInvalidationBus.invalidate(key);
         }
     }
 
@@ -257,12 +587,18 @@ public class RedisService {
     public void setExpiration(String key, Duration expiration) {
         log.debug("Redis 키 만료시간 설정 시작 - 키: {}, 만료시간: {}", key, expiration);
         
+        long start = System.nanoTime();
         try {
             redisTemplate.expire(key, expiration);
+            redisOperationMetrics.record(Operation.EXPIRE, key, Outcome.SUCCESS, start);
             log.debug("Redis 키 만료시간 설정 완료 - 키: {}, 만료시간: {}", key, expiration);
         } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.EXPIRE, key, start, e);
             log.error("Redis 키 만료시간 설정 실패 - 키: {}, 만료시간: {}, 오류: {}", 
                     key, expiration, e.getMessage(), e);
+        } finally {
+            // 근접 캐시 항목이 새 만료 시간보다 오래 남지 않도록 무효화
+            nearCacheInvalidationBus.invalidate(key);
         }
     }
 
@@ -270,18 +606,363 @@ public class RedisService {
      * 사용자 이벤트를 Redis에 캐싱합니다.
      * 
      * 사용자 ID를 기반으로 한 고유한 키를 생성하고, 24시간 동안 저장합니다.
+     * 한꺼번에 캐싱된 키가 한꺼번에 만료되지 않도록 만료 시간은 ttl-jitter-percent만큼 무작위로 줄어듭니다.
      * 이 메서드는 Kafka에서 수신한 사용자 이벤트를 캐싱하는 데 사용됩니다.
      * 
      * @param userId 사용자 ID
      * @param eventData 이벤트 데이터 (JSON 문자열)
+     * @return 저장에 성공하면 true, 실패하면 false
      */
-    public void cacheUserEvent(String userId, String eventData) {
-        String cacheKey = "user:event:" + userId;
+    public boolean cacheUserEvent(String userId, String eventData) {
+        String cacheKey = userEventKey(userId);
         log.info("사용자 이벤트 캐싱 시작 - 사용자ID: {}, 캐시키: {}", userId, cacheKey);
         
-        // 24시간 동안 캐싱
-        setString(cacheKey, eventData, Duration.ofHours(24));
-        log.info("사용자 이벤트 캐싱 완료 - 사용자ID: {}, 캐시키: {}", userId, cacheKey);
+        // 24시간 동안 캐싱 (키 접두사에 바이너리 코덱이 설정되어 있으면 해당 코덱으로 변환하여 저장)
+        PayloadCodec codec = payloadCodecRegistry.forRedisKey(cacheKey);
+        Duration ttl = withJitter(USER_EVENT_TTL);
+        byte[] encoded = null;
+        if (!codec.isTextual()) {
+            long encodeStart = System.nanoTime();
+            encoded = encodeUserEvent(codec, eventData);
+            redisOperationMetrics.recordSerialization(Operation.CACHE_USER_EVENT, cacheKey, encodeStart);
+        }
+        
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            if (encoded == null) {
+                redisTemplate.opsForValue().set(cacheKey, eventData, ttl);
+            } else {
+                binaryRedisTemplate.opsForValue().set(cacheKey, encoded, ttl);
+            }
+            success = true;
+            redisOperationMetrics.record(Operation.CACHE_USER_EVENT, cacheKey, Outcome.SUCCESS, start);
+            log.info("사용자 이벤트 캐싱 완료 - 사용자ID: {}, 캐시키: {}", userId, cacheKey);
+            return true;
+        } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.CACHE_USER_EVENT, cacheKey, start, e);
+            log.error("사용자 이벤트 캐싱 실패 - 사용자ID: {}, 캐시키: {}, 오류: {}", 
+                    userId, cacheKey, e.getMessage(), e);
+            return false;
+        } finally {
+            redisHealthMonitor.record(System.nanoTime() - start, success);
+            nearCacheInvalidationBus.invalidate(cacheKey);
+        }
+    }
+
+    /**
+     * 여러 사용자 이벤트를 하나의 파이프라인으로 Redis에 캐싱합니다.
+     * 
+     * 모든 user:event:{userId} SETEX 명령을 파이프라인에 모아 한 번에 전송하므로
+     * 이벤트 수와 관계없이 네트워크 왕복은 한 번만 발생합니다.
+     * 값이 null인 이벤트(툼스톤)는 건너뛰며, 만료 시간은 키마다 따로 분산됩니다.
+     * 
+     * @param eventsByUserId 사용자 ID별 이벤트 데이터 (JSON 문자열)
+     * @return 파이프라인 실행에 성공하면 true, 실패하면 false
+     */
+    public boolean cacheUserEvents(Map<String, String> eventsByUserId) {
+        if (eventsByUserId == null || eventsByUserId.isEmpty()) {
+            log.debug("일괄 캐싱할 사용자 이벤트가 없습니다");
+            return true;
+        }
+        log.info("사용자 이벤트 일괄 캐싱 시작 - 이벤트 수: {}", eventsByUserId.size());
+        
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        PayloadCodec codec = payloadCodecRegistry.forRedisKey(USER_EVENT_KEY_PREFIX);
+        
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            // 모든 SETEX 명령을 파이프라인으로 묶어 한 번에 전송
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, String> event : eventsByUserId.entrySet()) {
+                    if (event.getValue() == null) {
+                        log.debug("값이 없는 사용자 이벤트는 건너뜁니다 - 사용자ID: {}", event.getKey());
+                        continue;
+                    }
+                    connection.stringCommands().setEx(
+                            serializer.serialize(userEventKey(event.getKey())),
+                            withJitter(USER_EVENT_TTL).getSeconds(),
+                            codec.isTextual()
+                                    ? serializer.serialize(event.getValue())
+                                    : encodeUserEvent(codec, event.getValue()));
+                }
+                return null;
+            });
+            success = true;
+            redisOperationMetrics.record(Operation.CACHE_USER_EVENTS, USER_EVENT_KEY_PREFIX, Outcome.SUCCESS, start);
+            log.info("사용자 이벤트 일괄 캐싱 완료 - 이벤트 수: {}", eventsByUserId.size());
+            return true;
+        } catch (Exception e) {
+            redisOperationMetrics.recordError(Operation.CACHE_USER_EVENTS, USER_EVENT_KEY_PREFIX, start, e);
+            log.error("사용자 이벤트 일괄 캐싱 실패 - 이벤트 수: {}, 오류: {}", 
+                    eventsByUserId.size(), e.getMessage(), e);
+            return false;
+        } finally {
+            redisHealthMonitor.record(System.nanoTime() - start, success);
+            nearCacheInvalidationBus.invalidate(eventsByUserId.keySet().stream()
+                    .map(RedisService::userEventKey)
+                    .toList());
+        }
+    }
+
+    /**
+     * 중복이 아닐 때만 사용자 이벤트를 Redis에 캐싱합니다.
+     * 
+     * 중복 확인, 중복 기록, 이벤트 쓰기를 하나의 Lua 스크립트로 실행하므로 왕복 한 번에 원자적으로 처리되며,
+     * 이미 적용된 레코드는 Redis 쓰기 없이 바로 DUPLICATE로 반환됩니다.
+     * 값이 null인 이벤트(툼스톤)는 쓰지 않고 APPLIED로 반환합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param eventData 이벤트 데이터 (JSON 문자열)
+     * @param token 레코드의 중복 확인 토큰
+     * @return 적용, 중복, 실패 중 하나
+     */
+    public WriteOutcome cacheUserEventOnce(String userId, String eventData, DedupeToken token) {
+        Map<String, String> events = Collections.singletonMap(userId, eventData);
+        Map<String, WriteOutcome> outcomes = writeUserEvents(events, Collections.singletonMap(userId, token),
+                Collections.emptyMap(), Operation.CACHE_USER_EVENT, userEventKey(userId));
+        return outcomes.getOrDefault(userId, WriteOutcome.FAILED);
+    }
+
+    /**
+     * 같은 사용자의 더 최신 이벤트가 반영되어 있지 않을 때만 사용자 이벤트를 Redis에 캐싱합니다.
+     * 
+     * 재시도 토픽에서 늦게 처리된 이벤트가 그 사이 원래 토픽에서 반영된 이후 이벤트를 덮어쓰지 않도록,
+     * 사용자별로 마지막으로 반영한 이벤트 위치(user:position:{userId})를 값과 함께 기록하고
+     * 같은 파티션의 더 뒤 오프셋이 이미 반영되어 있으면 쓰지 않고 STALE로 반환합니다.
+     * 파티션이 다르면 (파티션 수를 늘려 사용자의 파티션이 바뀐 경우) 순서를 비교할 수 없으므로 그대로 씁니다.
+     * 토큰이 있으면 중복 확인도 같은 스크립트에서 수행합니다 (왕복 1회, 원자적).
+     * 값이 null인 이벤트(툼스톤)는 쓰지 않고 APPLIED로 반환합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param eventData 이벤트 데이터 (JSON 문자열)
+     * @param position 이벤트의 원래 토픽 위치
+     * @param token 레코드의 중복 확인 토큰, 중복 확인을 하지 않으면 null
+     * @return 적용, 중복, 이전 이벤트, 실패 중 하나
+     */
+    public WriteOutcome cacheUserEventInOrder(String userId, String eventData, EventPosition position,
+                                              DedupeToken token) {
+        Map<String, String> events = Collections.singletonMap(userId, eventData);
+        WriteOutcome outcome = writeUserEvents(events,
+                token != null ? Collections.singletonMap(userId, token) : Collections.emptyMap(),
+                Collections.singletonMap(userId, position), Operation.CACHE_USER_EVENT, userEventKey(userId))
+                .getOrDefault(userId, WriteOutcome.FAILED);
+        if (outcome == WriteOutcome.STALE) {
+            log.info("더 최신 이벤트가 이미 반영되어 캐싱을 건너뜁니다 - 사용자ID: {}, 위치: {}@{}",
+                    userId, position.partition(), position.offset());
+        }
+        return outcome;
+    }
+
+    /**
+     * 여러 사용자 이벤트를 중복이 아닐 때만 하나의 파이프라인으로 Redis에 캐싱합니다.
+     * 
+     * 사용자마다 중복 확인과 쓰기를 수행하는 스크립트를 파이프라인으로 묶어 한 번에 전송합니다.
+     * 오프셋 방식 토큰은 같은 파티션 안에서 오프셋 순서대로 실행되어야 하므로,
+     * 호출자는 eventsByUserId를 파티션별 오프셋 오름차순으로 전달해야 합니다.
+     * 
+     * @param eventsByUserId 사용자 ID별 이벤트 데이터 (JSON 문자열)
+     * @param tokensByUserId 사용자 ID별 중복 확인 토큰
+     * @return 사용자 ID별 결과 (파이프라인이 실패하면 모든 사용자가 FAILED)
+     */
+    public Map<String, WriteOutcome> cacheUserEventsOnce(Map<String, String> eventsByUserId,
+                                                         Map<String, DedupeToken> tokensByUserId) {
+        return writeUserEvents(eventsByUserId, tokensByUserId, Collections.emptyMap(),
+                Operation.CACHE_USER_EVENTS, USER_EVENT_KEY_PREFIX);
+    }
+
+    /**
+     * 사용자 이벤트 쓰기 스크립트를 하나의 파이프라인으로 실행합니다.
+     * 
+     * 토큰이 없는 사용자는 중복 확인을, 위치가 없는 사용자는 순서 확인을 생략합니다.
+     * 파이프라인 전체를 하나의 호출로 보고 시간을 기록하며, 실패한 사용자가 있으면 오류로 기록합니다.
+     * 
+     * @param eventsByUserId 사용자 ID별 이벤트 데이터 (JSON 문자열)
+     * @param tokensByUserId 사용자 ID별 중복 확인 토큰
+     * @param positionsByUserId 사용자 ID별 이벤트 위치
+     * @param operation 호출 시간을 기록할 연산
+     * @param metricKey 호출 시간의 접두사 태그를 구할 키
+     * @return 사용자 ID별 결과 (파이프라인이 실패하면 모든 사용자가 FAILED)
+     */
+    private Map<String, WriteOutcome> writeUserEvents(Map<String, String> eventsByUserId,
+                                                      Map<String, DedupeToken> tokensByUserId,
+                                                      Map<String, EventPosition> positionsByUserId,
+                                                      Operation operation, String metricKey) {
+        Map<String, WriteOutcome> outcomes = new LinkedHashMap<>();
+        List<String> userIds = new ArrayList<>();
+        for (Map.Entry<String, String> event : eventsByUserId.entrySet()) {
+            if (event.getValue() == null) {
+                log.debug("값이 없는 사용자 이벤트는 건너뜁니다 - 사용자ID: {}", event.getKey());
+                outcomes.put(event.getKey(), WriteOutcome.APPLIED);
+            } else {
+                userIds.add(event.getKey());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return outcomes;
+        }
+        
+        long start = System.nanoTime();
+        boolean success = false;
+        Exception failure = null;
+        try {
+            List<Object> results;
+            try {
+                results = pipelineUserEventWrites(userIds, eventsByUserId, tokensByUserId, positionsByUserId);
+            } catch (Exception e) {
+                if (!isNoScriptError(e)) {
+                    throw e;
+                }
+                // 서버에 스크립트가 없으면 (재시작, SCRIPT FLUSH) 적재한 뒤 한 번 더 보냄
+                log.info("사용자 이벤트 쓰기 스크립트를 Redis에 적재합니다 - SHA1: {}",
+                        USER_EVENT_WRITE_SCRIPT.getSha1());
+                redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                        .scriptLoad(USER_EVENT_WRITE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+                results = pipelineUserEventWrites(userIds, eventsByUserId, tokensByUserId, positionsByUserId);
+            }
+            success = true;
+            
+            int skipped = 0;
+            int failed = 0;
+            for (int i = 0; i < userIds.size(); i++) {
+                WriteOutcome outcome = writeOutcome(i < results.size() ? results.get(i) : null);
+                outcomes.put(userIds.get(i), outcome);
+                skipped += outcome == WriteOutcome.DUPLICATE || outcome == WriteOutcome.STALE ? 1 : 0;
+                failed += outcome == WriteOutcome.FAILED ? 1 : 0;
+            }
+            log.info("사용자 이벤트 조건부 캐싱 완료 - 이벤트 수: {}, 건너뜀: {}, 실패: {}",
+                    userIds.size(), skipped, failed);
+            if (failed > 0) {
+                failure = new IllegalStateException("사용자 이벤트 쓰기 스크립트의 반환값을 알 수 없습니다 - 실패: " + failed);
+            }
+        } catch (Exception e) {
+            failure = e;
+            log.error("사용자 이벤트 조건부 캐싱 실패 - 이벤트 수: {}, 오류: {}", 
+                    userIds.size(), e.getMessage(), e);
+            userIds.forEach(userId -> outcomes.put(userId, WriteOutcome.FAILED));
+        } finally {
+            if (failure != null) {
+                redisOperationMetrics.recordError(operation, metricKey, start, failure);
+            } else {
+                redisOperationMetrics.record(operation, metricKey, Outcome.SUCCESS, start);
+            }
+            redisHealthMonitor.record(System.nanoTime() - start, success);
+            nearCacheInvalidationBus.invalidate(userIds.stream()
+                    .map(RedisService::userEventKey)
+                    .toList());
+        }
+        return outcomes;
+    }
+
+    /**
+     * 사용자마다 쓰기 스크립트를 EVALSHA로 호출하는 파이프라인을 실행합니다.
+     * 
+     * @param userIds 쓸 사용자 ID 목록 (값이 null이 아닌 사용자)
+     * @param eventsByUserId 사용자 ID별 이벤트 데이터 (JSON 문자열)
+     * @param tokensByUserId 사용자 ID별 중복 확인 토큰
+     * @param positionsByUserId 사용자 ID별 이벤트 위치
+     * @return 사용자 순서대로 스크립트 반환값
+     */
+    private List<Object> pipelineUserEventWrites(List<String> userIds, Map<String, String> eventsByUserId,
+                                                 Map<String, DedupeToken> tokensByUserId,
+                                                 Map<String, EventPosition> positionsByUserId) {
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        PayloadCodec codec = payloadCodecRegistry.forRedisKey(USER_EVENT_KEY_PREFIX);
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                DedupeToken token = tokensByUserId.get(userId);
+                EventPosition position = positionsByUserId.get(userId);
+                String eventData = eventsByUserId.get(userId);
+                List<byte[]> keysAndArgs = new ArrayList<>(List.of(
+                        serializer.serialize(userEventKey(userId)),
+                        serializer.serialize(userEventPositionKey(userId))));
+                if (token != null) {
+                    keysAndArgs.add(serializer.serialize(token.redisKey()));
+                }
+                int numKeys = keysAndArgs.size();
+                keysAndArgs.add(codec.isTextual()
+                        ? serializer.serialize(eventData)
+                        : encodeUserEvent(codec, eventData));
+                keysAndArgs.add(serializer.serialize(String.valueOf(withJitter(USER_EVENT_TTL).toMillis())));
+                // 위치가 없으면 순서 확인 생략
+                keysAndArgs.add(serializer.serialize(
+                        position != null ? String.valueOf(position.partition()) : ""));
+                keysAndArgs.add(serializer.serialize(
+                        String.valueOf(position != null ? position.offset() : 0L)));
+                // 토큰이 없으면 KEYS[3]이 없어 중복 확인 생략
+                keysAndArgs.add(serializer.serialize(
+                        token != null && token.isOffsetBased() ? token.field() : ""));
+                keysAndArgs.add(serializer.serialize(
+                        String.valueOf(token != null ? token.offset() : 0L)));
+                keysAndArgs.add(serializer.serialize(
+                        String.valueOf(token != null ? token.window().toMillis() : 0L)));
+                connection.scriptingCommands().evalSha(USER_EVENT_WRITE_SCRIPT.getSha1(), ReturnType.INTEGER,
+                        numKeys, keysAndArgs.toArray(new byte[0][]));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 서버에 스크립트가 없어 EVALSHA가 실패한 오류인지 확인합니다.
+     * 
+     * @param error 발생한 예외
+     * @return NOSCRIPT 오류이면 true
+     */
+    private static boolean isNoScriptError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 이벤트 캐시 키를 만듭니다.
+     * 
+     * 사용자 ID를 해시 태그로 감싸, 같은 사용자의 위치/중복 확인 키와 같은 클러스터 슬롯에 놓이도록 합니다.
+     * 
+     * @param userId 사용자 ID
+     * @return user:event:{userId}
+     */
+    private static String userEventKey(String userId) {
+        return USER_EVENT_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    /**
+     * 사용자별 마지막 반영 위치 키를 만듭니다.
+     * 
+     * @param userId 사용자 ID
+     * @return user:position:{userId}
+     */
+    private static String userEventPositionKey(String userId) {
+        return USER_EVENT_POSITION_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    /**
+     * 사용자 이벤트 쓰기 스크립트의 반환값을 결과로 변환합니다.
+     * 
+     * 예상하지 못한 반환값(null, 다른 타입이나 값)은 중복으로 보고 건너뛰면 이벤트를 잃으므로 실패로 처리합니다.
+     * 
+     * @param result 스크립트 반환값 (1: 적용, 0: 중복, -1: 이전 이벤트)
+     * @return 쓰기 결과
+     */
+    private static WriteOutcome writeOutcome(Object result) {
+        if (result instanceof Long value) {
+            if (value == 1L) {
+                return WriteOutcome.APPLIED;
+            }
+            if (value == 0L) {
+                return WriteOutcome.DUPLICATE;
+            }
+            if (value == -1L) {
+                return WriteOutcome.STALE;
+            }
+        }
+        log.warn("사용자 이벤트 쓰기 스크립트의 반환값을 알 수 없어 실패로 처리합니다 - 반환값: {}", result);
+        return WriteOutcome.FAILED;
     }
 
     /**
@@ -291,10 +972,12 @@ public class RedisService {
      * @return 캐싱된 이벤트 데이터, 없으면 null
      */
     public String getUserEvent(String userId) {
-        String cacheKey = "user:event:" + userId;
+        String cacheKey = userEventKey(userId);
         log.debug("사용자 이벤트 조회 시작 - 사용자ID: {}, 캐시키: {}", userId, cacheKey);
         
-        String eventData = getString(cacheKey);
+        String eventData = payloadCodecRegistry.forRedisKey(cacheKey).isTextual()
+                ? getString(cacheKey)
+                : getBinaryAsJson(cacheKey);
         if (eventData != null) {
             log.debug("사용자 이벤트 조회 성공 - 사용자ID: {}", userId);
         } else {
@@ -303,4 +986,621 @@ public class RedisService {
         
         return eventData;
     }
+
+    /**
+     * 키의 값을 조회하고, 없으면 로더로 만들어 저장한 뒤 반환합니다.
+     * 
+     * 인기 키가 만료되는 순간 동시에 들어온 요청이 모두 로더를 호출하지 않도록 합니다.
+     * - JVM 안: 같은 키의 동시 미스는 하나의 적재로 합쳐지고 나머지는 그 결과를 기다립니다.
+     * - 클러스터: 적재하는 요청은 짧은 Redis 락(SET NX PX)을 잡으며, 락을 얻지 못한 요청은
+     *   lock-wait 동안 값이 저장되기를 기다립니다.
+     * 기다리는 시간이 지나면 더 기다리지 않고 직접 로더를 호출합니다.
+     * 
+     * 조기 갱신(early-refresh-beta > 0)이 켜져 있으면 값과 함께 남은 TTL과 지난 적재 소요 시간을
+     * 한 번의 파이프라인으로 읽고, XFetch 방식으로 만료가 가까울수록(적재가 오래 걸릴수록) 높은 확률로
+     * 현재 값을 반환하면서 백그라운드에서 값을 미리 다시 적재합니다.
+     * 적재한 값의 만료 시간은 ttl-jitter-percent만큼 무작위로 줄어듭니다.
+     * 
+     * 근접 캐시에 있는 값은 Redis를 거치지 않고 반환합니다 (조기 갱신은 근접 캐시 항목이 만료된 뒤 판단).
+     * Redis 조회가 실패하면 미스로 보지 않고, 락과 저장 없이 JVM 안에서 같은 키의 적재를 하나로 합쳐
+     * 로더 결과를 반환하므로 Redis 장애 중에도 동시 요청이 모두 로더를 호출하지 않습니다.
+     * 
+     * @param key 조회할 키
+     * @param loader 값이 없을 때 값을 만드는 로더 (null을 반환하면 저장하지 않음)
+     * @param ttl 적재한 값의 만료 시간
+     * @return 저장된 값 또는 새로 적재한 값, 로더가 실패하면 null
+     */
+    public String getOrLoad(String key, Supplier<String> loader, Duration ttl) {
+        // 근접 캐시에 있으면 Redis 조회와 조기 갱신 판단 없이 바로 반환
+        String nearCached = nearCache.get(key, String.class);
+        if (nearCached != null) {
+            return nearCached;
+        }
+        
+        try {
+            if (earlyRefreshBeta > 0) {
+                LoadedEntry entry = readLoadedEntry(key);
+                if (entry.value() != null) {
+                    if (shouldRefreshEarly(entry)) {
+                        refreshInBackground(key, loader, ttl);
+                    }
+                    return entry.value();
+                }
+            } else {
+                String cached = readThrough(redisTemplate, key, String.class);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        } catch (Exception e) {
+            // 조회 실패를 미스로 보면 Redis 장애 동안 모든 요청이 락을 시도하고 로더를 호출하게 됨
+            log.warn("Redis 조회 실패, 저장 없이 적재합니다 - 키: {}, 오류: {}", key, e.getMessage());
+            return loadWithoutRedis(key, loader);
+        }
+        log.debug("캐시 미스, 적재 시작 - 키: {}", key);
+        
+        try {
+            // JVM 안의 다른 요청이 적재 중이면 락 대기와 적재 시간만큼 기다림
+            return loadFlight.run(key, () -> loadWithLock(key, loader, ttl), loadLockWait.plus(loadLockLease));
+        } catch (TimeoutException e) {
+            log.warn("다른 요청의 적재 대기 시간 초과, 직접 적재합니다 - 키: {}", key);
+            return loadAndStore(key, loader, ttl);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("적재 대기 중 인터럽트 발생 - 키: {}", key);
+            return null;
+        } catch (Exception e) {
+            log.error("캐시 적재 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 여러 키의 문자열 값을 한 번에 조회합니다.
+     * 
+     * 키 목록을 bulk chunk-size 단위로 나누어 MGET으로 조회하므로
+     * 키 수가 많아도 네트워크 왕복은 chunk 수만큼만 발생합니다.
+     * 근접 캐시가 활성화되어 있으면 캐싱된 키는 Redis에 묻지 않습니다.
+     * 
+     * @param keys 조회할 키 목록 (중복은 한 번만 조회)
+     * @return 값이 있는 키만 담은 맵 (요청한 키 순서 유지), 실패 시 빈 맵
+     */
+    public Map<String, String> getStrings(Collection<String> keys) {
+        log.debug("Redis에서 문자열 일괄 조회 시작 - 키 수: {}", keys.size());
+        
+        try {
+            Map<String, String> values = readManyThrough(redisTemplate, new ArrayList<>(new LinkedHashSet<>(keys)), String.class);
+            log.debug("Redis에서 문자열 일괄 조회 완료 - 요청 키 수: {}, 조회된 키 수: {}", keys.size(), values.size());
+            return values;
+        } catch (Exception e) {
+            log.error("Redis에서 문자열 일괄 조회 실패 - 키 수: {}, 오류: {}", keys.size(), e.getMessage(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 여러 키의 문자열 값을 한 번에 저장합니다.
+     * 
+     * 만료 시간이 없으면 MSET으로, 만료 시간이 있으면 SET EX 명령을 파이프라인으로 묶어 저장하며
+     * 둘 다 bulk chunk-size 단위로 나누어 전송합니다.
+     * 
+     * @param values 저장할 키와 값
+     * @param expiration 만료 시간 (null이면 만료 없음)
+     * @return 모든 chunk 저장에 성공하면 true, 실패하면 false
+     */
+    public boolean setStrings(Map<String, String> values, Duration expiration) {
+        if (values == null || values.isEmpty()) {
+            log.debug("일괄 저장할 값이 없습니다");
+            return true;
+        }
+        log.debug("Redis에 문자열 일괄 저장 시작 - 키 수: {}, 만료시간: {}", values.size(), expiration);
+        
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        List<Map.Entry<String, String>> entries = new ArrayList<>(values.entrySet());
+        
+        try {
+            for (int from = 0; from < entries.size(); from += bulkChunkSize) {
+                List<Map.Entry<String, String>> chunk = entries.subList(from, Math.min(from + bulkChunkSize, entries.size()));
+                if (expiration == null) {
+                    Map<String, String> chunkValues = new LinkedHashMap<>();
+                    chunk.forEach(entry -> chunkValues.put(entry.getKey(), entry.getValue()));
+                    redisTemplate.opsForValue().multiSet(chunkValues);
+                } else {
+                    // MSET은 만료 시간을 지정할 수 없으므로 SET EX 명령을 파이프라인으로 묶어 전송
+                    Expiration ttl = Expiration.from(expiration);
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (Map.Entry<String, String> entry : chunk) {
+                            connection.stringCommands().set(
+                                    serializer.serialize(entry.getKey()),
+                                    serializer.serialize(entry.getValue()),
+                                    ttl,
+                                    SetOption.upsert());
+                        }
+                        return null;
+                    });
+                }
+            }
+            log.debug("Redis에 문자열 일괄 저장 완료 - 키 수: {}, 만료시간: {}", values.size(), expiration);
+            return true;
+        } catch (Exception e) {
+            log.error("Redis에 문자열 일괄 저장 실패 - 키 수: {}, 만료시간: {}, 오류: {}", 
+                    values.size(), expiration, e.getMessage(), e);
+            return false;
+        } finally {
+            nearCacheInvalidationBus.invalidate(values.keySet());
+        }
+    }
+
+    /**
+     * 여러 키의 값을 한 번에 조회하여 객체로 변환합니다.
+     * 
+     * 키 접두사의 코덱에 따라 문자열/바이너리 값으로 나누어 각각 MGET으로 조회하고,
+     * 조회된 값이 많으면 객체 변환을 병렬로 수행합니다.
+     * 변환에 실패한 값은 결과에서 제외됩니다.
+     * 
+     * @param <T> 조회할 객체의 타입
+     * @param keys 조회할 키 목록 (중복은 한 번만 조회)
+     * @param clazz 객체의 클래스 타입
+     * @return 값이 있는 키만 담은 맵 (요청한 키 순서 유지), 실패 시 빈 맵
+     */
+    public <T> Map<String, T> getObjects(Collection<String> keys, Class<T> clazz) {
+        log.debug("Redis에서 객체 일괄 조회 시작 - 키 수: {}, 객체 타입: {}", keys.size(), clazz.getSimpleName());
+        
+        try {
+            List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+            Map<Boolean, List<String>> keysByTextual = distinctKeys.stream()
+                    .collect(Collectors.partitioningBy(key -> payloadCodecRegistry.forRedisKey(key).isTextual()));
+            Map<String, String> textValues = readManyThrough(redisTemplate, keysByTextual.get(true), String.class);
+            Map<String, byte[]> binaryValues = readManyThrough(binaryRedisTemplate, keysByTextual.get(false), byte[].class);
+            
+            // 요청한 키 순서대로 원본 값을 모음
+            Map<String, Object> rawValues = new LinkedHashMap<>();
+            for (String key : distinctKeys) {
+                Object raw = textValues.containsKey(key) ? textValues.get(key) : binaryValues.get(key);
+                if (raw != null) {
+                    rawValues.put(key, raw);
+                }
+            }
+            
+            Stream<Map.Entry<String, Object>> entries = rawValues.size() >= PARALLEL_DECODE_THRESHOLD
+                    ? rawValues.entrySet().parallelStream()
+                    : rawValues.entrySet().stream();
+            Map<String, T> objects = entries
+                    .map(entry -> decode(entry.getKey(), entry.getValue(), clazz).map(object -> Map.entry(entry.getKey(), object)))
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+            log.debug("Redis에서 객체 일괄 조회 완료 - 요청 키 수: {}, 변환된 객체 수: {}", keys.size(), objects.size());
+            return objects;
+        } catch (Exception e) {
+            log.error("Redis에서 객체 일괄 조회 실패 - 키 수: {}, 객체 타입: {}, 오류: {}", 
+                    keys.size(), clazz.getSimpleName(), e.getMessage(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 바이너리 값을 조회하여 저장된 코덱을 판별한 뒤 JSON 문자열로 변환합니다.
+     * 
+     * @param key 조회할 키
+     * @return JSON 문자열, 키가 없거나 변환에 실패하면 null
+     */
+    private String getBinaryAsJson(String key) {
+        try {
+            byte[] data = readThrough(binaryRedisTemplate, key, byte[].class);
+            return data != null ? payloadCodecRegistry.detect(data).toJson(data) : null;
+        } catch (Exception e) {
+            log.error("Redis에서 바이너리 값 조회 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 근접 캐시를 거쳐 키의 원본 값을 조회합니다.
+     * 
+     * 근접 캐시가 비활성화되어 있으면 Redis GET만 수행합니다.
+     * 캐시 미스 시에는 GET과 PTTL을 하나의 파이프라인으로 보내(왕복 한 번)
+     * Redis에 남은 TTL을 넘지 않는 만료 시간으로 결과를 캐싱합니다.
+     * 
+     * @param <V> 값의 타입 (String 또는 byte[])
+     * @param template 조회에 사용할 템플릿
+     * @param key 조회할 키
+     * @param type 값의 타입
+     * @return 저장된 값, 키가 존재하지 않으면 null
+     */
+    private <V> V readThrough(RedisTemplate<String, V> template, String key, Class<V> type) {
+        V cached = nearCached(key, type);
+        return cached != null ? cached : readRemote(template, key, type);
+    }
+
+    /**
+     * 근접 캐시에 있는 값을 조회합니다.
+     * 
+     * @param <V> 값의 타입 (String 또는 byte[])
+     * @param key 조회할 키
+     * @param type 값의 타입
+     * @return 캐싱된 값, 근접 캐시가 비활성화되어 있거나 캐싱되지 않았으면 null
+     */
+    private <V> V nearCached(String key, Class<V> type) {
+        return nearCache.isEnabled() ? nearCache.get(key, type) : null;
+    }
+
+    /**
+     * 근접 캐시를 거치지 않고 Redis에서 키의 원본 값을 조회합니다.
+     * 
+     * 근접 캐시가 활성화되어 있으면 GET과 PTTL을 하나의 파이프라인으로 보내(왕복 한 번)
+     * Redis에 남은 TTL을 넘지 않는 만료 시간으로 결과를 캐싱합니다.
+     * 
+     * @param <V> 값의 타입 (String 또는 byte[])
+     * @param template 조회에 사용할 템플릿
+     * @param key 조회할 키
+     * @param type 값의 타입
+     * @return 저장된 값, 키가 존재하지 않으면 null
+     */
+    private <V> V readRemote(RedisTemplate<String, V> template, String key, Class<V> type) {
+        if (!nearCache.isEnabled()) {
+            return template.opsForValue().get(key);
+        }
+        
+        long stamp = nearCache.stamp(key);
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = serializer.serialize(key);
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            return null;
+        });
+        V value = type.isInstance(results.get(0)) ? type.cast(results.get(0)) : null;
+        if (value != null && results.get(1) instanceof Long ttlMillis) {
+            nearCache.put(key, value, ttlMillis, stamp);
+        }
+        return value;
+    }
+
+    /**
+     * Redis 락을 잡고 값을 적재합니다.
+     * 
+     * 락을 얻으면 (그 사이 다른 인스턴스가 저장했을 수 있으므로) 값을 다시 확인한 뒤 적재하고,
+     * 락을 얻지 못하면 락을 잡은 인스턴스가 값을 저장하기를 lock-wait 동안 기다립니다.
+     * Redis 락을 사용할 수 없으면 락 없이 적재합니다.
+     * 
+     * @param key 적재할 키
+     * @param loader 값을 만드는 로더
+     * @param ttl 적재한 값의 만료 시간
+     * @return 적재한 값 또는 다른 인스턴스가 저장한 값
+     */
+    private String loadWithLock(String key, Supplier<String> loader, Duration ttl) {
+        String lockKey = LOAD_LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        
+        boolean locked;
+        try {
+            locked = tryLock(lockKey, token);
+        } catch (Exception e) {
+            log.warn("적재 락 획득 실패, 락 없이 적재합니다 - 키: {}, 오류: {}", key, e.getMessage());
+            return loadAndStore(key, loader, ttl);
+        }
+        
+        if (locked) {
+            try {
+                String value = getString(key);
+                return value != null ? value : loadAndStore(key, loader, ttl);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+        
+        // 다른 인스턴스가 적재 중이므로 값이 저장되기를 기다림
+        log.debug("다른 인스턴스가 적재 중, 결과를 기다립니다 - 키: {}", key);
+        long deadline = System.nanoTime() + loadLockWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(loadPollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            String value = getString(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        log.warn("다른 인스턴스의 적재 대기 시간 초과, 직접 적재합니다 - 키: {}, 대기 시간: {}", key, loadLockWait);
+        return loadAndStore(key, loader, ttl);
+    }
+
+    /**
+     * Redis를 사용할 수 없을 때 저장 없이 로더를 호출합니다.
+     * 
+     * 같은 키의 동시 요청은 JVM 안에서 하나의 로더 호출로 합쳐집니다.
+     * 
+     * @param key 적재할 키
+     * @param loader 값을 만드는 로더
+     * @return 로더가 만든 값, 실패하거나 대기 시간이 지나면 null
+     */
+    private String loadWithoutRedis(String key, Supplier<String> loader) {
+        try {
+            return loadFlight.run(key, loader, loadLockWait.plus(loadLockLease));
+        } catch (TimeoutException e) {
+            log.warn("다른 요청의 적재 대기 시간 초과 - 키: {}", key);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("적재 대기 중 인터럽트 발생 - 키: {}", key);
+            return null;
+        } catch (Exception e) {
+            log.error("캐시 적재 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 로더를 호출하여 값을 만들고 저장합니다.
+     * 
+     * 조기 갱신이 켜져 있으면 로더 소요 시간도 같은 만료 시간으로 함께 저장합니다.
+     * 
+     * @param key 저장할 키
+     * @param loader 값을 만드는 로더
+     * @param ttl 만료 시간 (분산 적용 전)
+     * @return 로더가 만든 값
+     */
+    private String loadAndStore(String key, Supplier<String> loader, Duration ttl) {
+        long startNanos = System.nanoTime();
+        String value = loader.get();
+        long deltaMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.debug("로더 호출 완료 - 키: {}, 소요시간: {}ms", key, deltaMillis);
+        if (value == null) {
+            return null;
+        }
+        
+        Duration jitteredTtl = withJitter(ttl);
+        if (earlyRefreshBeta <= 0) {
+            setString(key, value, jitteredTtl);
+            return value;
+        }
+        
+        // 값과 로더 소요 시간을 같은 만료 시간으로 한 번에 저장
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        Expiration expiration = Expiration.from(jitteredTtl);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().set(serializer.serialize(key), serializer.serialize(value),
+                        expiration, SetOption.upsert());
+                connection.stringCommands().set(serializer.serialize(LOAD_DELTA_KEY_PREFIX + key),
+                        serializer.serialize(Long.toString(deltaMillis)), expiration, SetOption.upsert());
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("적재한 값 저장 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+        } finally {
+            nearCacheInvalidationBus.invalidate(key);
+        }
+        return value;
+    }
+
+    /**
+     * getOrLoad로 적재된 값과 조기 갱신 판단에 필요한 정보
+     * 
+     * @param value 저장된 값 (없으면 null)
+     * @param ttlMillis Redis에 남은 TTL (밀리초, 만료 없음은 -1)
+     * @param deltaMillis 지난 적재에 걸린 시간 (밀리초, 모르면 0)
+     */
+    private record LoadedEntry(String value, long ttlMillis, long deltaMillis) {
+    }
+
+    /**
+     * 값, 남은 TTL, 지난 적재 소요 시간을 한 번의 파이프라인으로 읽습니다.
+     * 
+     * 읽은 값은 남은 TTL과 함께 근접 캐시에 저장합니다.
+     * 
+     * @param key 조회할 키
+     * @return 조회 결과
+     * @throws org.springframework.dao.DataAccessException Redis 조회에 실패한 경우 (미스와 구분)
+     */
+    private LoadedEntry readLoadedEntry(String key) {
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        long stamp = nearCache.stamp(key);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(serializer.serialize(key));
+            connection.keyCommands().pTtl(serializer.serialize(key));
+            connection.stringCommands().get(serializer.serialize(LOAD_DELTA_KEY_PREFIX + key));
+            return null;
+        });
+        String value = (String) results.get(0);
+        long ttlMillis = results.get(1) instanceof Long ttl ? ttl : -1;
+        long deltaMillis = results.get(2) instanceof String delta ? Long.parseLong(delta) : 0;
+        if (value != null && results.get(1) instanceof Long) {
+            nearCache.put(key, value, ttlMillis, stamp);
+        }
+        return new LoadedEntry(value, ttlMillis, deltaMillis);
+    }
+
+    /**
+     * XFetch 방식으로 지금 미리 갱신할지 결정합니다.
+     * 
+     * -delta * beta * ln(rand) 가 남은 TTL 이상이면 갱신합니다.
+     * 만료가 가까울수록, 지난 적재가 오래 걸렸을수록 갱신 확률이 높아지므로
+     * 여러 요청과 인스턴스의 갱신 시점이 자연스럽게 분산됩니다.
+     * 
+     * @param entry 조회 결과
+     * @return 미리 갱신해야 하면 true
+     */
+    private boolean shouldRefreshEarly(LoadedEntry entry) {
+        if (entry.ttlMillis() <= 0 || entry.deltaMillis() <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return -entry.deltaMillis() * earlyRefreshBeta * Math.log(random) >= entry.ttlMillis();
+    }
+
+    /**
+     * 백그라운드에서 값을 다시 적재합니다.
+     * 
+     * 이 인스턴스에서 이미 갱신 중이거나 다른 인스턴스가 적재 락을 잡고 있으면 건너뜁니다.
+     * 
+     * @param key 갱신할 키
+     * @param loader 값을 만드는 로더
+     * @param ttl 만료 시간
+     */
+    private void refreshInBackground(String key, Supplier<String> loader, Duration ttl) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        log.debug("만료 전 조기 갱신 시작 - 키: {}", key);
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = LOAD_LOCK_KEY_PREFIX + key;
+                String token = UUID.randomUUID().toString();
+                try {
+                    if (tryLock(lockKey, token)) {
+                        try {
+                            loadAndStore(key, loader, ttl);
+                        } finally {
+                            unlock(lockKey, token);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("만료 전 조기 갱신 실패 - 키: {}, 오류: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.warn("조기 갱신 작업을 실행할 수 없습니다 - 키: {}", key);
+        }
+    }
+
+    /**
+     * 적재 락을 잡습니다 (SET NX PX).
+     * 
+     * @param lockKey 락 키
+     * @param token 락을 잡은 요청의 토큰
+     * @return 락을 잡았으면 true
+     */
+    private boolean tryLock(String lockKey, String token) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, loadLockLease));
+    }
+
+    /**
+     * 토큰이 일치할 때만 적재 락을 해제합니다.
+     * 
+     * @param lockKey 락 키
+     * @param token 락을 잡은 요청의 토큰
+     */
+    private void unlock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // 해제하지 못한 락은 lock-lease가 지나면 만료됨
+            log.warn("적재 락 해제 실패 - 락 키: {}, 오류: {}", lockKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 시간을 ttl-jitter-percent 범위 안에서 무작위로 줄입니다.
+     * 
+     * 늘리지 않고 줄이기만 하므로 값이 지정한 만료 시간보다 오래 남지 않습니다.
+     * 
+     * @param ttl 기준 만료 시간
+     * @return 분산된 만료 시간
+     */
+    private Duration withJitter(Duration ttl) {
+        if (ttlJitterPercent <= 0) {
+            return ttl;
+        }
+        long maxReductionMillis = ttl.toMillis() * ttlJitterPercent / 100;
+        return ttl.minusMillis(ThreadLocalRandom.current().nextLong(maxReductionMillis + 1));
+    }
+
+    /**
+     * 근접 캐시를 거쳐 여러 키의 원본 값을 조회합니다.
+     * 
+     * 캐싱되지 않은 키만 bulk chunk-size 단위의 MGET으로 조회합니다.
+     * MGET 결과에는 남은 TTL이 없으므로 근접 캐시에 저장하지는 않습니다.
+     * 
+     * @param <V> 값의 타입 (String 또는 byte[])
+     * @param template 조회에 사용할 템플릿
+     * @param keys 조회할 키 목록 (중복 없음)
+     * @param type 값의 타입
+     * @return 값이 있는 키만 담은 맵 (요청한 키 순서 유지)
+     */
+    private <V> Map<String, V> readManyThrough(RedisTemplate<String, V> template, List<String> keys, Class<V> type) {
+        Map<String, V> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String key : keys) {
+            V cached = nearCache.get(key, type);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+        
+        for (int from = 0; from < misses.size(); from += bulkChunkSize) {
+            List<String> chunk = misses.subList(from, Math.min(from + bulkChunkSize, misses.size()));
+            List<V> values = template.opsForValue().multiGet(chunk);
+            if (values == null) {
+                continue;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                if (values.get(i) != null) {
+                    found.put(chunk.get(i), values.get(i));
+                }
+            }
+        }
+        
+        if (found.size() == keys.size()) {
+            return found;
+        }
+        // 근접 캐시 히트와 MGET 결과를 요청한 키 순서로 정렬
+        Map<String, V> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            V value = found.get(key);
+            if (value != null) {
+                ordered.put(key, value);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Redis에서 읽은 원본 값을 객체로 변환합니다.
+     * 
+     * @param <T> 변환할 객체의 타입
+     * @param key 값의 키 (로그용)
+     * @param raw 원본 값 (JSON 문자열 또는 코덱으로 인코딩된 바이트)
+     * @param clazz 객체의 클래스 타입
+     * @return 변환된 객체, 실패 시 비어 있음
+     */
+    private <T> Optional<T> decode(String key, Object raw, Class<T> clazz) {
+        try {
+            if (raw instanceof byte[] data) {
+                return Optional.ofNullable(payloadCodecRegistry.detect(data).decode(data, clazz));
+            }
+            return Optional.ofNullable(objectMapper.readValue((String) raw, clazz));
+        } catch (Exception e) {
+            log.warn("객체 변환 실패로 결과에서 제외합니다 - 키: {}, 객체 타입: {}, 오류: {}", 
+                    key, clazz.getSimpleName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자 이벤트(JSON 문자열)를 주어진 코덱 형식으로 변환합니다.
+     * 
+     * JSON이 아닌 이벤트 데이터는 변환할 수 없으므로 UTF-8 문자열 그대로 저장합니다.
+     * 
+     * @param codec 변환할 코덱
+     * @param eventData 이벤트 데이터 (JSON 문자열)
+     * @return 저장할 바이트 배열
+     */
+    private byte[] encodeUserEvent(PayloadCodec codec, String eventData) {
+        try {
+            return codec.fromJson(eventData);
+        } catch (IOException e) {
+            log.warn("사용자 이벤트를 {} 코덱으로 변환할 수 없어 원본 그대로 저장합니다 - 오류: {}", 
+                    codec.name(), e.getMessage());
+            return eventData.getBytes(StandardCharsets.UTF_8);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,343 @@
+package com.example.kafkaredis.service;
+
+import com.example.kafkaredis.dedupe.DedupeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 이벤트 Redis 쓰기를 모아서 나중에 일괄 반영하는 write-behind 버퍼
+ *
+ * 리스너 스레드가 Redis 쓰기를 기다리지 않도록 이벤트를 버퍼에 넣고 바로 반환합니다.
+ * - 같은 사용자의 이벤트는 버퍼 안에서 마지막 이벤트로 합쳐집니다 (키별 병합).
+ * - 버퍼가 flush-size에 도달하거나 flush-interval이 지나면 별도 스레드가
+ *   RedisService.cacheUserEvents(파이프라인)로 한 번에 반영합니다.
+ * - 반영에 성공한 뒤에야 해당 레코드들을 순서대로 ack하므로 오프셋은 Redis 반영 이후에만 커밋됩니다.
+ *   반영에 실패하면 ack하지 않고 버퍼에 되돌려 다음 주기에 다시 시도합니다.
+ * - 중복 확인 토큰과 함께 넣은 이벤트는 RedisService.cacheUserEventsOnce로 반영하여
+ *   이미 적용된 이벤트를 걸러냅니다. 오프셋 방식 토큰이 오프셋 순서대로 확인되도록
+ *   버퍼는 사용자별 마지막 이벤트의 수신 순서를 유지합니다.
+ * - 버퍼에는 최대 max-entries명의 사용자 이벤트만 담기며, 가득 차면 리스너가 offer-timeout 동안 기다립니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class RedisWriteBehindBuffer implements DisposableBean {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(RedisWriteBehindBuffer.class);
+
+    /**
+     * 버퍼 내용을 반영할 Redis 서비스
+     */
+    private final RedisService redisService;
+
+    /**
+     * write-behind 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 버퍼에 담을 수 있는 최대 사용자 수
+     */
+    private final int maxEntries;
+
+    /**
+     * 이 수만큼 모이면 주기를 기다리지 않고 반영
+     */
+    private final int flushSize;
+
+    /**
+     * 반영 주기 (반영 실패 시 재시도 간격)
+     */
+    private final Duration flushInterval;
+
+    /**
+     * 버퍼가 가득 찼을 때 리스너가 기다리는 최대 시간
+     */
+    private final Duration offerTimeout;
+
+    /**
+     * 버퍼 상태를 보호하는 락
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 버퍼에 빈 자리가 생겼음을 알리는 조건
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * flush-size에 도달했음을 알리는 조건
+     */
+    private final Condition flushRequested = lock.newCondition();
+
+    /**
+     * 사용자 ID별 반영 대기 중인 이벤트 (lock으로 보호)
+     */
+    private Map<String, String> pending = new LinkedHashMap<>();
+
+    /**
+     * 사용자 ID별 반영 대기 중인 이벤트의 중복 확인 토큰 (중복 확인 미사용 시 비어 있음, lock으로 보호)
+     */
+    private Map<String, DedupeToken> pendingTokens = new LinkedHashMap<>();
+
+    /**
+     * 반영 대기 중인 이벤트의 레코드 ack (수신 순서, lock으로 보호)
+     */
+    private List<Acknowledgment> pendingAcks = new ArrayList<>();
+
+    /**
+     * 반영 스레드 실행 여부
+     */
+    private volatile boolean running;
+
+    /**
+     * 반영 스레드 (비활성화 시 null)
+     */
+    private final ExecutorService flusher;
+
+    /**
+     * 생성자 주입을 통한 의존성 및 설정값 주입
+     */
+    public RedisWriteBehindBuffer(RedisService redisService,
+                                  @Value("${app.redis.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${app.redis.write-behind.max-entries:10000}") int maxEntries,
+                                  @Value("${app.redis.write-behind.flush-size:500}") int flushSize,
+                                  @Value("${app.redis.write-behind.flush-interval:100ms}") Duration flushInterval,
+                                  @Value("${app.redis.write-behind.offer-timeout:5s}") Duration offerTimeout) {
+        this.redisService = redisService;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+
+        if (!enabled) {
+            this.flusher = null;
+            return;
+        }
+        this.running = true;
+        this.flusher = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "redis-write-behind"));
+        this.flusher.execute(this::runFlushLoop);
+        log.info("Redis write-behind 버퍼 초기화 완료 - 최대 사용자 수: {}, 반영 크기: {}, 반영 주기: {}",
+                maxEntries, flushSize, flushInterval);
+    }
+
+    /**
+     * write-behind 사용 여부를 반환합니다.
+     *
+     * @return 사용 중이면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자 이벤트를 버퍼에 넣습니다.
+     *
+     * ack는 이벤트가 Redis에 반영된 뒤에 호출됩니다.
+     * 버퍼가 가득 차 있으면 offer-timeout 동안 빈 자리를 기다립니다.
+     *
+     * @param userId 사용자 ID
+     * @param eventData 이벤트 데이터 (JSON 문자열)
+     * @param token 중복 확인 토큰, 중복 확인을 사용하지 않으면 null
+     * @param ack 반영 후 호출할 레코드 ack
+     * @return 버퍼에 넣었으면 true, 대기 시간 안에 자리가 나지 않으면 false
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public boolean submit(String userId, String eventData, DedupeToken token,
+                          Acknowledgment ack) throws InterruptedException {
+        long remainingNanos = offerTimeout.toNanos();
+        lock.lock();
+        try {
+            while (pending.size() >= maxEntries && !pending.containsKey(userId)) {
+                if (remainingNanos <= 0) {
+                    log.warn("write-behind 버퍼가 가득 차 이벤트를 넣지 못했습니다 - 사용자ID: {}, 대기 중: {}",
+                            userId, pending.size());
+                    return false;
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            // 마지막 이벤트의 수신 순서로 옮겨 같은 파티션의 이벤트가 오프셋 순서대로 반영되도록 함
+            pending.remove(userId);
+            pending.put(userId, eventData);
+            pendingTokens.remove(userId);
+            if (token != null) {
+                pendingTokens.put(userId, token);
+            }
+            pendingAcks.add(ack);
+            if (pending.size() >= flushSize) {
+                flushRequested.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 반영 스레드의 루프
+     *
+     * flush-size 도달 신호 또는 flush-interval 경과 시 버퍼 내용을 꺼내 반영합니다.
+     */
+    private void runFlushLoop() {
+        while (running) {
+            Map<String, String> batch;
+            Map<String, DedupeToken> tokens;
+            List<Acknowledgment> acks;
+            lock.lock();
+            try {
+                if (pending.size() < flushSize) {
+                    flushRequested.await(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                if (pending.isEmpty()) {
+                    continue;
+                }
+                batch = pending;
+                tokens = pendingTokens;
+                acks = pendingAcks;
+                pending = new LinkedHashMap<>();
+                pendingTokens = new LinkedHashMap<>();
+                pendingAcks = new ArrayList<>();
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            if (!flush(batch, tokens, acks)) {
+                sleepQuietly(flushInterval);
+            }
+        }
+    }
+
+    /**
+     * 이벤트를 Redis에 반영하고, 성공하면 레코드들을 ack합니다.
+     *
+     * 일부 사용자만 실패해도 ack 순서를 지키기 위해 묶음 전체를 되돌리며,
+     * 이미 반영된 사용자는 다음 시도에서 중복으로 걸러집니다.
+     *
+     * @param batch 반영할 사용자별 이벤트
+     * @param tokens 사용자별 중복 확인 토큰
+     * @param acks 반영 후 호출할 레코드 ack (수신 순서)
+     * @return 반영에 성공하면 true
+     */
+    private boolean flush(Map<String, String> batch, Map<String, DedupeToken> tokens,
+                          List<Acknowledgment> acks) {
+        if (write(batch, tokens)) {
+            acks.forEach(Acknowledgment::acknowledge);
+            log.debug("write-behind 반영 완료 - 사용자 수: {}, ack 레코드 수: {}", batch.size(), acks.size());
+            return true;
+        }
+        log.warn("write-behind 반영 실패, 다음 주기에 다시 시도합니다 - 사용자 수: {}, 대기 레코드 수: {}",
+                batch.size(), acks.size());
+        requeue(batch, tokens, acks);
+        return false;
+    }
+
+    /**
+     * 중복 확인 토큰이 있으면 조건부 쓰기로, 없으면 일반 파이프라인 쓰기로 반영합니다.
+     *
+     * @param batch 반영할 사용자별 이벤트
+     * @param tokens 사용자별 중복 확인 토큰
+     * @return 모든 사용자가 반영되었거나 중복으로 걸러졌으면 true
+     */
+    private boolean write(Map<String, String> batch, Map<String, DedupeToken> tokens) {
+        if (tokens.isEmpty()) {
+            return redisService.cacheUserEvents(batch);
+        }
+        return !redisService.cacheUserEventsOnce(batch, tokens).containsValue(WriteOutcome.FAILED);
+    }
+
+    /**
+     * 반영에 실패한 이벤트를 버퍼에 되돌립니다.
+     *
+     * 그 사이 같은 사용자의 새 이벤트가 들어왔으면 새 이벤트와 그 수신 순서를 유지하고,
+     * ack는 원래 수신 순서를 유지하도록 기존 대기 ack 앞에 둡니다.
+     *
+     * @param batch 반영에 실패한 사용자별 이벤트
+     * @param tokens 반영에 실패한 사용자별 중복 확인 토큰
+     * @param acks 반영에 실패한 레코드 ack
+     */
+    private void requeue(Map<String, String> batch, Map<String, DedupeToken> tokens,
+                         List<Acknowledgment> acks) {
+        lock.lock();
+        try {
+            Map<String, String> merged = new LinkedHashMap<>(batch);
+            merged.keySet().removeAll(pending.keySet());
+            merged.putAll(pending);
+            Map<String, DedupeToken> mergedTokens = new LinkedHashMap<>(tokens);
+            mergedTokens.keySet().removeAll(pending.keySet());
+            mergedTokens.putAll(pendingTokens);
+            pending = merged;
+            pendingTokens = mergedTokens;
+            List<Acknowledgment> mergedAcks = new ArrayList<>(acks);
+            mergedAcks.addAll(pendingAcks);
+            pendingAcks = mergedAcks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재시도 전 잠시 기다립니다.
+     *
+     * @param duration 기다릴 시간
+     */
+    private void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 반영 스레드를 멈추고 남은 이벤트를 Redis에 반영합니다.
+     *
+     * 종료 시점에는 리스너 컨테이너가 이미 멈춰 커밋할 수 없으므로 ack는 호출하지 않으며,
+     * 해당 레코드는 다음 기동 시 다시 전달됩니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        log.info("Redis write-behind 버퍼 종료 중...");
+        running = false;
+        flusher.shutdownNow();
+        flusher.awaitTermination(flushInterval.toMillis() * 10, TimeUnit.MILLISECONDS);
+
+        lock.lock();
+        try {
+            if (!pending.isEmpty()) {
+                write(pending, pendingTokens);
+                log.info("종료 전 남은 이벤트 반영 - 사용자 수: {}", pending.size());
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info("Redis write-behind 버퍼가 종료되었습니다");
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.kafkaredis.service;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 실행 중에 토픽 파티션을 늘리고 리스너 컨테이너 동시성을 맞추는 서비스
+ *
+ * 재배포 없이 소비를 수평 확장하기 위해 사용합니다.
+ * - 토픽의 파티션 수를 늘립니다 (Kafka는 파티션 수를 줄일 수 없음).
+ * - 그 토픽을 구독하는 리스너 컨테이너의 동시성(컨슈머 스레드 수)을 바꾸고,
+ *   실행 중인 컨테이너는 재시작하여 바로 리밸런스되도록 합니다
+ *   (재시작하지 않으면 새 파티션은 메타데이터 갱신 주기 후에야 할당됨).
+ *
+ * 파티션이 늘어나면 같은 키가 다른 파티션으로 갈 수 있으므로,
+ * 키별 순서가 중요한 토픽은 유입이 적은 시점에 실행해야 합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Service  // Spring 서비스 컴포넌트임을 나타내는 어노테이션
+public class TopicScalingService {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(TopicScalingService.class);
+
+    /**
+     * 토픽 조회와 파티션 추가를 위한 Kafka Admin
+     */
+    private final KafkaAdmin kafkaAdmin;
+
+    /**
+     * 리스너 컨테이너를 조회하기 위한 레지스트리
+     */
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+
+    /**
+     * 생성자 주입을 통한 의존성 주입
+     */
+    public TopicScalingService(KafkaAdmin kafkaAdmin, KafkaListenerEndpointRegistry listenerRegistry) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.listenerRegistry = listenerRegistry;
+    }
+
+    /**
+     * 토픽의 파티션 수를 늘리고 구독 중인 리스너 컨테이너의 동시성을 맞춥니다.
+     *
+     * @param topic 토픽 이름
+     * @param partitions 늘릴 파티션 수 (현재 파티션 수 이상)
+     * @param concurrency 리스너 동시성, null이면 파티션 수와 같게 설정
+     * @return 변경 결과
+     * @throws IllegalArgumentException 토픽이 없거나 파티션 수/동시성이 올바르지 않은 경우
+     */
+    public ScalingResult scale(String topic, int partitions, Integer concurrency) {
+        int targetConcurrency = concurrency != null ? concurrency : partitions;
+        if (targetConcurrency < 1) {
+            throw new IllegalArgumentException("동시성은 1 이상이어야 합니다 - 요청: " + targetConcurrency);
+        }
+
+        TopicDescription description = describe(topic);
+        int currentPartitions = description.partitions().size();
+        if (partitions < currentPartitions) {
+            throw new IllegalArgumentException("파티션 수는 줄일 수 없습니다 - 토픽: " + topic
+                    + ", 현재: " + currentPartitions + ", 요청: " + partitions);
+        }
+
+        log.info("=== 토픽 확장 시작 - 토픽: {}, 파티션: {} -> {}, 리스너 동시성: {} ===",
+                topic, currentPartitions, partitions, targetConcurrency);
+        if (partitions > currentPartitions) {
+            // 기존 토픽보다 파티션이 많으면 KafkaAdmin이 파티션을 추가함
+            kafkaAdmin.createOrModifyTopics(new NewTopic(topic, Optional.of(partitions), Optional.empty()));
+        }
+
+        List<ConcurrentMessageListenerContainer<?, ?>> containers = containersFor(topic);
+        for (ConcurrentMessageListenerContainer<?, ?> container : containers) {
+            rescale(container, targetConcurrency);
+        }
+
+        log.info("=== 토픽 확장 완료 - 토픽: {}, 파티션: {}, 조정된 컨테이너 수: {} ===",
+                topic, partitions, containers.size());
+        return new ScalingResult(topic, currentPartitions, partitions, targetConcurrency,
+                containers.stream().map(MessageListenerContainer::getListenerId).toList());
+    }
+
+    /**
+     * 토픽 정보를 조회합니다.
+     *
+     * KafkaAdmin은 없는 토픽을 조회하면 UnknownTopicOrPartitionException을 원인으로 하는
+     * KafkaException을 던지므로, 이 경우를 잘못된 요청으로 바꿉니다.
+     *
+     * @param topic 토픽 이름
+     * @return 토픽 정보
+     * @throws IllegalArgumentException 토픽이 없는 경우
+     */
+    private TopicDescription describe(String topic) {
+        Map<String, TopicDescription> descriptions;
+        try {
+            descriptions = kafkaAdmin.describeTopics(topic);
+        } catch (KafkaException e) {
+            if (isUnknownTopic(e)) {
+                throw new IllegalArgumentException("토픽이 없습니다 - 토픽: " + topic, e);
+            }
+            throw e;
+        }
+        TopicDescription description = descriptions.get(topic);
+        if (description == null) {
+            throw new IllegalArgumentException("토픽이 없습니다 - 토픽: " + topic);
+        }
+        return description;
+    }
+
+    /**
+     * 예외의 원인 중에 UnknownTopicOrPartitionException이 있는지 확인합니다.
+     *
+     * @param e 확인할 예외
+     * @return 토픽이 없어서 발생한 예외이면 true
+     */
+    private static boolean isUnknownTopic(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnknownTopicOrPartitionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컨테이너의 동시성을 바꾸고, 실행 중이면 재시작하여 적용합니다.
+     *
+     * @param container 리스너 컨테이너
+     * @param concurrency 새 동시성
+     */
+    private void rescale(ConcurrentMessageListenerContainer<?, ?> container, int concurrency) {
+        boolean running = container.isRunning();
+        if (running) {
+            // 동시성은 컨테이너 시작 시에만 적용되므로 멈췄다가 다시 시작
+            container.stop();
+        }
+        container.setConcurrency(concurrency);
+        if (running) {
+            container.start();
+        }
+        log.info("리스너 컨테이너 동시성 변경 - 컨테이너: {}, 동시성: {}, 재시작: {}",
+                container.getListenerId(), concurrency, running);
+    }
+
+    /**
+     * 토픽을 구독하는 리스너 컨테이너를 조회합니다.
+     *
+     * @param topic 토픽 이름
+     * @return 토픽을 구독하는 컨테이너 목록
+     */
+    private List<ConcurrentMessageListenerContainer<?, ?>> containersFor(String topic) {
+        return listenerRegistry.getListenerContainers().stream()
+                .filter(container -> container instanceof ConcurrentMessageListenerContainer<?, ?>)
+                .filter(container -> {
+                    String[] topics = container.getContainerProperties().getTopics();
+                    return topics != null && Arrays.asList(topics).contains(topic);
+                })
+                .<ConcurrentMessageListenerContainer<?, ?>>map(container -> (ConcurrentMessageListenerContainer<?, ?>) container)
+                .toList();
+    }
+
+    /**
+     * 토픽 확장 결과
+     *
+     * @param topic 토픽 이름
+     * @param previousPartitions 변경 전 파티션 수
+     * @param partitions 변경 후 파티션 수
+     * @param concurrency 적용한 리스너 동시성
+     * @param listenerIds 동시성을 바꾼 리스너 컨테이너 ID 목록
+     */
+    public record ScalingResult(String topic, int previousPartitions, int partitions, int concurrency,
+                                List<String> listenerIds) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.kafkaredis.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 이벤트 배치를 레코드 키 기준으로 병합(coalescing)하는 컴포넌트
+ *
+ * user:event:{userId} 캐시는 항상 마지막 이벤트로 덮어쓰기 되므로,
+ * 같은 배치 안에 같은 사용자의 이벤트가 여러 개 있으면 마지막 이벤트만 의미가 있습니다.
+ * 이 컴포넌트는 배치를 키별로 중복 제거하여 가장 높은 오프셋의 레코드만 남기므로
+ * 사용자당 Redis 쓰기가 한 번만 발생합니다.
+ *
+ * @author 개발자
+ * @version 1.0
+ */
+@Component  // Spring 컴포넌트임을 나타내는 어노테이션
+public class UserEventCoalescer {
+
+    /**
+     * 로깅을 위한 Logger 인스턴스
+     */
+    private static final Logger log = LoggerFactory.getLogger(UserEventCoalescer.class);
+
+    /**
+     * 배치를 레코드 키별로 병합하여 키마다 가장 최신 레코드만 반환합니다.
+     *
+     * 같은 파티션의 레코드끼리는 오프셋이 가장 높은 레코드를 남기고,
+     * 서로 다른 파티션에 같은 키가 있으면 배치에서 나중에 나온 레코드를 남깁니다.
+     * 반환 목록은 각 키가 배치에서 처음 등장한 순서를 유지합니다.
+     *
+     * @param records 한 번의 poll로 수신된 레코드 목록
+     * @return 키별로 하나씩 남긴 레코드 목록
+     */
+    public <V> List<ConsumerRecord<String, V>> coalesce(List<ConsumerRecord<String, V>> records) {
+        Map<String, ConsumerRecord<String, V>> latestByKey = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, V> record : records) {
+            ConsumerRecord<String, V> current = latestByKey.get(record.key());
+            if (current == null || isNewer(record, current)) {
+                latestByKey.put(record.key(), record);
+            }
+        }
+
+        List<ConsumerRecord<String, V>> coalesced = new ArrayList<>(latestByKey.values());
+        log.debug("사용자 이벤트 배치 병합 완료 - 원본: {}, 병합 후: {}", records.size(), coalesced.size());
+        return coalesced;
+    }
+
+    /**
+     * 후보 레코드가 기존 레코드보다 최신인지 판단합니다.
+     *
+     * @param candidate 새로 확인할 레코드
+     * @param current 현재까지 남아 있는 레코드
+     * @return 후보 레코드가 더 최신이면 true
+     */
+    private boolean isNewer(ConsumerRecord<String, ?> candidate, ConsumerRecord<String, ?> current) {
+        if (candidate.topic().equals(current.topic()) && candidate.partition() == current.partition()) {
+            return candidate.offset() > current.offset();
+        }
+        // 서로 다른 파티션이면 오프셋을 비교할 수 없으므로 배치에서 나중에 나온 레코드를 사용
+        return true;
+    }
+}
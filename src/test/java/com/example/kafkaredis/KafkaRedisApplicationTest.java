@@ -1,14 +1,25 @@
 package com.example.kafkaredis;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.test.context.ActiveProfiles;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 @SpringBootTest
 @ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1)
 class KafkaRedisApplicationTest {
 
+    @Autowired
+    private ApplicationContext context;
+
     @Test
     void contextLoads() {
+        // 애플리케이션 Bean이 Spring Boot의 기본 실행기 자동 설정을 막지 않아야 함
+        assertTrue(context.containsBean("applicationTaskExecutor"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package com.example.kafkaredis.backpressure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBackpressureControllerTest {
+
+    private static final long SLOW_NANOS = Duration.ofSeconds(2).toNanos();
+
+    private static final long FAST_NANOS = Duration.ofMillis(1).toNanos();
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private MessageListenerContainer userEventContainer;
+
+    @Mock
+    private MessageListenerContainer testContainer;
+
+    @Mock
+    private MessageListenerContainer userEventRetryContainer;
+
+    private RedisHealthMonitor healthMonitor;
+
+    private RedisBackpressureController controller;
+
+    @BeforeEach
+    void setUp() {
+        healthMonitor = new RedisHealthMonitor(0.5);
+        controller = new RedisBackpressureController(healthMonitor, listenerRegistry, redisTemplate,
+                false, new String[] {"user-events"}, Duration.ofMillis(500),
+                Duration.ofMillis(500), Duration.ofMillis(100), 0.5, 0.1, 3, Duration.ZERO);
+    }
+
+    @Test
+    void testPausesOnlyRedisWritingContainersWhenLatencyIsHigh() {
+        stubContainers();
+        record(SLOW_NANOS, true, 3);
+
+        controller.evaluate();
+
+        assertTrue(controller.isPaused());
+        verify(userEventContainer).pause();
+        verify(testContainer, never()).pause();
+    }
+
+    @Test
+    void testPausesRetryTopicContainersDerivedFromTargetTopic() {
+        when(userEventContainer.getContainerProperties()).thenReturn(new ContainerProperties("user-events"));
+        when(userEventRetryContainer.getContainerProperties())
+                .thenReturn(new ContainerProperties("user-events-retry-0"));
+        when(testContainer.getContainerProperties()).thenReturn(new ContainerProperties("test-topic"));
+        when(listenerRegistry.getListenerContainers())
+                .thenReturn(List.of(userEventContainer, userEventRetryContainer, testContainer));
+        record(SLOW_NANOS, true, 3);
+
+        controller.evaluate();
+
+        verify(userEventContainer).pause();
+        verify(userEventRetryContainer).pause();
+        verify(testContainer, never()).pause();
+    }
+
+    @Test
+    void testTargetTopicMatchesDerivedRetryAndDeadLetterTopics() {
+        assertTrue(controller.isTargetTopic("user-events"));
+        assertTrue(controller.isTargetTopic("user-events-retry"));
+        assertTrue(controller.isTargetTopic("user-events-retry-2"));
+        assertTrue(controller.isTargetTopic("user-events-dlt"));
+        assertFalse(controller.isTargetTopic("user-events-derived"));
+        assertFalse(controller.isTargetTopic("test-topic-retry-0"));
+    }
+
+    @Test
+    void testDoesNotPauseBeforeMinSamples() {
+        record(SLOW_NANOS, false, 2);
+
+        controller.evaluate();
+
+        assertFalse(controller.isPaused());
+        verifyNoInteractions(listenerRegistry);
+    }
+
+    @Test
+    void testResumesAfterProbesRecoverBelowResumeThreshold() {
+        stubContainers();
+        record(SLOW_NANOS, false, 3);
+        controller.evaluate();
+        assertTrue(controller.isPaused());
+
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn("PONG");
+        // 첫 PING 결과만으로는 재개 기준(히스테리시스)에 못 미침
+        controller.evaluate();
+        assertTrue(controller.isPaused());
+        verify(userEventContainer, never()).resume();
+
+        for (int i = 0; i < 10 && controller.isPaused(); i++) {
+            controller.evaluate();
+        }
+        assertFalse(controller.isPaused());
+        verify(userEventContainer).resume();
+    }
+
+    @Test
+    void testStaysPausedWhileProbesFail() {
+        stubContainers();
+        record(SLOW_NANOS, false, 3);
+        controller.evaluate();
+
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new RuntimeException("Redis 연결 실패"));
+        for (int i = 0; i < 5; i++) {
+            controller.evaluate();
+        }
+
+        assertTrue(controller.isPaused());
+        verify(userEventContainer, never()).resume();
+    }
+
+    private void stubContainers() {
+        ContainerProperties userEventProperties = new ContainerProperties("user-events");
+        ContainerProperties testProperties = new ContainerProperties("test-topic");
+        when(userEventContainer.getContainerProperties()).thenReturn(userEventProperties);
+        when(testContainer.getContainerProperties()).thenReturn(testProperties);
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(userEventContainer, testContainer));
+    }
+
+    private void record(long elapsedNanos, boolean success, int times) {
+        for (int i = 0; i < times; i++) {
+            healthMonitor.record(elapsedNanos, success);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.kafkaredis.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheInvalidationBusTest {
+
+    private static final String CHANNEL = "near-cache:invalidate";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NearCache nearCache;
+
+    private NearCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new NearCache(true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                Duration.ofSeconds(10), new SimpleMeterRegistry());
+        bus = new NearCacheInvalidationBus(nearCache, redisTemplate, objectMapper, CHANNEL);
+    }
+
+    @Test
+    void testInvalidateEvictsLocallyAndPublishes() throws Exception {
+        nearCache.put("key", "value", -1, nearCache.stamp("key"));
+
+        bus.invalidate("key");
+
+        assertNull(nearCache.get("key", String.class));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        assertEquals(List.of("key"), objectMapper.readValue(message.getValue(), NearCacheInvalidation.class).keys());
+    }
+
+    @Test
+    void testMessageFromOtherInstanceEvictsKeys() throws Exception {
+        nearCache.put("key1", "value1", -1, nearCache.stamp("key1"));
+        nearCache.put("key2", "value2", -1, nearCache.stamp("key2"));
+
+        bus.onMessage(message(new NearCacheInvalidation("other-instance", List.of("key1"))), null);
+
+        assertNull(nearCache.get("key1", String.class));
+        assertEquals("value2", nearCache.get("key2", String.class));
+    }
+
+    @Test
+    void testUnreadableMessageClearsCache() {
+        nearCache.put("key", "value", -1, nearCache.stamp("key"));
+
+        bus.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not-json".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertNull(nearCache.get("key", String.class));
+    }
+
+    @Test
+    void testSubscribeClearsCache() {
+        nearCache.put("key", "value", -1, nearCache.stamp("key"));
+
+        bus.onChannelSubscribed(CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        assertNull(nearCache.get("key", String.class));
+    }
+
+    private DefaultMessage message(NearCacheInvalidation invalidation) throws Exception {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(invalidation));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.kafkaredis.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new NearCache(true, DataSize.ofMegabytes(1), DataSize.ofBytes(16),
+                Duration.ofSeconds(10), meterRegistry);
+    }
+
+    @Test
+    void testPutAndGet() {
+        nearCache.put("key", "value", -1, nearCache.stamp("key"));
+
+        assertEquals("value", nearCache.get("key", String.class));
+        assertNull(nearCache.get("key", byte[].class));
+        assertNull(nearCache.get("other", String.class));
+    }
+
+    @Test
+    void testInvalidate() {
+        nearCache.put("key1", "value1", -1, nearCache.stamp("key1"));
+        nearCache.put("key2", "value2", -1, nearCache.stamp("key2"));
+        nearCache.put("key3", "value3", -1, nearCache.stamp("key3"));
+
+        nearCache.invalidate("key1");
+        nearCache.invalidateAll(List.of("key2"));
+
+        assertNull(nearCache.get("key1", String.class));
+        assertNull(nearCache.get("key2", String.class));
+        assertEquals("value3", nearCache.get("key3", String.class));
+    }
+
+    @Test
+    void testPutSkippedWhenInvalidatedDuringRead() {
+        long stamp = nearCache.stamp("key");
+        nearCache.invalidate("key");
+
+        nearCache.put("key", "stale", -1, stamp);
+
+        assertNull(nearCache.get("key", String.class));
+    }
+
+    @Test
+    void testInvalidatingUnrelatedKeyDoesNotBlockFill() {
+        assertNotEquals(NearCache.stripeOf("user:1"), NearCache.stripeOf("user:2"));
+        long stamp = nearCache.stamp("user:1");
+        nearCache.invalidate("user:2");
+        nearCache.invalidateAll(List.of("user:2"));
+
+        nearCache.put("user:1", "fresh", -1, stamp);
+
+        assertEquals("fresh", nearCache.get("user:1", String.class));
+    }
+
+    @Test
+    void testClearBlocksInFlightFills() {
+        long stamp = nearCache.stamp("key");
+        nearCache.clear();
+
+        nearCache.put("key", "stale", -1, stamp);
+
+        assertNull(nearCache.get("key", String.class));
+    }
+
+    @Test
+    void testPutSkipsOversizedExpiredAndMissingValues() {
+        nearCache.put("big", "x".repeat(17), -1, nearCache.stamp("big"));
+        nearCache.put("expired", "value", 0, nearCache.stamp("expired"));
+        nearCache.put("missing", "value", -2, nearCache.stamp("missing"));
+
+        assertNull(nearCache.get("big", String.class));
+        assertNull(nearCache.get("expired", String.class));
+        assertNull(nearCache.get("missing", String.class));
+    }
+
+    @Test
+    void testHitAndMissMetrics() {
+        nearCache.put("key", "value", 60_000, nearCache.stamp("key"));
+
+        nearCache.get("key", String.class);
+        nearCache.get("other", String.class);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", NearCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", NearCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testDisabled() {
+        NearCache disabled = new NearCache(false, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                Duration.ofSeconds(10), meterRegistry);
+
+        disabled.put("key", "value", -1, disabled.stamp("key"));
+
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.get("key", String.class));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.kafkaredis.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void testConcurrentCallsShareOneExecution() throws Exception {
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.run("key", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "value";
+            }, Duration.ofSeconds(5))));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.run("key", () -> {
+                    executions.incrementAndGet();
+                    return "other";
+                }, Duration.ofSeconds(5))));
+            }
+            // 대기 중인 호출이 모두 진행 중인 작업에 합류할 시간을 줌
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWaiterTimesOut() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> singleFlight.run("key", () -> {
+                started.countDown();
+                await(release);
+                return "value";
+            }, Duration.ofSeconds(5)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TimeoutException.class,
+                    () -> singleFlight.run("key", () -> "other", Duration.ofMillis(50)));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailureIsPropagatedAndKeyReleased() throws Exception {
+        assertThrows(IllegalStateException.class, () -> singleFlight.run("key", () -> {
+            throw new IllegalStateException("load failed");
+        }, Duration.ofSeconds(1)));
+
+        assertEquals("value", singleFlight.run("key", () -> "value", Duration.ofSeconds(1)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
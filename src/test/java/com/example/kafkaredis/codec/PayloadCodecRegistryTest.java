@@ -0,0 +1,93 @@
+package com.example.kafkaredis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadCodecRegistryTest {
+
+    private CodecProperties properties;
+
+    private PayloadCodecRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CodecProperties();
+        properties.setTopics(Map.of("user-events", "smile"));
+        properties.setRedisPrefixes(Map.of("user:", "smile", "user:event:", "cbor"));
+        registry = new PayloadCodecRegistry(properties, new ObjectMapper());
+    }
+
+    @Test
+    void testForTopicUsesConfiguredCodecOrDefault() {
+        assertEquals("smile", registry.forTopic("user-events").name());
+        assertEquals("json", registry.forTopic("test-topic").name());
+        assertTrue(registry.forTopic("test-topic").isTextual());
+    }
+
+    @Test
+    void testForRedisKeyPrefersLongestPrefix() {
+        assertEquals("cbor", registry.forRedisKey("user:event:user1").name());
+        assertEquals("smile", registry.forRedisKey("user:profile:user1").name());
+        assertEquals("json", registry.forRedisKey("test-key").name());
+    }
+
+    @Test
+    void testBinaryCodecsRoundTripJsonAndAreDetected() throws Exception {
+        String json = "{\"userId\":\"user1\",\"action\":\"login\",\"count\":3}";
+
+        for (String name : new String[] {"smile", "cbor"}) {
+            PayloadCodec codec = registry.byName(name);
+            byte[] encoded = codec.fromJson(json);
+
+            assertFalse(codec.isTextual());
+            assertEquals(name, registry.detect(encoded).name());
+            assertEquals(json, codec.toJson(encoded));
+        }
+    }
+
+    @Test
+    void testDetectFallsBackToJson() {
+        byte[] json = "{\"userId\":\"user1\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("json", registry.detect(json).name());
+        assertEquals("json", registry.detect(new byte[0]).name());
+    }
+
+    @Test
+    void testUnknownCodecName() {
+        assertThrows(IllegalArgumentException.class, () -> registry.byName("avro"));
+    }
+
+    @Test
+    void testUnknownConfiguredCodecFailsAtStartup() {
+        CodecProperties invalid = new CodecProperties();
+        invalid.setTopics(Map.of("test-topic", "avro"));
+
+        assertThrows(IllegalArgumentException.class, () -> new PayloadCodecRegistry(invalid, new ObjectMapper()));
+    }
+
+    @Test
+    void testBinaryCodecRejectsEmptyOrMalformedJson() {
+        PayloadCodec smile = registry.byName("smile");
+
+        assertThrows(IOException.class, () -> smile.fromJson(""));
+        assertThrows(IOException.class, () -> smile.fromJson("{not json"));
+    }
+
+    @Test
+    void testBinaryCodecsKeepNestedValues() throws Exception {
+        String json = "{\"user\":{\"id\":\"user1\",\"tags\":[\"a\",\"b\"]},\"score\":1.5,\"active\":true,\"note\":null}";
+
+        for (String name : new String[] {"smile", "cbor"}) {
+            PayloadCodec codec = registry.byName(name);
+            assertEquals(json, codec.toJson(codec.fromJson(json)));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.kafkaredis.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsumerCommitStrategyTest {
+
+    @Test
+    void testFromIgnoresCaseAndSeparators() {
+        assertEquals(ConsumerCommitStrategy.COUNT_TIME, ConsumerCommitStrategy.from(" count-time "));
+        assertEquals(ConsumerCommitStrategy.RECORD, ConsumerCommitStrategy.from("RECORD"));
+        assertThrows(IllegalArgumentException.class, () -> ConsumerCommitStrategy.from("unknown"));
+    }
+
+    @Test
+    void testFromDoesNotDependOnDefaultLocale() {
+        Locale original = Locale.getDefault();
+        try {
+            // 터키어 로캘에서는 "time".toUpperCase()가 "TİME"이 됨
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+            assertEquals(ConsumerCommitStrategy.TIME, ConsumerCommitStrategy.from("time"));
+            assertEquals(ConsumerCommitStrategy.COUNT_TIME, ConsumerCommitStrategy.from("count_time"));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.kafkaredis.config;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class KafkaConfigTest {
+
+    private final KafkaConfig kafkaConfig = new KafkaConfig();
+
+    @AfterEach
+    void tearDown() {
+        kafkaConfig.destroy();
+    }
+
+    @Test
+    void testUnlimitedRetryErrorHandlerNeverSkipsFailedRecord() {
+        ReflectionTestUtils.setField(kafkaConfig, "retryInterval", Duration.ofMillis(1));
+        DefaultErrorHandler errorHandler = kafkaConfig.unlimitedRetryErrorHandler();
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("user-events", 0, 42L, "user1", "event");
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        lenient().when(container.getContainerProperties()).thenReturn(new ContainerProperties("user-events"));
+        IllegalStateException bufferFull = new IllegalStateException("write-behind 버퍼가 가득 찼습니다 - 사용자ID: user1");
+
+        // 기본 재처리 횟수(3회)를 넘어도 건너뛰지 않고 매번 같은 오프셋으로 되돌림
+        for (int i = 0; i < 20; i++) {
+            assertThrows(KafkaException.class,
+                    () -> errorHandler.handleRemaining(bufferFull, List.of(record), consumer, container));
+        }
+
+        verify(consumer, times(20)).seek(new TopicPartition("user-events", 0), 42L);
+        // 재처리 간격 동안 리스너 스레드를 재우지 않고 컨테이너를 일시 중지
+        verify(container, atLeastOnce()).pause();
+    }
+
+    @Test
+    void testRollbackErrorHandlerRethrowsSoTransactionIsAborted() {
+        CommonErrorHandler errorHandler = kafkaConfig.rollbackErrorHandler();
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("test-topic", 0, 7L, "key", "message");
+        ConsumerRecords<String, String> records = new ConsumerRecords<>(
+                Map.of(new TopicPartition("test-topic", 0), List.of(record)));
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        Runnable invokeListener = mock(Runnable.class);
+        IllegalStateException failure = new IllegalStateException("파생 이벤트 변환 실패");
+
+        // 처리하거나 재시도하지 않고 그대로 던져야 컨테이너가 트랜잭션을 취소함
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> errorHandler.handleBatch(failure, records, consumer, container, invokeListener)));
+        verifyNoInteractions(consumer, invokeListener);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.kafkaredis.config;
+
+import com.example.kafkaredis.codec.PayloadCodecs;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RetryTopicConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRetryPublisherKeepsFirstOriginalHeadersAndAddsJsonCodecHeader() {
+        DeadLetterPublishingRecovererFactory factory = mock(DeadLetterPublishingRecovererFactory.class);
+        DeadLetterPublishingRecoverer recoverer = mock(DeadLetterPublishingRecoverer.class);
+
+        new RetryTopicConfig().configureDeadLetterPublishingContainerFactory().accept(factory);
+
+        ArgumentCaptor<Consumer<DeadLetterPublishingRecoverer>> customizer = ArgumentCaptor.forClass(Consumer.class);
+        verify(factory).setDeadLetterPublishingRecovererCustomizer(customizer.capture());
+        customizer.getValue().accept(recoverer);
+
+        // 재시도 토픽을 여러 번 거쳐도 원래 토픽의 위치 헤더가 유지되어야 함
+        verify(recoverer).setAppendOriginalHeaders(false);
+        ArgumentCaptor<BiFunction<ConsumerRecord<?, ?>, Exception, Headers>> headersFunction =
+                ArgumentCaptor.forClass(BiFunction.class);
+        verify(recoverer).setHeadersFunction(headersFunction.capture());
+        Headers headers = headersFunction.getValue().apply(
+                new ConsumerRecord<>("user-events", 0, 0L, "user1", "{}"), new IllegalStateException());
+        assertArrayEquals(PayloadCodecs.JSON.name().getBytes(StandardCharsets.UTF_8),
+                headers.lastHeader(PayloadCodecs.HEADER).value());
+    }
+}
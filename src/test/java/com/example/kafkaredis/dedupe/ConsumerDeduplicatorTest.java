@@ -0,0 +1,46 @@
+package com.example.kafkaredis.dedupe;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsumerDeduplicatorTest {
+
+    private final ConsumerDeduplicator deduplicator = new ConsumerDeduplicator(true, Duration.ofHours(1));
+
+    @Test
+    void testRecordWithoutEventIdUsesPartitionOffsetWatermark() {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("user-events", 2, 42L, "user1", "event");
+
+        DedupeToken token = deduplicator.tokenFor(record);
+
+        assertTrue(token.isOffsetBased());
+        assertEquals("dedupe:offset:user-events:{user1}", token.redisKey());
+        assertEquals("2", token.field());
+        assertEquals(42L, token.offset());
+        assertEquals(Duration.ofHours(1), token.window());
+    }
+
+    @Test
+    void testRecordWithEventIdUsesEventKey() {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("user-events", 2, 42L, "user1", "event");
+        record.headers().add(ConsumerDeduplicator.EVENT_ID_HEADER, "evt-1".getBytes(StandardCharsets.UTF_8));
+
+        DedupeToken token = deduplicator.tokenFor(record);
+
+        assertFalse(token.isOffsetBased());
+        assertEquals("dedupe:event:{user1}:evt-1", token.redisKey());
+    }
+
+    @Test
+    void testEmptyEventIdFallsBackToOffset() {
+        DedupeToken token = deduplicator.tokenFor("user-events", 0, 7L, "user1", new byte[0]);
+
+        assertTrue(token.isOffsetBased());
+        assertEquals("0", token.field());
+    }
+}
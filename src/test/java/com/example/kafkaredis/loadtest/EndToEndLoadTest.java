@@ -0,0 +1,257 @@
+package com.example.kafkaredis.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 종단 간 처리량/지연 시간 부하 테스트
+ *
+ * 임베디드 Kafka와 프로세스 내 RESP Redis 대역({@link RespServerStandIn})으로 애플리케이션 전체를 띄우고,
+ * POST /api/test/integration/test 요청을 일정한 도착률(open-loop)로 보낸 뒤
+ * user-events 리스너(consumeUserEvent)가 user:event:{userId} 를 Redis에 쓸 때까지의 시간을 잽니다.
+ * 지연 시간은 요청의 예정된 발송 시각부터 재므로, 애플리케이션이 밀려 요청이 늦게 처리된 시간도 포함됩니다.
+ *
+ * 결과는 HdrHistogram으로 기록하여 p50/p99/p999를 출력하고,
+ * 전체 분포를 target/loadtest/*.hgrm 파일로 저장합니다 (HdrHistogram Plotter로 비교 가능).
+ *
+ * 일반 테스트 실행에서는 건너뛰며, 다음과 같이 실행합니다:
+ * mvn test -Dtest=EndToEndLoadTest -Dloadtest=true -Dloadtest.rate=1000 -Dloadtest.duration-seconds=60
+ * 그 밖의 설정: -Dloadtest.warmup-seconds, -Dloadtest.payload-bytes, -Dloadtest.drain-timeout-seconds,
+ * -Dloadtest.log-level (애플리케이션 로그 레벨, 기본 WARN)
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EmbeddedKafka(partitions = 3, topics = {"test-topic", "user-events"},
+        bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class EndToEndLoadTest {
+
+    private static final String USER_EVENT_KEY_PREFIX = "user:event:";
+
+    private static RespServerStandIn redis;
+
+    /**
+     * 응답 또는 Redis 쓰기를 기다리는 요청 (Redis 키 기준)
+     */
+    private static final Map<String, PendingRequest> pending = new ConcurrentHashMap<>();
+
+    private final int rate = Integer.getInteger("loadtest.rate", 500);
+
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+
+    private final int payloadBytes = Integer.getInteger("loadtest.payload-bytes", 256);
+
+    private final int drainTimeoutSeconds = Integer.getInteger("loadtest.drain-timeout-seconds", 30);
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void redisStandIn(DynamicPropertyRegistry registry) throws IOException {
+        redis = new RespServerStandIn();
+        redis.onWrite(key -> {
+            PendingRequest request = pending.remove(key);
+            if (request != null) {
+                request.run().recordWrite(request.scheduledAt());
+            }
+        });
+        registry.add("spring.data.redis.host", () -> "127.0.0.1");
+        registry.add("spring.data.redis.port", redis::getPort);
+        registry.add("logging.level.com.example.kafkaredis", () -> System.getProperty("loadtest.log-level", "WARN"));
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (redis != null) {
+            redis.close();
+        }
+    }
+
+    @Test
+    void integrationEndpointToRedisWrite() throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String payload = payload(payloadBytes);
+
+        try {
+            if (warmupSeconds > 0) {
+                drive(client, new LoadRun("warmup"), rate, warmupSeconds, payload);
+            }
+            LoadRun run = new LoadRun("measure");
+            drive(client, run, rate, durationSeconds, payload);
+            run.report(rate, durationSeconds);
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 일정한 간격으로 요청을 보내고, 모든 요청의 Redis 쓰기가 확인되거나 drain 시간이 지날 때까지 기다립니다.
+     */
+    private void drive(HttpClient client, LoadRun run, int rate, int seconds, String payload) {
+        long total = (long) rate * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        run.start(start);
+
+        for (long i = 0; i < total; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long wait;
+            while ((wait = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String userId = run.name() + "-" + i;
+            pending.put(USER_EVENT_KEY_PREFIX + "{" + userId + "}", new PendingRequest(run, scheduledAt));
+            run.sent.incrementAndGet();
+
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/test/integration/test?userId=" + userId))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(payload))
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> run.recordResponse(scheduledAt,
+                            ex == null && response.statusCode() == 200));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainTimeoutSeconds);
+        while (run.written.get() + run.failed.get() < total && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        pending.values().removeIf(request -> request.run() == run);
+    }
+
+    private static String payload(int bytes) {
+        StringBuilder filler = new StringBuilder();
+        while (filler.length() < Math.max(0, bytes - 40)) {
+            filler.append('x');
+        }
+        return "{\"action\":\"load_test\",\"filler\":\"" + filler + "\"}";
+    }
+
+    /**
+     * 응답 또는 Redis 쓰기를 기다리는 요청
+     *
+     * @param run 요청이 속한 실행
+     * @param scheduledAt 예정된 발송 시각 (System.nanoTime 기준)
+     */
+    private record PendingRequest(LoadRun run, long scheduledAt) {
+    }
+
+    /**
+     * 한 번의 부하 실행 결과 (워밍업과 측정을 따로 기록)
+     */
+    private static final class LoadRun {
+
+        private final String name;
+
+        /**
+         * 예정 발송 시각부터 HTTP 응답까지 (마이크로초)
+         */
+        private final Histogram httpLatency = new ConcurrentHistogram(3);
+
+        /**
+         * 예정 발송 시각부터 Redis 쓰기까지 (마이크로초)
+         */
+        private final Histogram endToEndLatency = new ConcurrentHistogram(3);
+
+        private final AtomicLong sent = new AtomicLong();
+
+        private final AtomicLong failed = new AtomicLong();
+
+        private final AtomicLong written = new AtomicLong();
+
+        private final AtomicLong lastWriteAt = new AtomicLong();
+
+        private long startedAt;
+
+        LoadRun(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        void start(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        void recordResponse(long scheduledAt, boolean success) {
+            httpLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+            if (!success) {
+                failed.incrementAndGet();
+            }
+        }
+
+        void recordWrite(long scheduledAt) {
+            long now = System.nanoTime();
+            endToEndLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(now - scheduledAt));
+            written.incrementAndGet();
+            lastWriteAt.accumulateAndGet(now, Math::max);
+        }
+
+        void report(int rate, int seconds) throws IOException {
+            double elapsedSeconds = (lastWriteAt.get() - startedAt) / 1e9;
+            long missing = sent.get() - written.get() - failed.get();
+
+            System.out.println("=== 종단 간 부하 테스트 결과 ===");
+            System.out.printf("목표 부하: %d req/s, %d초 (요청 %d건)%n", rate, seconds, sent.get());
+            System.out.printf("HTTP 응답        - 실패: %d, %s%n", failed.get(), summary(httpLatency));
+            System.out.printf("발행 → Redis 쓰기 - 완료: %d, 누락: %d, 처리량: %.1f msg/s, %s%n",
+                    written.get(), missing, elapsedSeconds > 0 ? written.get() / elapsedSeconds : 0.0,
+                    summary(endToEndLatency));
+
+            Path directory = Path.of("target", "loadtest");
+            Files.createDirectories(directory);
+            write(directory.resolve("http.hgrm"), httpLatency);
+            write(directory.resolve("end-to-end.hgrm"), endToEndLatency);
+            System.out.println("지연 시간 분포 저장: " + directory.toAbsolutePath());
+        }
+
+        private static String summary(Histogram histogram) {
+            return String.format("p50: %.2fms, p99: %.2fms, p999: %.2fms, max: %.2fms",
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+
+        private static void write(Path file, Histogram histogram) throws IOException {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // 마이크로초로 기록했으므로 밀리초 단위로 출력
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.kafkaredis.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 프로세스 내 Redis 대역 (RESP2 프로토콜)
+ *
+ * 애플리케이션이 Jedis로 보내는 명령 중 문자열 키 명령만 메모리 맵으로 처리합니다.
+ * (PING, GET, SET 옵션 포함, SETEX, PSETEX, MGET, MSET, DEL, EXISTS, TTL, PTTL, EXPIRE, PEXPIRE,
+ * PUBLISH, INFO, DBSIZE, FLUSHALL 및 연결 시 보내는 CLIENT, SELECT, AUTH)
+ * Lua 스크립트는 실행하지 않고, SCRIPT LOAD로 적재한 스크립트의 EVALSHA(와 EVAL)를 사용자 이벤트 쓰기로 보고
+ * KEYS[1]에 ARGV[1]을 ARGV[2](ms) 동안 저장한 뒤 1을 반환합니다 (순서/중복 확인 없이 항상 적용).
+ * 적재하지 않은 SHA1로 EVALSHA를 보내면 실제 Redis처럼 NOSCRIPT 오류를 반환합니다.
+ * 구독은 지원하지 않으므로 근접 캐시는 끈 상태로 사용해야 합니다.
+ * 연결마다 스레드 하나로 명령을 순서대로 처리하며, 파이프라인으로 들어온 명령은 모아서 응답합니다.
+ * 지연 시간을 지정하면 왕복마다 (파이프라인은 한 번) 응답 전에 그만큼 연결 스레드를 멈춰,
+ * 네트워크나 서버가 느린 Redis처럼 클라이언트 스레드가 응답을 기다리게 합니다.
+ *
+ * 키에 값이 쓰이면 등록한 리스너에 키를 알려, 부하 테스트가 Redis 쓰기 완료 시점을 잴 수 있게 합니다.
+ */
+class RespServerStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "resp-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+
+    /**
+     * SCRIPT LOAD로 적재한 스크립트의 SHA1
+     */
+    private final Set<String> scripts = ConcurrentHashMap.newKeySet();
+
+    private volatile Consumer<String> writeListener = key -> { };
+
+    private volatile boolean running = true;
+
+    /**
+     * 왕복마다 응답 전에 더하는 지연 시간
+     */
+    private final Duration latency;
+
+    /**
+     * 임의의 빈 포트에서 지연 없이 서버를 시작합니다.
+     */
+    RespServerStandIn() throws IOException {
+        this(Duration.ZERO);
+    }
+
+    /**
+     * 임의의 빈 포트에서 왕복마다 지연 시간을 더하는 서버를 시작합니다.
+     *
+     * @param latency 왕복마다 응답 전에 기다릴 시간
+     */
+    RespServerStandIn(Duration latency) throws IOException {
+        this.latency = latency;
+        this.serverSocket = new ServerSocket(0, 512, InetAddress.getLoopbackAddress());
+        connections.execute(this::acceptLoop);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 값이 쓰일 때마다 호출할 리스너를 등록합니다 (연결 스레드에서 호출되므로 가볍게 처리해야 함).
+     *
+     * @param writeListener 쓰인 키를 받는 리스너
+     */
+    void onWrite(Consumer<String> writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    int size() {
+        return store.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("RESP 대역 연결 수락 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            boolean roundTripStarted = false;
+            while (running) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                if (!roundTripStarted) {
+                    delay();
+                    roundTripStarted = true;
+                }
+                execute(command, out);
+                // 파이프라인으로 이어서 들어온 명령이 없을 때만 응답을 내보냄
+                if (in.available() == 0) {
+                    out.flush();
+                    roundTripStarted = false;
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 닫음
+        } catch (InterruptedException e) {
+            // 서버 종료
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void delay() throws InterruptedException {
+        if (!latency.isZero()) {
+            Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "PING" -> simple(out, command.size() > 1 ? text(command.get(1)) : "PONG");
+            case "CLIENT", "SELECT", "AUTH", "FLUSHDB", "FLUSHALL" -> {
+                if (name.startsWith("FLUSH")) {
+                    store.clear();
+                }
+                simple(out, "OK");
+            }
+            case "GET" -> bulk(out, get(text(command.get(1))));
+            case "SET" -> set(command, out);
+            case "SETEX" -> {
+                put(text(command.get(1)), command.get(3), System.currentTimeMillis() + 1000 * number(command.get(2)));
+                simple(out, "OK");
+            }
+            case "PSETEX" -> {
+                put(text(command.get(1)), command.get(3), System.currentTimeMillis() + number(command.get(2)));
+                simple(out, "OK");
+            }
+            case "MGET" -> {
+                array(out, command.size() - 1);
+                for (int i = 1; i < command.size(); i++) {
+                    bulk(out, get(text(command.get(i))));
+                }
+            }
+            case "MSET" -> {
+                for (int i = 1; i + 1 < command.size(); i += 2) {
+                    put(text(command.get(i)), command.get(i + 1), 0);
+                }
+                simple(out, "OK");
+            }
+            case "DEL", "UNLINK" -> {
+                long removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    removed += store.remove(text(command.get(i))) != null ? 1 : 0;
+                }
+                integer(out, removed);
+            }
+            case "EXISTS" -> {
+                long found = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    found += get(text(command.get(i))) != null ? 1 : 0;
+                }
+                integer(out, found);
+            }
+            case "PTTL", "TTL" -> integer(out, ttl(text(command.get(1)), name.equals("TTL")));
+            case "EXPIRE", "PEXPIRE" -> {
+                long millis = number(command.get(2)) * (name.equals("EXPIRE") ? 1000 : 1);
+                Entry entry = store.computeIfPresent(text(command.get(1)),
+                        (key, current) -> new Entry(current.value(), System.currentTimeMillis() + millis));
+                integer(out, entry != null ? 1 : 0);
+            }
+            case "SCRIPT" -> script(command, out);
+            case "EVALSHA" -> {
+                if (!scripts.contains(text(command.get(1)))) {
+                    error(out, "NOSCRIPT No matching script. Please use EVAL.");
+                } else {
+                    evalUserEventWrite(command, out);
+                }
+            }
+            case "EVAL" -> evalUserEventWrite(command, out);
+            case "PUBLISH" -> integer(out, 0);
+            case "DBSIZE" -> integer(out, store.size());
+            case "INFO" -> bulk(out, "# Server\r\nredis_version:7.2.0\r\nredis_mode:standalone\r\n"
+                    .getBytes(StandardCharsets.UTF_8));
+            default -> error(out, "ERR unknown command '" + name + "' (RESP stand-in)");
+        }
+    }
+
+    private void set(List<byte[]> command, OutputStream out) throws IOException {
+        String key = text(command.get(1));
+        long expireAt = 0;
+        boolean nx = false;
+        boolean xx = false;
+        for (int i = 3; i < command.size(); i++) {
+            String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+            switch (option) {
+                case "EX" -> expireAt = System.currentTimeMillis() + 1000 * number(command.get(++i));
+                case "PX" -> expireAt = System.currentTimeMillis() + number(command.get(++i));
+                case "EXAT" -> expireAt = 1000 * number(command.get(++i));
+                case "PXAT" -> expireAt = number(command.get(++i));
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                default -> { }
+            }
+        }
+        boolean exists = get(key) != null;
+        if ((nx && exists) || (xx && !exists)) {
+            bulk(out, null);
+            return;
+        }
+        put(key, command.get(2), expireAt);
+        simple(out, "OK");
+    }
+
+    private void script(List<byte[]> command, OutputStream out) throws IOException {
+        String subcommand = text(command.get(1)).toUpperCase(Locale.ROOT);
+        if (!subcommand.equals("LOAD")) {
+            error(out, "ERR unknown subcommand 'SCRIPT " + subcommand + "' (RESP stand-in)");
+            return;
+        }
+        String sha1 = sha1Hex(command.get(2));
+        scripts.add(sha1);
+        bulk(out, sha1.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * EVAL/EVALSHA 스크립트 numkeys key... arg... 를 KEYS[1]에 ARGV[1]을 ARGV[2](ms) 동안 쓰는 것으로 처리합니다.
+     */
+    private void evalUserEventWrite(List<byte[]> command, OutputStream out) throws IOException {
+        int numKeys = (int) number(command.get(2));
+        String key = text(command.get(3));
+        byte[] value = command.get(3 + numKeys);
+        long ttlMillis = number(command.get(4 + numKeys));
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+        integer(out, 1);
+    }
+
+    private void put(String key, byte[] value, long expireAtMillis) {
+        store.put(key, new Entry(value, expireAtMillis));
+        writeListener.accept(key);
+    }
+
+    private byte[] get(String key) {
+        Entry entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private long ttl(String key, boolean seconds) {
+        Entry entry = store.get(key);
+        if (entry == null || entry.isExpired()) {
+            return -2;
+        }
+        if (entry.expireAtMillis() == 0) {
+            return -1;
+        }
+        long millis = entry.expireAtMillis() - System.currentTimeMillis();
+        return seconds ? millis / 1000 : millis;
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("RESP 배열이 아닌 요청: " + (char) type);
+        }
+        int count = (int) readLong(in);
+        List<byte[]> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("RESP 벌크 문자열이 아닌 인자");
+            }
+            int length = (int) readLong(in);
+            byte[] part = in.readNBytes(length);
+            if (part.length != length) {
+                throw new EOFException();
+            }
+            in.skipNBytes(2);
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    private static long readLong(InputStream in) throws IOException {
+        long value = 0;
+        boolean negative = false;
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException();
+            }
+            if (b == '-') {
+                negative = true;
+            } else {
+                value = value * 10 + (b - '0');
+            }
+        }
+        in.read();
+        return negative ? -value : value;
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(('+' + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void error(OutputStream out, String message) throws IOException {
+        out.write(('-' + message + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void array(OutputStream out, int size) throws IOException {
+        out.write(("*" + size + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(value);
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long number(byte[] bytes) {
+        return Long.parseLong(text(bytes));
+    }
+
+    private static String sha1Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] value, long expireAtMillis) {
+
+        boolean isExpired() {
+            return expireAtMillis != 0 && System.currentTimeMillis() >= expireAtMillis;
+        }
+    }
+}
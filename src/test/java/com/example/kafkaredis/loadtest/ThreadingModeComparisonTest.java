@@ -0,0 +1,215 @@
+package com.example.kafkaredis.loadtest;
+
+import com.example.kafkaredis.KafkaRedisApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaZKBroker;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 플랫폼 스레드와 가상 스레드(virtual-threads 프로필) 모드의 처리량/지연 시간 비교
+ *
+ * 같은 임베디드 Kafka에 대해 애플리케이션 전체를 두 번 띄웁니다 (한 번은 프로필 없이, 한 번은 virtual-threads 프로필).
+ * 매번 왕복마다 지연 시간을 더하는 RESP Redis 대역({@link RespServerStandIn})을 새로 띄워,
+ * 요청 스레드가 Redis 응답을 기다리며 막히는 상황을 만듭니다.
+ * 동시 사용자 수만큼의 클라이언트가 응답을 받자마자 다음 요청을 보내는 방식(closed-loop)으로
+ * POST /api/test/redis/set 을 호출하고, 모드별 처리량(rps)과 응답 지연 시간(p50/p99/p999)을 출력합니다.
+ * 프로필 설정 그대로 비교하므로 Redis 연결 풀 크기(virtual-threads 프로필은 max-active 64)도 함께 달라집니다.
+ * 지연 시간 분포는 target/loadtest/threading-*.hgrm 파일로 저장합니다.
+ *
+ * 가상 스레드는 Java 21 이상에서만 켜지므로 그보다 낮은 버전에서는 건너뜁니다.
+ * 일반 테스트 실행에서는 건너뛰며, 다음과 같이 실행합니다:
+ * mvn -Pjava21 test -Dtest=ThreadingModeComparisonTest -Dloadtest=true -Dloadtest.concurrency=400
+ * 그 밖의 설정: -Dloadtest.duration-seconds, -Dloadtest.warmup-seconds, -Dloadtest.redis-latency-ms,
+ * -Dloadtest.payload-bytes, -Dloadtest.log-level (애플리케이션 로그 레벨, 기본 WARN)
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ThreadingModeComparisonTest {
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 400);
+
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+
+    private final int redisLatencyMillis = Integer.getInteger("loadtest.redis-latency-ms", 5);
+
+    private final int payloadBytes = Integer.getInteger("loadtest.payload-bytes", 256);
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        assumeTrue(JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE),
+                "virtual-threads 프로필은 Java 21 이상에서만 가상 스레드를 사용합니다");
+
+        EmbeddedKafkaBroker kafka = new EmbeddedKafkaZKBroker(1, false, 3, "test-topic", "user-events");
+        kafka.afterPropertiesSet();
+        List<ModeResult> results = new ArrayList<>();
+        try {
+            results.add(run("platform", null, kafka));
+            results.add(run("virtual", "virtual-threads", kafka));
+        } finally {
+            kafka.destroy();
+        }
+        report(results);
+    }
+
+    /**
+     * 애플리케이션을 주어진 프로필로 띄워 워밍업 후 측정하고 종료합니다.
+     *
+     * @param mode 결과에 표시할 모드 이름
+     * @param profile 활성화할 프로필, 없으면 null
+     * @param kafka 공유하는 임베디드 Kafka
+     * @return 측정 결과
+     */
+    private ModeResult run(String mode, String profile, EmbeddedKafkaBroker kafka) throws Exception {
+        try (RespServerStandIn redis = new RespServerStandIn(Duration.ofMillis(redisLatencyMillis))) {
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(KafkaRedisApplication.class);
+            if (profile != null) {
+                builder.profiles(profile);
+            }
+            // application.yml 보다 우선하도록 명령행 인수로 전달
+            try (ConfigurableApplicationContext context = builder.run(
+                    "--server.port=0",
+                    "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                    "--spring.data.redis.host=127.0.0.1",
+                    "--spring.data.redis.port=" + redis.getPort(),
+                    "--logging.level.com.example.kafkaredis=" + System.getProperty("loadtest.log-level", "WARN"))) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String payload = payload(payloadBytes);
+                if (warmupSeconds > 0) {
+                    drive(port, mode + "-warmup", warmupSeconds, payload);
+                }
+                return drive(port, mode, durationSeconds, payload);
+            }
+        }
+    }
+
+    /**
+     * 동시 사용자 수만큼의 클라이언트가 정해진 시간 동안 요청을 연달아 보냅니다.
+     */
+    private ModeResult drive(int port, String mode, int seconds, String payload) throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ModeResult result = new ModeResult(mode);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (int c = 0; c < concurrency; c++) {
+            int clientId = c;
+            clients.execute(() -> {
+                long sequence = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                    + "/api/test/redis/set?key=load:" + mode + ":" + clientId + ":" + sequence++))
+                            .header("Content-Type", "text/plain")
+                            .timeout(Duration.ofSeconds(30))
+                            .POST(HttpRequest.BodyPublishers.ofString(payload))
+                            .build();
+                    long sentAt = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        result.record(sentAt, response.statusCode() == 200);
+                    } catch (IOException e) {
+                        result.record(sentAt, false);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        result.finish(start);
+        return result;
+    }
+
+    private void report(List<ModeResult> results) throws IOException {
+        Path directory = Path.of("target", "loadtest");
+        Files.createDirectories(directory);
+
+        System.out.println("=== 스레드 모드 비교 결과 ===");
+        System.out.printf("동시 사용자: %d, 측정: %d초, Redis 왕복 지연: %dms%n",
+                concurrency, durationSeconds, redisLatencyMillis);
+        for (ModeResult result : results) {
+            System.out.println(result.summary());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    directory.resolve("threading-" + result.mode + ".hgrm")))) {
+                // 마이크로초로 기록했으므로 밀리초 단위로 출력
+                result.latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.println("지연 시간 분포 저장: " + directory.toAbsolutePath());
+    }
+
+    private static String payload(int bytes) {
+        return "x".repeat(Math.max(1, bytes));
+    }
+
+    /**
+     * 한 모드의 측정 결과
+     */
+    private static final class ModeResult {
+
+        private final String mode;
+
+        /**
+         * 요청 발송부터 응답까지 (마이크로초)
+         */
+        private final Histogram latency = new ConcurrentHistogram(3);
+
+        private final AtomicLong succeeded = new AtomicLong();
+
+        private final AtomicLong failed = new AtomicLong();
+
+        private double elapsedSeconds;
+
+        ModeResult(String mode) {
+            this.mode = mode;
+        }
+
+        void record(long sentAt, boolean success) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+            (success ? succeeded : failed).incrementAndGet();
+        }
+
+        void finish(long startedAt) {
+            elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        }
+
+        String summary() {
+            return String.format("%-8s - 처리량: %.1f rps, 성공: %d, 실패: %d, p50: %.2fms, p99: %.2fms, p999: %.2fms",
+                    mode, elapsedSeconds > 0 ? succeeded.get() / elapsedSeconds : 0.0, succeeded.get(), failed.get(),
+                    latency.getValueAtPercentile(50) / 1000.0,
+                    latency.getValueAtPercentile(99) / 1000.0,
+                    latency.getValueAtPercentile(99.9) / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.kafkaredis.metrics;
+
+import com.example.kafkaredis.metrics.ConsumerLagMonitor.GroupLag;
+import com.example.kafkaredis.metrics.ConsumerLagMonitor.LagSnapshot;
+import com.example.kafkaredis.metrics.ConsumerLagMonitor.PartitionLag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class ConsumerLagMonitorTest {
+
+    private static final TopicPartition USER_EVENTS_0 = new TopicPartition("user-events", 0);
+
+    private static final TopicPartition USER_EVENTS_1 = new TopicPartition("user-events", 1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConsumerLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 주기 확인이 테스트 중에 실행되지 않도록 확인 주기를 길게 설정
+        lagMonitor = new ConsumerLagMonitor(new KafkaAdmin(Map.of()), meterRegistry, true,
+                new String[] {"test-group", "user-group"}, Duration.ofHours(1), "earliest");
+    }
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.destroy();
+    }
+
+    @Test
+    void testUpdatePublishesPartitionAndGroupLag() {
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 100L, USER_EVENTS_1, 40L),
+                Map.of(USER_EVENTS_0, 130L, USER_EVENTS_1, 40L), 1_000L);
+
+        assertEquals(30.0, meterRegistry.get(ConsumerLagMonitor.PARTITION_LAG)
+                .tag("group", "user-group").tag("partition", "0").gauge().value());
+        assertEquals(0.0, meterRegistry.get(ConsumerLagMonitor.PARTITION_LAG)
+                .tag("group", "user-group").tag("partition", "1").gauge().value());
+        assertEquals(30.0, meterRegistry.get(ConsumerLagMonitor.GROUP_LAG)
+                .tag("group", "user-group").gauge().value());
+    }
+
+    @Test
+    void testRecordsPerSecondAndProcessingTimeAreMeasuredBetweenChecks() {
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 100L), Map.of(USER_EVENTS_0, 200L), 1_000L);
+        lagMonitor.recordProcessed("user-group", "user-events", 0, 50, 100_000_000L);
+
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 150L), Map.of(USER_EVENTS_0, 200L), 3_000L);
+
+        PartitionLag partition = lagMonitor.snapshot().groups().get(0).partitions().get(0);
+        assertEquals(25.0, partition.recordsPerSecond());
+        assertEquals(2.0, partition.processingMillisPerRecord());
+        assertEquals(50, partition.lag());
+    }
+
+    @Test
+    void testProcessingTimeIsUnknownWithoutLocalRecords() {
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 100L), Map.of(USER_EVENTS_0, 100L), 1_000L);
+
+        assertNull(lagMonitor.snapshot().groups().get(0).partitions().get(0).processingMillisPerRecord());
+        assertTrue(Double.isNaN(meterRegistry.get(ConsumerLagMonitor.PROCESSING_TIME).gauge().value()));
+    }
+
+    @Test
+    void testRecordProcessedIgnoresUnmonitoredGroup() {
+        lagMonitor.recordProcessed("other-group", "user-events", 0, 1, 1_000L);
+
+        assertNull(meterRegistry.find(ConsumerLagMonitor.PARTITION_LAG).gauge());
+    }
+
+    @Test
+    void testSnapshotIsSortedByGroupAndPartition() {
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_1, 5L, USER_EVENTS_0, 5L),
+                Map.of(USER_EVENTS_1, 10L, USER_EVENTS_0, 7L), 1_000L);
+        lagMonitor.update("test-group", Map.of(new TopicPartition("test-topic", 0), 1L),
+                Map.of(new TopicPartition("test-topic", 0), 1L), 1_000L);
+
+        LagSnapshot snapshot = lagMonitor.snapshot();
+
+        assertNotNull(snapshot.checkedAt());
+        assertEquals("test-group", snapshot.groups().get(0).group());
+        GroupLag userGroup = snapshot.groups().get(1);
+        assertEquals(7, userGroup.totalLag());
+        assertEquals(0, userGroup.partitions().get(0).partition());
+        assertEquals(1, userGroup.partitions().get(1).partition());
+    }
+
+    @Test
+    void testRefreshCountsUncommittedPartitionsFromEarliestAndMonitorsRetryGroups() throws Exception {
+        TopicPartition retry0 = new TopicPartition("user-events-retry-0", 0);
+        Admin admin = fakeAdmin(
+                List.of("user-group", "user-group-retry-0", "other-group"),
+                // user-events-1과 재시도 토픽 파티션은 아직 커밋이 없음
+                Map.of("user-group", Map.of(USER_EVENTS_0, 10L)),
+                Map.of("user-group-retry-0", Set.of(retry0)),
+                Map.of("user-events", 2, "user-events-retry-0", 1),
+                Map.of(USER_EVENTS_1, 5L, retry0, 0L),
+                Map.of(USER_EVENTS_0, 30L, USER_EVENTS_1, 20L, retry0, 4L));
+
+        lagMonitor.refresh(admin);
+
+        assertEquals(20.0, partitionLag("user-group", "user-events", 0));
+        assertEquals(15.0, partitionLag("user-group", "user-events", 1));
+        assertEquals(35.0, meterRegistry.get(ConsumerLagMonitor.GROUP_LAG).tag("group", "user-group").gauge().value());
+        assertEquals(4.0, partitionLag("user-group-retry-0", "user-events-retry-0", 0));
+        assertEquals(0.0, meterRegistry.get(ConsumerLagMonitor.GROUP_LAG).tag("group", "test-group").gauge().value());
+        assertNull(meterRegistry.find(ConsumerLagMonitor.GROUP_LAG).tag("group", "other-group").gauge());
+    }
+
+    @Test
+    void testRefreshTreatsUncommittedPartitionsAsCaughtUpWithLatestReset() throws Exception {
+        ConsumerLagMonitor latestMonitor = new ConsumerLagMonitor(new KafkaAdmin(Map.of()), meterRegistry, true,
+                new String[] {"user-group"}, Duration.ofHours(1), "latest");
+        Admin admin = fakeAdmin(List.of("user-group"), Map.of("user-group", Map.of(USER_EVENTS_0, 10L)), Map.of(),
+                Map.of("user-events", 2), Map.of(USER_EVENTS_1, 5L), Map.of(USER_EVENTS_0, 30L, USER_EVENTS_1, 20L));
+        try {
+            latestMonitor.refresh(admin);
+        } finally {
+            latestMonitor.destroy();
+        }
+
+        assertEquals(0.0, partitionLag("user-group", "user-events", 1));
+        assertEquals(20.0, meterRegistry.get(ConsumerLagMonitor.GROUP_LAG).tag("group", "user-group").gauge().value());
+    }
+
+    @Test
+    void testRetryAndDltGroupsOfMonitoredGroupsAreMonitored() {
+        assertTrue(lagMonitor.isMonitored("user-group"));
+        assertTrue(lagMonitor.isMonitored("user-group-retry-0"));
+        assertTrue(lagMonitor.isMonitored("user-group-dlt"));
+        assertFalse(lagMonitor.isMonitored("user-group-other"));
+        assertFalse(lagMonitor.isMonitored(null));
+
+        lagMonitor.recordProcessed("user-group-retry-1", "user-events-retry-1", 0, 1, 1_000L);
+
+        assertNotNull(meterRegistry.find(ConsumerLagMonitor.PARTITION_LAG).tag("group", "user-group-retry-1").gauge());
+    }
+
+    @Test
+    void testGaugesOfRemovedPartitionsAreUnregistered() {
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 1L, USER_EVENTS_1, 1L),
+                Map.of(USER_EVENTS_0, 2L, USER_EVENTS_1, 2L), 1_000L);
+
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 1L), Map.of(USER_EVENTS_0, 2L), 2_000L);
+
+        assertNotNull(meterRegistry.find(ConsumerLagMonitor.PARTITION_LAG).tag("partition", "0").gauge());
+        assertNull(meterRegistry.find(ConsumerLagMonitor.PARTITION_LAG).tag("partition", "1").gauge());
+        assertNull(meterRegistry.find(ConsumerLagMonitor.PROCESSING_TIME).tag("partition", "1").gauge());
+        assertEquals(1, lagMonitor.snapshot().groups().get(0).partitions().size());
+    }
+
+    @Test
+    void testGaugesOfGoneGroupsAreUnregistered() {
+        lagMonitor.update("user-group-retry-0", Map.of(USER_EVENTS_0, 1L), Map.of(USER_EVENTS_0, 2L), 1_000L);
+        lagMonitor.update("user-group", Map.of(USER_EVENTS_0, 1L), Map.of(USER_EVENTS_0, 2L), 1_000L);
+
+        lagMonitor.retainGroups(Set.of("user-group"));
+
+        assertNull(meterRegistry.find(ConsumerLagMonitor.GROUP_LAG).tag("group", "user-group-retry-0").gauge());
+        assertNull(meterRegistry.find(ConsumerLagMonitor.PARTITION_LAG).tag("group", "user-group-retry-0").gauge());
+        assertNotNull(meterRegistry.find(ConsumerLagMonitor.GROUP_LAG).tag("group", "user-group").gauge());
+    }
+
+    private double partitionLag(String group, String topic, int partition) {
+        return meterRegistry.get(ConsumerLagMonitor.PARTITION_LAG).tag("group", group).tag("topic", topic)
+                .tag("partition", String.valueOf(partition)).gauge().value();
+    }
+
+    /**
+     * 그룹 목록, 커밋, 멤버 할당, 토픽 파티션 수, 시작/끝 오프셋을 돌려주는 Admin을 만듭니다.
+     */
+    private static Admin fakeAdmin(List<String> listedGroups,
+                                   Map<String, Map<TopicPartition, Long>> committed,
+                                   Map<String, Set<TopicPartition>> assigned,
+                                   Map<String, Integer> topicPartitions,
+                                   Map<TopicPartition, Long> earliest,
+                                   Map<TopicPartition, Long> latest) {
+        Admin admin = mock(Admin.class);
+
+        ListConsumerGroupsResult listing = mock(ListConsumerGroupsResult.class);
+        Collection<ConsumerGroupListing> listings = new ArrayList<>();
+        listedGroups.forEach(group -> listings.add(new ConsumerGroupListing(group, false)));
+        when(listing.all()).thenReturn(KafkaFuture.completedFuture(listings));
+        when(admin.listConsumerGroups()).thenReturn(listing);
+
+        Set<String> groups = new HashSet<>(listedGroups);
+        groups.addAll(List.of("test-group", "user-group"));
+        for (String group : groups) {
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            committed.getOrDefault(group, Map.of()).forEach((topicPartition, offset) ->
+                    offsets.put(topicPartition, new OffsetAndMetadata(offset)));
+            ListConsumerGroupOffsetsResult offsetsResult = mock(ListConsumerGroupOffsetsResult.class);
+            when(offsetsResult.partitionsToOffsetAndMetadata()).thenReturn(KafkaFuture.completedFuture(offsets));
+            when(admin.listConsumerGroupOffsets(group)).thenReturn(offsetsResult);
+
+            List<MemberDescription> members = new ArrayList<>();
+            if (assigned.containsKey(group)) {
+                members.add(new MemberDescription("member-1", "client-1", "/127.0.0.1",
+                        new MemberAssignment(assigned.get(group))));
+            }
+            ConsumerGroupDescription description = new ConsumerGroupDescription(group, false, members, "range",
+                    members.isEmpty() ? ConsumerGroupState.EMPTY : ConsumerGroupState.STABLE, null);
+            when(admin.describeConsumerGroups(List.of(group)))
+                    .thenReturn(new DescribeConsumerGroupsResult(Map.of(group, KafkaFuture.completedFuture(description))));
+        }
+
+        when(admin.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<TopicDescription>> descriptions = new HashMap<>();
+            for (Object name : invocation.<Collection<?>>getArgument(0)) {
+                String topic = (String) name;
+                List<TopicPartitionInfo> partitionInfos = new ArrayList<>();
+                for (int i = 0; i < topicPartitions.get(topic); i++) {
+                    partitionInfos.add(new TopicPartitionInfo(i, null, List.of(), List.of()));
+                }
+                descriptions.put(topic, KafkaFuture.completedFuture(new TopicDescription(topic, false, partitionInfos)));
+            }
+            return new DescribeTopicsResult(null, descriptions) { };
+        });
+
+        when(admin.listOffsets(anyMap(), any(ListOffsetsOptions.class))).thenAnswer(invocation -> {
+            Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> offsets = new HashMap<>();
+            invocation.<Map<TopicPartition, OffsetSpec>>getArgument(0).forEach((topicPartition, spec) -> {
+                long offset = spec instanceof OffsetSpec.EarliestSpec
+                        ? earliest.get(topicPartition) : latest.get(topicPartition);
+                offsets.put(topicPartition,
+                        KafkaFuture.completedFuture(new ListOffsetsResultInfo(offset, -1L, Optional.empty())));
+            });
+            return new ListOffsetsResult(offsets);
+        });
+        return admin;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.kafkaredis.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLatencyMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EventLatencyMetrics latencyMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        latencyMetrics = new EventLatencyMetrics(meterRegistry);
+    }
+
+    @Test
+    void testEncodeAndDecodeProducedAt() {
+        long now = System.currentTimeMillis();
+
+        assertEquals(now, EventLatencyMetrics.decodeProducedAt(EventLatencyMetrics.encodeProducedAt(now)));
+        assertEquals(-1, EventLatencyMetrics.decodeProducedAt(null));
+        assertEquals(-1, EventLatencyMetrics.decodeProducedAt(new byte[] {1, 2}));
+    }
+
+    @Test
+    void testRecordConsumedUsesProducedAtHeader() {
+        ConsumerRecord<String, String> record = record(System.currentTimeMillis() - 50);
+
+        latencyMetrics.recordConsumed(record);
+
+        Timer timer = meterRegistry.find(EventLatencyMetrics.PRODUCE_TO_CONSUME)
+                .tag("topic", "user-events")
+                .tag("partition", "2")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    void testRecordConsumedIgnoresRecordWithoutHeader() {
+        latencyMetrics.recordConsumed(new ConsumerRecord<>("user-events", 2, 10L, "user1", "{}"));
+
+        assertNull(meterRegistry.find(EventLatencyMetrics.PRODUCE_TO_CONSUME).timer());
+    }
+
+    @Test
+    void testRecordRedisWriteRecordsConsumeAndProduceLatency() {
+        latencyMetrics.recordRedisWrite(record(System.currentTimeMillis()), System.nanoTime());
+
+        assertEquals(1, meterRegistry.get(EventLatencyMetrics.CONSUME_TO_REDIS).tag("partition", "2").timer().count());
+        assertEquals(1, meterRegistry.get(EventLatencyMetrics.PRODUCE_TO_REDIS).tag("partition", "2").timer().count());
+    }
+
+    @Test
+    void testRecordRedisWriteWithoutProducedAtSkipsProduceLatency() {
+        latencyMetrics.recordRedisWrite("user-events", 0, -1, System.nanoTime());
+
+        assertEquals(1, meterRegistry.get(EventLatencyMetrics.CONSUME_TO_REDIS).timer().count());
+        assertEquals(0, meterRegistry.get(EventLatencyMetrics.PRODUCE_TO_REDIS).timer().count());
+    }
+
+    @Test
+    void testInterceptorKeepsExistingProducedAt() {
+        ProducedAtInterceptor interceptor = new ProducedAtInterceptor();
+        ProducerRecord<Object, Object> fresh = new ProducerRecord<>("user-events", "user1", "{}");
+        ProducerRecord<Object, Object> retried = new ProducerRecord<>("user-events", "user1", "{}");
+        retried.headers().add(EventLatencyMetrics.PRODUCED_AT_HEADER, EventLatencyMetrics.encodeProducedAt(1000L));
+
+        interceptor.onSend(fresh);
+        interceptor.onSend(retried);
+
+        assertTrue(EventLatencyMetrics.producedAt(fresh.headers()) > 0);
+        assertEquals(1000L, EventLatencyMetrics.producedAt(retried.headers()));
+    }
+
+    private ConsumerRecord<String, String> record(long producedAt) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("user-events", 2, 10L, "user1", "{}");
+        record.headers().add(EventLatencyMetrics.PRODUCED_AT_HEADER, EventLatencyMetrics.encodeProducedAt(producedAt));
+        return record;
+    }
+}
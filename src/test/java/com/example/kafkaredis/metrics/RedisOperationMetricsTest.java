@@ -0,0 +1,58 @@
+package com.example.kafkaredis.metrics;
+
+import com.example.kafkaredis.metrics.RedisOperationMetrics.Operation;
+import com.example.kafkaredis.metrics.RedisOperationMetrics.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisOperationMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testKeyPrefixUsesLongestConfiguredPrefix() {
+        RedisOperationMetrics metrics = metrics(true, "user:", "user:event:");
+
+        assertEquals("user:event:", metrics.keyPrefix("user:event:{user123}"));
+        assertEquals("user:", metrics.keyPrefix("user:profile:1"));
+    }
+
+    @Test
+    void testUnconfiguredKeysAreGroupedAsOther() {
+        RedisOperationMetrics metrics = metrics(true, "user:event:");
+
+        // API로 들어온 임의의 키가 접두사 태그를 새로 만들지 않아야 함
+        for (int i = 0; i < 100; i++) {
+            assertEquals(RedisOperationMetrics.OTHER_PREFIX, metrics.keyPrefix("random" + i + ":key"));
+        }
+        assertEquals(RedisOperationMetrics.OTHER_PREFIX, metrics.keyPrefix("plain-key"));
+        assertEquals("user:event:", metrics.keyPrefix("user:event:{user123}"));
+    }
+
+    @Test
+    void testRecordReusesTimerPerOperationPrefixAndOutcome() {
+        RedisOperationMetrics metrics = metrics(true, "user:");
+
+        metrics.record(Operation.GET, "user:1", Outcome.HIT, System.nanoTime());
+        metrics.record(Operation.GET, "user:2", Outcome.HIT, System.nanoTime());
+
+        assertEquals(1, meterRegistry.find(RedisOperationMetrics.OPERATION_TIMER).timers().size());
+        assertEquals(2, meterRegistry.get(RedisOperationMetrics.OPERATION_TIMER).timer().count());
+    }
+
+    @Test
+    void testDisabledMetricsRecordNothing() {
+        RedisOperationMetrics metrics = metrics(false, "user:");
+
+        metrics.record(Operation.SET, "user:1", Outcome.SUCCESS, System.nanoTime());
+        metrics.recordError(Operation.SET, "user:1", System.nanoTime(), new RuntimeException("실패"));
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private RedisOperationMetrics metrics(boolean enabled, String... keyPrefixes) {
+        return new RedisOperationMetrics(meterRegistry, enabled, keyPrefixes);
+    }
+}
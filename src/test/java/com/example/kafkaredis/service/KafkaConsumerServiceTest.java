@@ -0,0 +1,237 @@
+package com.example.kafkaredis.service;
+
+import com.example.kafkaredis.dedupe.ConsumerDeduplicator;
+import com.example.kafkaredis.dedupe.DedupeToken;
+import com.example.kafkaredis.dedupe.EventPosition;
+import com.example.kafkaredis.dedupe.WriteOutcome;
+import com.example.kafkaredis.metrics.EventLatencyMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaConsumerServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private UserEventCoalescer userEventCoalescer;
+
+    @Mock
+    private KeyOrderedDispatcher keyOrderedDispatcher;
+
+    @Mock
+    private RedisWriteBehindBuffer writeBehindBuffer;
+
+    @Mock
+    private ConsumerDeduplicator consumerDeduplicator;
+
+    @Mock
+    private KafkaTemplate<String, String> transactionalKafkaTemplate;
+
+    @Mock
+    private EventLatencyMetrics eventLatencyMetrics;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private KafkaConsumerService kafkaConsumerService;
+
+    @BeforeEach
+    void setUp() {
+        kafkaConsumerService = new KafkaConsumerService(new ObjectMapper(), redisService, userEventCoalescer,
+                keyOrderedDispatcher, false, writeBehindBuffer, consumerDeduplicator,
+                transactionalKafkaTemplate, "test-topic-derived", eventLatencyMetrics);
+    }
+
+    @Test
+    void testWriteBehindListenerSubmitsEventWithAck() throws Exception {
+        when(writeBehindBuffer.submit("user1", "{\"action\":\"login\"}", null, ack)).thenReturn(true);
+
+        kafkaConsumerService.consumeUserEventWriteBehind("{\"action\":\"login\"}", "user1", "user-events",
+                0, 5L, null, ack);
+
+        verify(writeBehindBuffer).submit("user1", "{\"action\":\"login\"}", null, ack);
+    }
+
+    @Test
+    void testWriteBehindListenerSubmitsDedupeToken() throws Exception {
+        DedupeToken token = new DedupeToken("dedupe:offset:user-events:{user1}", "2", 40L, Duration.ofHours(1));
+        when(consumerDeduplicator.isEnabled()).thenReturn(true);
+        when(consumerDeduplicator.tokenFor("user-events", 2, 40L, "user1", null)).thenReturn(token);
+        when(writeBehindBuffer.submit("user1", "{}", token, ack)).thenReturn(true);
+
+        kafkaConsumerService.consumeUserEventWriteBehind("{}", "user1", "user-events", 2, 40L, null, ack);
+
+        verify(writeBehindBuffer).submit("user1", "{}", token, ack);
+    }
+
+    @Test
+    void testWriteBehindListenerThrowsWithoutAckWhenBufferIsFull() throws Exception {
+        when(writeBehindBuffer.submit("user1", "{\"action\":\"login\"}", null, ack)).thenReturn(false);
+
+        // 예외를 던져 에러 핸들러가 같은 오프셋부터 다시 처리하도록 함 (ack 하지 않음)
+        assertThrows(IllegalStateException.class, () ->
+                kafkaConsumerService.consumeUserEventWriteBehind("{\"action\":\"login\"}", "user1", "user-events",
+                        0, 5L, null, ack));
+        verifyNoInteractions(ack);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testParallelBatchWritesWithDedupeTokensWhenEnabled() {
+        kafkaConsumerService = new KafkaConsumerService(new ObjectMapper(), redisService, userEventCoalescer,
+                keyOrderedDispatcher, true, writeBehindBuffer, consumerDeduplicator,
+                transactionalKafkaTemplate, "test-topic-derived", eventLatencyMetrics);
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("user-events", 0, 11L, "user2", "event2"),
+                new ConsumerRecord<>("user-events", 0, 10L, "user1", "event1"));
+        DedupeToken token1 = new DedupeToken("dedupe:offset:user-events", "0", 10L, Duration.ofHours(1));
+        DedupeToken token2 = new DedupeToken("dedupe:offset:user-events", "0", 11L, Duration.ofHours(1));
+        when(userEventCoalescer.coalesce(records)).thenReturn(records);
+        when(consumerDeduplicator.isEnabled()).thenReturn(true);
+        when(consumerDeduplicator.tokenFor(records.get(0))).thenReturn(token2);
+        when(consumerDeduplicator.tokenFor(records.get(1))).thenReturn(token1);
+        when(keyOrderedDispatcher.dispatchChunks(eq(records), any())).thenAnswer(invocation -> {
+            invocation.<KeyOrderedDispatcher.ChunkHandler<String>>getArgument(1).handle(records);
+            return new boolean[] {true, true};
+        });
+        when(redisService.cacheUserEventsOnce(any(), any()))
+                .thenReturn(Map.of("user1", WriteOutcome.APPLIED, "user2", WriteOutcome.DUPLICATE));
+
+        kafkaConsumerService.consumeUserEventBatch(records);
+
+        // 워커 묶음도 오프셋 순서로 정렬하여 토큰과 함께 조건부 쓰기
+        ArgumentCaptor<Map<String, String>> events = ArgumentCaptor.forClass(Map.class);
+        verify(redisService).cacheUserEventsOnce(events.capture(), eq(Map.of("user1", token1, "user2", token2)));
+        assertEquals(List.of("user1", "user2"), List.copyOf(events.getValue().keySet()));
+        verify(redisService, never()).cacheUserEvents(any());
+    }
+
+    @Test
+    void testUserEventIsWrittenAtItsOwnPosition() {
+        when(redisService.cacheUserEventInOrder("user1", "{\"action\":\"login\"}", new EventPosition(2, 40L), null))
+                .thenReturn(WriteOutcome.APPLIED);
+
+        kafkaConsumerService.consumeUserEvent("{\"action\":\"login\"}", "user1", "user-events", 2, 40L,
+                null, null, null, null);
+
+        verify(eventLatencyMetrics).recordRedisWrite(eq("user-events"), eq(2), anyLong(), anyLong());
+    }
+
+    @Test
+    void testRetriedUserEventUsesOriginalPositionAndSkipsWhenStale() {
+        // 재시도 토픽의 위치(0@3)가 아니라 원본 위치(2@40)로 순서를 확인
+        when(redisService.cacheUserEventInOrder("user1", "{\"action\":\"login\"}", new EventPosition(2, 40L), null))
+                .thenReturn(WriteOutcome.STALE);
+
+        kafkaConsumerService.consumeUserEvent("{\"action\":\"login\"}", "user1", "user-events-retry-0", 0, 3L,
+                null, null, intHeader(2), longHeader(40L));
+
+        verifyNoInteractions(eventLatencyMetrics);
+    }
+
+    @Test
+    void testUserEventDedupeTokenIsPassedWithPosition() {
+        DedupeToken token = new DedupeToken("dedupe:offset:user-events:{user1}", "2", 40L, Duration.ofHours(1));
+        when(consumerDeduplicator.isEnabled()).thenReturn(true);
+        when(consumerDeduplicator.tokenFor("user-events", 2, 40L, "user1", null)).thenReturn(token);
+        when(redisService.cacheUserEventInOrder("user1", "{}", new EventPosition(2, 40L), token))
+                .thenReturn(WriteOutcome.DUPLICATE);
+
+        kafkaConsumerService.consumeUserEvent("{}", "user1", "user-events", 2, 40L, null, null, null, null);
+
+        verifyNoInteractions(eventLatencyMetrics);
+    }
+
+    @Test
+    void testUserEventFailureIsRethrownForRetryTopic() {
+        when(redisService.cacheUserEventInOrder(anyString(), anyString(), any(), any()))
+                .thenReturn(WriteOutcome.FAILED);
+
+        // 예외를 던져야 재시도 토픽(소진 시 DLT)으로 넘어감
+        assertThrows(IllegalStateException.class, () ->
+                kafkaConsumerService.consumeUserEvent("{}", "user1", "user-events", 0, 1L, null, null, null, null));
+        verify(eventLatencyMetrics, never()).recordRedisWrite(anyString(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void testDeadLetterIsLoggedWithoutReprocessing() {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("user-events-dlt", 0, 7L, "user1", "{}");
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "user-events".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_PARTITION, intHeader(2));
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_OFFSET, longHeader(40L));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN,
+                IllegalStateException.class.getName().getBytes(StandardCharsets.UTF_8));
+
+        assertDoesNotThrow(() -> kafkaConsumerService.handleDeadLetter(record));
+        verifyNoInteractions(redisService);
+    }
+
+    @Test
+    void testDeadLetterWithoutHeadersIsHandled() {
+        assertDoesNotThrow(() -> kafkaConsumerService.handleDeadLetter(
+                new ConsumerRecord<>("test-topic-dlt", 0, 0L, null, "broken")));
+    }
+
+    @Test
+    void testTransactionalListenerPublishesOneDerivedEventPerRecord() throws Exception {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("test-topic", 0, 10L, "key1", "message1"),
+                new ConsumerRecord<>("test-topic", 0, 11L, "key2", "message2"));
+
+        kafkaConsumerService.consumeTestMessageTransactional(records);
+
+        ArgumentCaptor<String> derived = ArgumentCaptor.forClass(String.class);
+        verify(transactionalKafkaTemplate).send(eq("test-topic-derived"), eq("key1"), derived.capture());
+        verify(transactionalKafkaTemplate).send(eq("test-topic-derived"), eq("key2"), derived.capture());
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(10, objectMapper.readTree(derived.getAllValues().get(0)).get("sourceOffset").asLong());
+        assertEquals("message2", objectMapper.readTree(derived.getAllValues().get(1)).get("payload").asText());
+    }
+
+    @Test
+    void testTransactionalListenerPropagatesSendFailureToAbortTransaction() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("test-topic", 0, 10L, "key1", "message1"),
+                new ConsumerRecord<>("test-topic", 0, 11L, "key2", "message2"));
+        when(transactionalKafkaTemplate.send(eq("test-topic-derived"), eq("key2"), anyString()))
+                .thenThrow(new KafkaException("producer fenced"));
+
+        // 예외를 삼키지 않아야 컨테이너가 트랜잭션(key1의 파생 이벤트 포함)을 취소함
+        assertThrows(KafkaException.class, () -> kafkaConsumerService.consumeTestMessageTransactional(records));
+        verify(transactionalKafkaTemplate).send(eq("test-topic-derived"), eq("key1"), anyString());
+    }
+
+    private static byte[] intHeader(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    private static byte[] longHeader(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+}
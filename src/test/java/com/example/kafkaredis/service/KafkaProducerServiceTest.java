@@ -1,17 +1,34 @@
 package com.example.kafkaredis.service;
 
+import com.example.kafkaredis.codec.CodecProperties;
+import com.example.kafkaredis.codec.PayloadCodecRegistry;
+import com.example.kafkaredis.dto.BatchSendResult;
+import com.example.kafkaredis.dto.KeyedMessage;
+import com.example.kafkaredis.dto.SendReceipt;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -22,55 +39,233 @@ class KafkaProducerServiceTest {
     @Mock
     private KafkaTemplate<String, String> kafkaTemplate;
 
+    @Mock
+    private KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+
     @Mock
     private ObjectMapper objectMapper;
 
-    @InjectMocks
     private KafkaProducerService kafkaProducerService;
 
-    private CompletableFuture<SendResult<String, String>> future;
-
     @BeforeEach
     void setUp() {
-        future = new CompletableFuture<>();
-        when(kafkaTemplate.send(anyString(), anyString())).thenReturn(future);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        kafkaProducerService = new KafkaProducerService(kafkaTemplate, byteArrayKafkaTemplate,
+                new PayloadCodecRegistry(new CodecProperties(), objectMapper), Runnable::run);
     }
 
     @Test
     void testSendStringMessage() throws Exception {
         String topic = "test-topic";
         String message = "test message";
+        when(kafkaTemplate.send(topic, message)).thenReturn(acked(topic, message, 0, 7L));
 
-        kafkaProducerService.sendStringMessage(topic, message);
+        SendReceipt receipt = kafkaProducerService.sendStringMessage(topic, message).get();
 
         verify(kafkaTemplate).send(topic, message);
+        assertEquals(new SendReceipt(topic, 0, 7L), receipt);
     }
 
     @Test
     void testSendMessageWithKey() throws Exception {
         String topic = "test-topic";
         String key = "test-key";
-        String message = "test message";
+        String message = "{\"event\":\"login\"}";
+        when(kafkaTemplate.send(topic, key, message)).thenReturn(acked(topic, message, 2, 11L));
 
-        when(objectMapper.writeValueAsString(message)).thenReturn(message);
-
-        kafkaProducerService.sendMessage(topic, key, message);
+        SendReceipt receipt = kafkaProducerService.sendMessage(topic, key, message).get();
 
         verify(kafkaTemplate).send(topic, key, message);
-        verify(objectMapper).writeValueAsString(message);
+        verify(objectMapper, never()).writeValueAsString(any());
+        verify(objectMapper, never()).writeValueAsBytes(any());
+        assertEquals(new SendReceipt(topic, 2, 11L), receipt);
     }
 
     @Test
     void testSendMessageWithoutKey() throws Exception {
         String topic = "test-topic";
         String message = "test message";
+        when(kafkaTemplate.send(topic, null, message)).thenReturn(acked(topic, message, 1, 3L));
 
-        when(objectMapper.writeValueAsString(message)).thenReturn(message);
-
-        kafkaProducerService.sendMessage(topic, message);
+        SendReceipt receipt = kafkaProducerService.sendMessage(topic, message).get();
 
         verify(kafkaTemplate).send(topic, null, message);
-        verify(objectMapper).writeValueAsString(message);
+        verify(objectMapper, never()).writeValueAsString(any());
+        assertEquals(new SendReceipt(topic, 1, 3L), receipt);
+    }
+
+    @Test
+    void testSendMessageWithByteArrayPassesThrough() throws Exception {
+        String topic = "test-topic";
+        String key = "test-key";
+        byte[] message = "{\"event\":\"login\"}".getBytes();
+        when(byteArrayKafkaTemplate.send(topic, key, message)).thenReturn(acked(topic, message, 0, 5L));
+
+        SendReceipt receipt = kafkaProducerService.sendMessage(topic, key, message).get();
+
+        verify(byteArrayKafkaTemplate).send(topic, key, message);
+        verify(objectMapper, never()).writeValueAsBytes(any());
+        assertEquals(new SendReceipt(topic, 0, 5L), receipt);
+    }
+
+    @Test
+    void testSendMessageWithObjectSerializesToBytes() throws Exception {
+        String topic = "test-topic";
+        String key = "test-key";
+        Map<String, String> message = Map.of("event", "login");
+        byte[] json = "{\"event\":\"login\"}".getBytes();
+        when(objectMapper.writeValueAsBytes(message)).thenReturn(json);
+        when(byteArrayKafkaTemplate.send(topic, key, json)).thenReturn(acked(topic, json, 2, 9L));
+
+        SendReceipt receipt = kafkaProducerService.sendMessage(topic, key, message).get();
+
+        verify(byteArrayKafkaTemplate).send(topic, key, json);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        assertEquals(new SendReceipt(topic, 2, 9L), receipt);
+    }
+
+    @Test
+    void testSendMessageFailsWhenSerializationFails() throws Exception {
+        String topic = "test-topic";
+        Map<String, String> message = Map.of("event", "login");
+        when(objectMapper.writeValueAsBytes(message)).thenThrow(new JsonProcessingException("bad value") { });
+
+        CompletableFuture<SendReceipt> receiptFuture = kafkaProducerService.sendMessage(topic, "test-key", message);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, receiptFuture::get);
+        assertInstanceOf(JsonProcessingException.class, failure.getCause());
+        verifyNoInteractions(byteArrayKafkaTemplate);
+    }
+
+    @Test
+    void testSendStringMessageReturnsReceiptOnAck() throws Exception {
+        String topic = "test-topic";
+        String message = "test message";
+        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(topic, message)).thenReturn(future);
+
+        CompletableFuture<SendReceipt> receiptFuture = kafkaProducerService.sendStringMessage(topic, message);
+        assertFalse(receiptFuture.isDone());
+
+        future.complete(sendResult(topic, message, 1, 42L));
+
+        SendReceipt receipt = receiptFuture.get();
+        assertEquals(topic, receipt.topic());
+        assertEquals(1, receipt.partition());
+        assertEquals(42L, receipt.offset());
+    }
+
+    @Test
+    void testSendStringMessageFailsOnBrokerError() {
+        String topic = "test-topic";
+        String message = "test message";
+        RuntimeException brokerError = new RuntimeException("broker unavailable");
+        when(kafkaTemplate.send(topic, message)).thenReturn(CompletableFuture.failedFuture(brokerError));
+
+        CompletableFuture<SendReceipt> receiptFuture = kafkaProducerService.sendStringMessage(topic, message);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, receiptFuture::get);
+        assertSame(brokerError, failure.getCause());
+    }
+
+    @Test
+    void testSendBatchSummarizesAcks() throws Exception {
+        String topic = "test-topic";
+        List<KeyedMessage> messages = List.of(
+                new KeyedMessage("key1", "{\"id\":1}"),
+                new KeyedMessage("key2", "{\"id\":2}"));
+        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+
+        CompletableFuture<BatchSendResult> resultFuture = kafkaProducerService.sendBatch(topic, messages);
+        assertFalse(resultFuture.isDone());
+
+        future.complete(sendResult(topic, "{}", 0, 0L));
+
+        BatchSendResult result = resultFuture.get();
+        assertEquals(2, result.acked());
+        assertEquals(0, result.failed());
+        verify(kafkaTemplate).send(topic, "key1", "{\"id\":1}");
+        verify(kafkaTemplate).send(topic, "key2", "{\"id\":2}");
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
+
+    @Test
+    void testSendBatchCountsFailedSends() throws Exception {
+        String topic = "test-topic";
+        List<KeyedMessage> messages = List.of(
+                new KeyedMessage("key1", "{\"id\":1}"),
+                new KeyedMessage("key2", "{\"id\":2}"));
+        when(kafkaTemplate.send(topic, "key1", "{\"id\":1}")).thenReturn(acked(topic, "{\"id\":1}", 0, 0L));
+        when(kafkaTemplate.send(topic, "key2", "{\"id\":2}"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        BatchSendResult result = kafkaProducerService.sendBatch(topic, messages).get();
+
+        assertEquals(1, result.acked());
+        assertEquals(1, result.failed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPlatformCallbackExecutorRunsCallbacksOffCallerThread() throws Exception {
+        String topic = "test-topic";
+        String message = "test message";
+        RecordMetadata metadata = new RecordMetadata(new TopicPartition(topic, 0), 1L, 0, 0L, 0, 0);
+        List<String> callbackThreads = new CopyOnWriteArrayList<>();
+        SendResult<String, String> result = mock(SendResult.class);
+        when(result.getRecordMetadata()).thenAnswer(invocation -> {
+            callbackThreads.add(Thread.currentThread().getName());
+            return metadata;
+        });
+        when(kafkaTemplate.send(topic, message)).thenReturn(CompletableFuture.completedFuture(result));
+        KafkaProducerService service = new KafkaProducerService(kafkaTemplate, byteArrayKafkaTemplate,
+                new PayloadCodecRegistry(new CodecProperties(), objectMapper), new MockEnvironment(), 2, 10,
+                Duration.ofSeconds(1));
+
+        SendReceipt receipt = service.sendStringMessage(topic, message).get(5, TimeUnit.SECONDS);
+        service.destroy();
+
+        assertEquals(new SendReceipt(topic, 0, 1L), receipt);
+        assertFalse(callbackThreads.isEmpty());
+        assertTrue(callbackThreads.stream().allMatch(name -> name.startsWith("kafka-callback-")),
+                callbackThreads::toString);
+    }
+
+    @Test
+    void testSendFailsFastWithoutSendingWhenCallbackQueueStaysFull() throws Exception {
+        String topic = "test-topic";
+        CompletableFuture<SendResult<String, String>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(topic, "first")).thenReturn(pending);
+        when(kafkaTemplate.send(topic, "third")).thenReturn(acked(topic, "third", 0, 2L));
+        KafkaProducerService service = new KafkaProducerService(kafkaTemplate, byteArrayKafkaTemplate,
+                new PayloadCodecRegistry(new CodecProperties(), objectMapper), new MockEnvironment(), 1, 1,
+                Duration.ofMillis(50));
+
+        try {
+            CompletableFuture<SendReceipt> first = service.sendStringMessage(topic, "first");
+            // 대기열 자리가 없으면 네트워크 스레드에 콜백을 떠넘기지 않고 발행 요청 자체를 거부
+            ExecutionException rejected = assertThrows(ExecutionException.class,
+                    () -> service.sendStringMessage(topic, "second").get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+            verify(kafkaTemplate, never()).send(topic, "second");
+
+            // 앞선 콜백이 끝나면 자리가 돌아옴
+            pending.complete(sendResult(topic, "first", 0, 1L));
+            assertEquals(new SendReceipt(topic, 0, 1L), first.get(5, TimeUnit.SECONDS));
+            assertEquals(new SendReceipt(topic, 0, 2L),
+                    service.sendStringMessage(topic, "third").get(5, TimeUnit.SECONDS));
+        } finally {
+            service.destroy();
+        }
+    }
+
+    private static <V> CompletableFuture<SendResult<String, V>> acked(String topic, V value,
+                                                                      int partition, long offset) {
+        return CompletableFuture.completedFuture(sendResult(topic, value, partition, offset));
+    }
+
+    private static <V> SendResult<String, V> sendResult(String topic, V value, int partition, long offset) {
+        RecordMetadata metadata = new RecordMetadata(new TopicPartition(topic, partition), offset, 0, 0L, 0, 0);
+        return new SendResult<>(new ProducerRecord<>(topic, value), metadata);
     }
-}
\ No newline at end of file
+}
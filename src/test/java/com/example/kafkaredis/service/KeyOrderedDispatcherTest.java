@@ -0,0 +1,176 @@
+package com.example.kafkaredis.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class KeyOrderedDispatcherTest {
+
+    private final KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(4, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void testDispatchKeepsOrderPerKey() {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(new ConsumerRecord<>("test-topic", 0, i, "user" + (i % 5), String.valueOf(i)));
+        }
+        List<String> processedForUser0 = Collections.synchronizedList(new ArrayList<>());
+
+        int firstIncomplete = dispatcher.dispatch(records, record -> {
+            if ("user0".equals(record.key())) {
+                processedForUser0.add(record.value());
+            }
+        });
+
+        assertEquals(records.size(), firstIncomplete);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i += 5) {
+            expected.add(String.valueOf(i));
+        }
+        assertEquals(expected, processedForUser0);
+    }
+
+    @Test
+    void testDispatchReturnsFirstIncompleteIndex() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("test-topic", 0, 0L, "a", "ok"),
+                new ConsumerRecord<>("test-topic", 0, 1L, "b", "fail"),
+                new ConsumerRecord<>("test-topic", 0, 2L, "c", "ok"));
+
+        int firstIncomplete = dispatcher.dispatch(records, record -> {
+            if ("fail".equals(record.value())) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertEquals(1, firstIncomplete);
+    }
+
+    @Test
+    void testDispatchSkipsLaterRecordsOfFailedKey() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("test-topic", 0, 0L, "a", "fail"),
+                new ConsumerRecord<>("test-topic", 0, 1L, "a", "ok"));
+
+        boolean[] completed = dispatcher.dispatchAll(records, record -> {
+            if ("fail".equals(record.value())) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertFalse(completed[0]);
+        assertFalse(completed[1]);
+    }
+
+    @Test
+    void testDispatchChunksHandsEachWorkerItsRecordsInOneCall() {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            records.add(new ConsumerRecord<>("user-events", 0, i, "user" + i, String.valueOf(i)));
+        }
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger handled = new AtomicInteger();
+
+        boolean[] completed = dispatcher.dispatchChunks(records, chunk -> {
+            calls.incrementAndGet();
+            handled.addAndGet(chunk.size());
+        });
+
+        assertTrue(calls.get() <= 4);
+        assertEquals(records.size(), handled.get());
+        for (boolean recordCompleted : completed) {
+            assertTrue(recordCompleted);
+        }
+    }
+
+    @Test
+    void testDispatchChunksMarksWholeChunkIncompleteOnFailure() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("user-events", 0, 0L, "a", "ok"),
+                new ConsumerRecord<>("user-events", 0, 1L, "a", "ok"));
+
+        boolean[] completed = dispatcher.dispatchChunks(records, chunk -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertFalse(completed[0]);
+        assertFalse(completed[1]);
+    }
+
+    @Test
+    void testTimedOutBatchDoesNotRunQueuedRecords() throws InterruptedException {
+        KeyOrderedDispatcher singleWorker = new KeyOrderedDispatcher(1, Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("test-topic", 0, 0L, "a", "slow"),
+                new ConsumerRecord<>("test-topic", 0, 1L, "b", "queued"));
+
+        try {
+            boolean[] completed = singleWorker.dispatchAll(records, record -> {
+                if ("slow".equals(record.value())) {
+                    release.await();
+                }
+                processed.add(record.value());
+            });
+            release.countDown();
+
+            assertFalse(completed[0]);
+            assertFalse(completed[1]);
+        } finally {
+            release.countDown();
+            singleWorker.destroy();
+        }
+        // 대기 시간 초과 후 큐에 남아 있던 레코드는 재전달분과 겹치지 않도록 실행되지 않음
+        assertEquals(List.of("slow"), processed);
+    }
+
+    @Test
+    void testUsesPlatformWorkerThreadsWithoutVirtualThreadsProfile() throws InterruptedException {
+        Thread worker = workerThread(new MockEnvironment());
+
+        assertEquals("kafka-dispatch-0", worker.getName());
+        assertFalse(worker.isDaemon());
+    }
+
+    @Test
+    void testUsesVirtualWorkerThreadsWhenVirtualThreadsAreEnabled() throws InterruptedException {
+        assumeTrue(JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE));
+
+        Thread worker = workerThread(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        // 가상 스레드는 항상 데몬 스레드
+        assertTrue(worker.getName().startsWith("kafka-dispatch-0-"));
+        assertTrue(worker.isDaemon());
+    }
+
+    private static Thread workerThread(MockEnvironment environment) throws InterruptedException {
+        KeyOrderedDispatcher singleWorker = new KeyOrderedDispatcher(1, Duration.ofSeconds(5), environment);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        try {
+            singleWorker.dispatch(List.of(new ConsumerRecord<>("test-topic", 0, 0L, "a", "value")),
+                    record -> worker.set(Thread.currentThread()));
+        } finally {
+            singleWorker.destroy();
+        }
+        return worker.get();
+    }
+}
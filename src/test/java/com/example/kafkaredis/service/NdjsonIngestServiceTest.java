@@ -0,0 +1,129 @@
+package com.example.kafkaredis.service;
+
+import com.example.kafkaredis.dto.BatchSendResult;
+import com.example.kafkaredis.dto.IngestSummary;
+import com.example.kafkaredis.dto.KeyedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonIngestServiceTest {
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testIngestSendsLinesInChunks() throws IOException {
+        NdjsonIngestService ingestService = new NdjsonIngestService(kafkaProducerService, objectMapper, 2, 8);
+        when(kafkaProducerService.sendBatch(eq("test-topic"), anyList())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(
+                        new BatchSendResult(invocation.<List<KeyedMessage>>getArgument(1).size(), 0)));
+
+        IngestSummary summary = ingestService.ingest("test-topic", null,
+                ndjson("{\"id\":1}", "", "{\"id\":2}", "{\"id\":3}", "   ", "{\"id\":4}", "{\"id\":5}"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<KeyedMessage>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(kafkaProducerService, times(3)).sendBatch(eq("test-topic"), chunks.capture());
+        assertEquals(List.of(2, 2, 1), chunks.getAllValues().stream().map(List::size).toList());
+        assertEquals(new KeyedMessage(null, "{\"id\":1}"), chunks.getAllValues().get(0).get(0));
+        assertEquals(5, summary.lines());
+        assertEquals(5, summary.acked());
+        assertEquals(0, summary.failed());
+    }
+
+    @Test
+    void testIngestCountsMalformedLinesAsFailedWhenKeyFieldIsUsed() throws IOException {
+        NdjsonIngestService ingestService = new NdjsonIngestService(kafkaProducerService, objectMapper, 10, 8);
+        when(kafkaProducerService.sendBatch(eq("user-events"), anyList())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(
+                        new BatchSendResult(invocation.<List<KeyedMessage>>getArgument(1).size(), 0)));
+
+        IngestSummary summary = ingestService.ingest("user-events", "userId",
+                ndjson("{\"userId\":\"u1\",\"action\":\"login\"}", "{not json", "{\"action\":\"anonymous\"}"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<KeyedMessage>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(kafkaProducerService).sendBatch(eq("user-events"), chunk.capture());
+        assertEquals(List.of(
+                new KeyedMessage("u1", "{\"userId\":\"u1\",\"action\":\"login\"}"),
+                new KeyedMessage(null, "{\"action\":\"anonymous\"}")), chunk.getValue());
+        assertEquals(3, summary.lines());
+        assertEquals(2, summary.acked());
+        assertEquals(1, summary.failed());
+    }
+
+    @Test
+    void testIngestAddsSendFailuresToSummary() throws IOException {
+        NdjsonIngestService ingestService = new NdjsonIngestService(kafkaProducerService, objectMapper, 2, 8);
+        when(kafkaProducerService.sendBatch(eq("test-topic"), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(new BatchSendResult(1, 1)));
+
+        IngestSummary summary = ingestService.ingest("test-topic", null, ndjson("{\"id\":1}", "{\"id\":2}"));
+
+        assertEquals(1, summary.acked());
+        assertEquals(1, summary.failed());
+    }
+
+    @Test
+    void testIngestWaitsForOldestChunkWhenInFlightLimitIsReached() throws Exception {
+        NdjsonIngestService ingestService = new NdjsonIngestService(kafkaProducerService, objectMapper, 1, 2);
+        List<CompletableFuture<BatchSendResult>> pending = new CopyOnWriteArrayList<>();
+        when(kafkaProducerService.sendBatch(eq("test-topic"), anyList())).thenAnswer(invocation -> {
+            CompletableFuture<BatchSendResult> ack = new CompletableFuture<>();
+            pending.add(ack);
+            return ack;
+        });
+
+        CompletableFuture<IngestSummary> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ingestService.ingest("test-topic", null,
+                        ndjson("{\"id\":1}", "{\"id\":2}", "{\"id\":3}", "{\"id\":4}"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // 두 번째 chunk를 보낸 뒤 첫 번째 chunk의 ack를 기다리며 더 읽지 않음
+        verify(kafkaProducerService, timeout(1000).times(2)).sendBatch(eq("test-topic"), anyList());
+        verify(kafkaProducerService, after(200).times(2)).sendBatch(eq("test-topic"), anyList());
+        assertFalse(result.isDone());
+
+        pending.get(0).complete(new BatchSendResult(1, 0));
+        verify(kafkaProducerService, timeout(1000).times(3)).sendBatch(eq("test-topic"), anyList());
+
+        pending.get(1).complete(new BatchSendResult(1, 0));
+        verify(kafkaProducerService, timeout(1000).times(4)).sendBatch(eq("test-topic"), anyList());
+        pending.get(2).complete(new BatchSendResult(1, 0));
+        pending.get(3).complete(new BatchSendResult(1, 0));
+
+        IngestSummary summary = result.get(1, TimeUnit.SECONDS);
+        assertEquals(4, summary.lines());
+        assertEquals(4, summary.acked());
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,25 +1,58 @@
 package com.example.kafkaredis.service;
 
+import com.example.kafkaredis.backpressure.RedisHealthMonitor;
+import com.example.kafkaredis.cache.NearCache;
+import com.example.kafkaredis.cache.NearCacheInvalidationBus;
+import com.example.kafkaredis.codec.CodecProperties;
+import com.example.kafkaredis.codec.PayloadCodecRegistry;
+import com.example.kafkaredis.dedupe.DedupeToken;
+import com.example.kafkaredis.dedupe.EventPosition;
+import com.example.kafkaredis.dedupe.WriteOutcome;
+import com.example.kafkaredis.metrics.RedisOperationMetrics;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RedisServiceTest {
 
+    private static final String CHANNEL = "near-cache:invalidate";
+
+    private static final int BULK_CHUNK_SIZE = 2;
+
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
@@ -29,11 +62,18 @@ class RedisServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
-    @InjectMocks
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private final RedisHealthMonitor healthMonitor = new RedisHealthMonitor(0.2);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private RedisService redisService;
 
     @BeforeEach
     void setUp() {
+        redisService = createService(false, 0, 0);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
@@ -99,7 +139,224 @@ class RedisServiceTest {
 
         redisService.cacheUserEvent(userId, eventData);
 
-        verify(valueOperations).set(eq("user:event:" + userId), eq(eventData), any(Duration.class));
+        verify(valueOperations).set(eq("user:event:{" + userId + "}"), eq(eventData), any(Duration.class));
+        assertEquals(1, healthMonitor.snapshot().samples());
+        assertEquals(0.0, healthMonitor.snapshot().errorRate());
+    }
+
+    @Test
+    void testCacheUserEventFailureIsRecordedAsError() {
+        doThrow(new RuntimeException("Redis 연결 실패"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        redisService.cacheUserEvent("user123", "event data");
+
+        assertEquals(1, healthMonitor.snapshot().samples());
+        assertEquals(1.0, healthMonitor.snapshot().errorRate());
+    }
+
+    @Test
+    void testGetStringRecordsHitAndMissByKeyPrefix() {
+        when(valueOperations.get("user:profile:1")).thenReturn("value");
+
+        redisService.getString("user:profile:1");
+        redisService.getString("user:profile:2");
+
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "get")
+                .tag("prefix", "user:profile:").tag("outcome", "hit").timer().count());
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "get")
+                .tag("prefix", "user:profile:").tag("outcome", "miss").timer().count());
+    }
+
+    @Test
+    void testCacheUserEventFailureIsRecordedInOperationMetrics() {
+        doThrow(new RuntimeException("Redis 연결 실패"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        redisService.cacheUserEvent("user123", "event data");
+
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "cacheUserEvent")
+                .tag("prefix", "user:event:").tag("outcome", "error").timer().count());
+        assertEquals(1.0, meterRegistry.get("redis.operation.errors").tag("stage", "network")
+                .tag("exception", "RuntimeException").counter().count());
+    }
+
+    @Test
+    void testGetObjectRecordsSerializationSeparately() throws Exception {
+        when(valueOperations.get("user:1")).thenReturn("{}");
+        when(objectMapper.readValue("{}", Map.class)).thenReturn(Map.of());
+
+        redisService.getObject("user:1", Map.class);
+
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "getObject")
+                .tag("outcome", "hit").timer().count());
+        assertEquals(1, meterRegistry.get("redis.serialization").tag("operation", "getObject")
+                .tag("prefix", "user:").timer().count());
+    }
+
+    @Test
+    void testGetObjectDecodeFailureIsCountedAsSerializationError() throws Exception {
+        when(valueOperations.get("user:1")).thenReturn("broken");
+        when(objectMapper.readValue("broken", Map.class)).thenThrow(new JsonParseException(null, "broken"));
+
+        assertNull(redisService.getObject("user:1", Map.class));
+
+        assertEquals(1, meterRegistry.get("redis.operation").tag("outcome", "hit").timer().count());
+        assertEquals(1.0, meterRegistry.get("redis.operation.errors").tag("stage", "serialization")
+                .counter().count());
+    }
+
+    @Test
+    void testCacheUserEventOnceAppliesNewRecord() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(1L));
+
+        WriteOutcome outcome = redisService.cacheUserEventOnce("user123", "event data", offsetToken(5));
+
+        assertEquals(WriteOutcome.APPLIED, outcome);
+    }
+
+    @Test
+    void testCacheUserEventOnceSkipsDuplicate() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(0L));
+
+        WriteOutcome outcome = redisService.cacheUserEventOnce("user123", "event data", offsetToken(5));
+
+        assertEquals(WriteOutcome.DUPLICATE, outcome);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testCacheUserEventsOnceTreatsUnexpectedScriptReplyAsFailure() {
+        List<Object> replies = new ArrayList<>();
+        replies.add(null);
+        replies.add("OK");
+        replies.add(0L);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(replies);
+        Map<String, String> events = new LinkedHashMap<>();
+        events.put("user1", "event1");
+        events.put("user2", "event2");
+        events.put("user3", "event3");
+
+        Map<String, WriteOutcome> outcomes = redisService.cacheUserEventsOnce(events,
+                Map.of("user1", offsetToken(1), "user2", offsetToken(2), "user3", offsetToken(3)));
+
+        // 알 수 없는 응답을 중복으로 보고 건너뛰면 오프셋이 커밋되어 이벤트를 잃음
+        assertEquals(WriteOutcome.FAILED, outcomes.get("user1"));
+        assertEquals(WriteOutcome.FAILED, outcomes.get("user2"));
+        assertEquals(WriteOutcome.DUPLICATE, outcomes.get("user3"));
+    }
+
+    @Test
+    void testCacheUserEventsOnceFailsAllOnPipelineError() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RuntimeException("Redis 연결 실패"));
+        Map<String, String> events = new LinkedHashMap<>();
+        events.put("user1", "event1");
+        events.put("user2", "event2");
+
+        Map<String, WriteOutcome> outcomes = redisService.cacheUserEventsOnce(events,
+                Map.of("user1", offsetToken(1), "user2", offsetToken(2)));
+
+        assertEquals(Map.of("user1", WriteOutcome.FAILED, "user2", WriteOutcome.FAILED), outcomes);
+        assertEquals(1.0, healthMonitor.snapshot().errorRate());
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "cacheUserEvents")
+                .tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void testCacheUserEventInOrderFailureIsRecordedAsError() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        WriteOutcome outcome = redisService.cacheUserEventInOrder("user123", "event data",
+                new EventPosition(0, 12L), null);
+
+        assertEquals(WriteOutcome.FAILED, outcome);
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "cacheUserEvent")
+                .tag("prefix", "user:event:").tag("outcome", "error").timer().count());
+        assertEquals(1.0, meterRegistry.get("redis.operation.errors").tag("operation", "cacheUserEvent")
+                .tag("stage", "network").tag("exception", "RuntimeException").counter().count());
+    }
+
+    @Test
+    void testCacheUserEventInOrderAppliesNewerEvent() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(1L));
+
+        WriteOutcome outcome = redisService.cacheUserEventInOrder("user123", "event data",
+                new EventPosition(0, 12L), null);
+
+        assertEquals(WriteOutcome.APPLIED, outcome);
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "cacheUserEvent")
+                .tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testCacheUserEventInOrderSkipsStaleEvent() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(-1L));
+
+        WriteOutcome outcome = redisService.cacheUserEventInOrder("user123", "event data",
+                new EventPosition(0, 3L), offsetToken(3));
+
+        assertEquals(WriteOutcome.STALE, outcome);
+    }
+
+    @Test
+    void testCacheUserEventInOrderSendsHashTaggedKeysAndArgumentsByScriptSha() throws Exception {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scripting = mock(RedisScriptingCommands.class);
+        when(connection.scriptingCommands()).thenReturn(scripting);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.<Object>of(1L);
+        });
+
+        redisService.cacheUserEventInOrder("user123", "event data", new EventPosition(2, 40L),
+                new DedupeToken("dedupe:offset:user-events:{user123}", "2", 40L, Duration.ofHours(1)));
+
+        Object[] arguments = mockingDetails(scripting).getInvocations().iterator().next().getArguments();
+        assertEquals(13, arguments.length);
+        assertEquals(ReturnType.INTEGER, arguments[1]);
+        assertEquals(3, arguments[2]);
+        List<String> keysAndArgs = Arrays.stream(arguments, 3, arguments.length)
+                .map(argument -> new String((byte[]) argument, StandardCharsets.UTF_8))
+                .toList();
+        // 모든 키가 같은 해시 태그를 가져 클러스터에서 같은 슬롯에 놓임
+        assertEquals(List.of("user:event:{user123}", "user:position:{user123}", "dedupe:offset:user-events:{user123}"),
+                keysAndArgs.subList(0, 3));
+        assertEquals("event data", keysAndArgs.get(3));
+        assertEquals(String.valueOf(Duration.ofHours(24).toMillis()), keysAndArgs.get(4));
+        assertEquals(List.of("2", "40", "2", "40", String.valueOf(Duration.ofHours(1).toMillis())),
+                keysAndArgs.subList(5, 10));
+    }
+
+    @Test
+    void testCacheUserEventInOrderSkipsDedupeKeyWithoutToken() throws Exception {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scripting = mock(RedisScriptingCommands.class);
+        when(connection.scriptingCommands()).thenReturn(scripting);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.<Object>of(1L);
+        });
+
+        redisService.cacheUserEventInOrder("user123", "event data", new EventPosition(0, 5L), null);
+
+        Object[] arguments = mockingDetails(scripting).getInvocations().iterator().next().getArguments();
+        assertEquals(2, arguments[2]);
+        assertEquals("user:position:{user123}", new String((byte[]) arguments[4], StandardCharsets.UTF_8));
+        assertEquals("", new String((byte[]) arguments[9], StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCacheUserEventInOrderLoadsScriptAndRetriesOnNoScript() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new InvalidDataAccessApiUsageException("NOSCRIPT No matching script. Please use EVAL."))
+                .thenReturn(List.<Object>of(1L));
+
+        WriteOutcome outcome = redisService.cacheUserEventInOrder("user123", "event data",
+                new EventPosition(0, 5L), null);
+
+        assertEquals(WriteOutcome.APPLIED, outcome);
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
     }
 
     @Test
@@ -107,11 +364,288 @@ class RedisServiceTest {
         String userId = "user123";
         String expectedEventData = "event data";
 
-        when(valueOperations.get("user:event:" + userId)).thenReturn(expectedEventData);
+        when(valueOperations.get("user:event:{" + userId + "}")).thenReturn(expectedEventData);
 
         String actualEventData = redisService.getUserEvent(userId);
 
         assertEquals(expectedEventData, actualEventData);
-        verify(valueOperations).get("user:event:" + userId);
+        verify(valueOperations).get("user:event:{" + userId + "}");
+    }
+
+    @Test
+    void testCacheUserEvents() {
+        Map<String, String> events = new LinkedHashMap<>();
+        events.put("user1", "event1");
+        events.put("user2", "event2");
+
+        boolean result = redisService.cacheUserEvents(events);
+
+        assertTrue(result);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        // 파이프라인 전체를 한 번의 일괄 호출로 기록
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "cacheUserEvents")
+                .tag("prefix", "user:event:").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testCacheUserEventsFailure() {
+        Map<String, String> events = Map.of("user1", "event1");
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        boolean result = redisService.cacheUserEvents(events);
+
+        assertFalse(result);
+        assertEquals(1.0, meterRegistry.get("redis.operation.errors").tag("operation", "cacheUserEvents")
+                .tag("exception", "RuntimeException").counter().count());
+    }
+
+    @Test
+    void testGetStringServedFromNearCache() {
+        RedisService cachedService = serviceWithNearCache();
+        String key = "test-key";
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of("test-value", 60_000L));
+
+        assertEquals("test-value", cachedService.getString(key));
+        assertEquals("test-value", cachedService.getString(key));
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(valueOperations, never()).get(key);
+    }
+
+    @Test
+    void testNearCacheHitsAreRecordedApartFromRedisHits() {
+        RedisService cachedService = serviceWithNearCache();
+        String key = "user:profile:1";
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of("test-value", 60_000L));
+
+        cachedService.getString(key);
+        cachedService.getString(key);
+
+        // 첫 조회만 Redis를 호출하므로 hit 타이머에는 Redis 왕복 시간만 남음
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "get")
+                .tag("prefix", "user:profile:").tag("outcome", "hit").timer().count());
+        assertEquals(1, meterRegistry.get("redis.operation").tag("operation", "get")
+                .tag("prefix", "user:profile:").tag("outcome", "nearHit").timer().count());
+    }
+
+    @Test
+    void testSetStringInvalidatesNearCache() {
+        RedisService cachedService = serviceWithNearCache();
+        String key = "test-key";
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of("old-value", 60_000L))
+                .thenReturn(List.of("new-value", 60_000L));
+
+        assertEquals("old-value", cachedService.getString(key));
+        cachedService.setString(key, "new-value");
+        assertEquals("new-value", cachedService.getString(key));
+
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), contains("test-key"));
+    }
+
+    @Test
+    void testGetStringsChunksMget() {
+        when(valueOperations.multiGet(List.of("k1", "k2"))).thenReturn(Arrays.asList("v1", null));
+        when(valueOperations.multiGet(List.of("k3"))).thenReturn(List.of("v3"));
+
+        Map<String, String> values = redisService.getStrings(List.of("k1", "k2", "k3", "k1"));
+
+        assertEquals(List.of("k1", "k3"), List.copyOf(values.keySet()));
+        assertEquals("v1", values.get("k1"));
+        assertEquals("v3", values.get("k3"));
+        verify(valueOperations, times(2)).multiGet(anyList());
+    }
+
+    @Test
+    void testSetStringsWithoutExpirationUsesMset() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("k1", "v1");
+        values.put("k2", "v2");
+        values.put("k3", "v3");
+
+        boolean result = redisService.setStrings(values, null);
+
+        assertTrue(result);
+        verify(valueOperations, times(2)).multiSet(anyMap());
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void testSetStringsWithExpirationUsesPipeline() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("k1", "v1");
+        values.put("k2", "v2");
+        values.put("k3", "v3");
+
+        boolean result = redisService.setStrings(values, Duration.ofMinutes(5));
+
+        assertTrue(result);
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(valueOperations, never()).multiSet(anyMap());
+    }
+
+    @Test
+    void testGetObjectsSkipsMissingAndUndecodableValues() throws Exception {
+        when(valueOperations.multiGet(List.of("k1", "k2"))).thenReturn(List.of("{\"a\":1}", "broken"));
+        when(valueOperations.multiGet(List.of("k3"))).thenReturn(Collections.singletonList(null));
+        when(objectMapper.readValue("{\"a\":1}", Map.class)).thenReturn(Map.of("a", 1));
+        when(objectMapper.readValue("broken", Map.class)).thenThrow(new JsonParseException(null, "broken"));
+
+        Map<String, Map> objects = redisService.getObjects(List.of("k1", "k2", "k3"), Map.class);
+
+        assertEquals(1, objects.size());
+        assertEquals(Map.of("a", 1), objects.get("k1"));
+    }
+
+    @Test
+    void testGetOrLoadReturnsCachedValueWithoutLoading() {
+        when(valueOperations.get("key")).thenReturn("cached");
+
+        String value = redisService.getOrLoad("key", () -> fail("loader should not be called"), Duration.ofMinutes(1));
+
+        assertEquals("cached", value);
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testGetOrLoadLoadsUnderLockAndStores() {
+        when(valueOperations.get("key")).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq("lock:load:key"), anyString(), any(Duration.class))).thenReturn(true);
+
+        String value = redisService.getOrLoad("key", () -> "loaded", Duration.ofMinutes(1));
+
+        assertEquals("loaded", value);
+        verify(valueOperations).set("key", "loaded", Duration.ofMinutes(1));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:load:key")), anyString());
+    }
+
+    @Test
+    void testGetOrLoadWaitsForOtherInstanceHoldingLock() {
+        when(valueOperations.get("key")).thenReturn(null, null, "loaded-elsewhere");
+        when(valueOperations.setIfAbsent(eq("lock:load:key"), anyString(), any(Duration.class))).thenReturn(false);
+
+        String value = redisService.getOrLoad("key", () -> fail("loader should not be called"), Duration.ofMinutes(1));
+
+        assertEquals("loaded-elsewhere", value);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testGetOrLoadFallsBackToLoaderAfterLockWait() {
+        when(valueOperations.get("key")).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq("lock:load:key"), anyString(), any(Duration.class))).thenReturn(false);
+
+        String value = redisService.getOrLoad("key", () -> "loaded", Duration.ofMinutes(1));
+
+        assertEquals("loaded", value);
+        verify(valueOperations).set("key", "loaded", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testCacheUserEventTtlIsJitteredDownward() {
+        RedisService jitteredService = createService(false, 10, 0);
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+
+        jitteredService.cacheUserEvent("user123", "event data");
+
+        verify(valueOperations).set(eq("user:event:{user123}"), eq("event data"), ttl.capture());
+        assertTrue(ttl.getValue().compareTo(Duration.ofHours(24)) <= 0);
+        assertTrue(ttl.getValue().compareTo(Duration.ofMinutes(24 * 60 * 9 / 10)) >= 0);
+    }
+
+    @Test
+    void testGetOrLoadRefreshesEarlyNearExpiry() {
+        RedisService refreshingService = createService(false, 0, 1000);
+        // 남은 TTL 1ms, 지난 적재 1초 -> 거의 확실히 조기 갱신
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.<Object>of("cached", 1L, "1000"))
+                .thenReturn(List.of());
+        when(valueOperations.setIfAbsent(eq("lock:load:key"), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger loads = new AtomicInteger();
+
+        String value = refreshingService.getOrLoad("key", () -> {
+            loads.incrementAndGet();
+            return "fresh";
+        }, Duration.ofMinutes(1));
+
+        assertEquals("cached", value);
+        assertEquals(1, loads.get());
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void testGetOrLoadDoesNotRefreshFarFromExpiry() {
+        RedisService refreshingService = createService(false, 0, 1);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.<Object>of("cached", Duration.ofHours(1).toMillis(), "1"));
+
+        String value = refreshingService.getOrLoad("key", () -> fail("loader should not be called"), Duration.ofHours(1));
+
+        assertEquals("cached", value);
+    }
+
+    @Test
+    void testGetOrLoadServesNearCacheHitBeforeRedisRead() {
+        RedisService refreshingService = createService(true, 0, 1);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.<Object>of("cached", Duration.ofHours(1).toMillis(), "1"));
+
+        refreshingService.getOrLoad("key", () -> fail("loader should not be called"), Duration.ofHours(1));
+        String value = refreshingService.getOrLoad("key", () -> fail("loader should not be called"),
+                Duration.ofHours(1));
+
+        assertEquals("cached", value);
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void testGetOrLoadDoesNotTreatRedisErrorAsMiss() {
+        RedisService refreshingService = createService(false, 0, 1);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        String value = refreshingService.getOrLoad("key", () -> "loaded", Duration.ofMinutes(1));
+
+        assertEquals("loaded", value);
+        // 장애 중에는 락을 시도하거나 저장하지 않음
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testGetOrLoadWithoutEarlyRefreshDoesNotLockOnRedisError() {
+        when(valueOperations.get("key")).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        String value = redisService.getOrLoad("key", () -> "loaded", Duration.ofMinutes(1));
+
+        assertEquals("loaded", value);
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    private RedisService serviceWithNearCache() {
+        return createService(true, 0, 0);
+    }
+
+    private DedupeToken offsetToken(long offset) {
+        return new DedupeToken("dedupe:offset:user-events", "0", offset, Duration.ofHours(1));
+    }
+
+    private RedisService createService(boolean nearCacheEnabled, int ttlJitterPercent, double earlyRefreshBeta) {
+        NearCache nearCache = new NearCache(nearCacheEnabled, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                Duration.ofSeconds(10), new SimpleMeterRegistry());
+        return new RedisService(redisTemplate, objectMapper, binaryRedisTemplate,
+                new PayloadCodecRegistry(new CodecProperties(), objectMapper),
+                nearCache, new NearCacheInvalidationBus(nearCache, redisTemplate, new ObjectMapper(), CHANNEL),
+                BULK_CHUNK_SIZE, Duration.ofSeconds(10), Duration.ofMillis(200), Duration.ofMillis(10),
+                ttlJitterPercent, earlyRefreshBeta, Runnable::run, healthMonitor,
+                new RedisOperationMetrics(meterRegistry, true, new String[] {"user:event:", "user:profile:", "user:"}));
     }
 }
\ No newline at end of file
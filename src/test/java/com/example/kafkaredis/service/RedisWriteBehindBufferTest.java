@@ -0,0 +1,117 @@
+package com.example.kafkaredis.service;
+
+import com.example.kafkaredis.dedupe.DedupeToken;
+import com.example.kafkaredis.dedupe.WriteOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisWriteBehindBufferTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private Acknowledgment ack1;
+
+    @Mock
+    private Acknowledgment ack2;
+
+    @Mock
+    private Acknowledgment ack3;
+
+    private RedisWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (buffer != null) {
+            buffer.destroy();
+        }
+    }
+
+    @Test
+    void testEventsAreCoalescedPerUserAndAckedAfterFlush() throws Exception {
+        when(redisService.cacheUserEvents(anyMap())).thenReturn(true);
+        buffer = createBuffer(10, 2, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        assertTrue(buffer.submit("user1", "event1", null, ack1));
+        assertTrue(buffer.submit("user1", "event2", null, ack2));
+        assertTrue(buffer.submit("user2", "event3", null, ack3));
+
+        verify(redisService, timeout(2000)).cacheUserEvents(Map.of("user1", "event2", "user2", "event3"));
+        verify(ack1, timeout(2000)).acknowledge();
+        verify(ack2, timeout(2000)).acknowledge();
+        verify(ack3, timeout(2000)).acknowledge();
+    }
+
+    @Test
+    void testFailedFlushIsRetriedBeforeAck() throws Exception {
+        when(redisService.cacheUserEvents(anyMap())).thenReturn(false, true);
+        buffer = createBuffer(10, 1, Duration.ofMillis(20), Duration.ofSeconds(1));
+
+        assertTrue(buffer.submit("user1", "event1", null, ack1));
+
+        verify(redisService, timeout(2000).times(2)).cacheUserEvents(Map.of("user1", "event1"));
+        verify(ack1, timeout(2000)).acknowledge();
+    }
+
+    @Test
+    void testEventsWithDedupeTokensAreWrittenOnceInOffsetOrder() throws Exception {
+        DedupeToken token1 = offsetToken(1L);
+        DedupeToken token2 = offsetToken(2L);
+        DedupeToken token3 = offsetToken(3L);
+        when(redisService.cacheUserEventsOnce(anyMap(), anyMap()))
+                .thenReturn(Map.of("user2", WriteOutcome.APPLIED, "user1", WriteOutcome.FAILED))
+                .thenReturn(Map.of("user2", WriteOutcome.DUPLICATE, "user1", WriteOutcome.APPLIED));
+        buffer = createBuffer(10, 3, Duration.ofMillis(200), Duration.ofSeconds(1));
+
+        assertTrue(buffer.submit("user1", "event1", token1, ack1));
+        assertTrue(buffer.submit("user2", "event2", token2, ack2));
+        assertTrue(buffer.submit("user1", "event3", token3, ack3));
+
+        // user1의 마지막 이벤트(오프셋 3)가 user2(오프셋 2) 뒤에 반영되고, 일부 실패 시 묶음 전체를 다시 시도
+        verify(redisService, timeout(2000).times(2)).cacheUserEventsOnce(
+                argThat(events -> List.copyOf(events.keySet()).equals(List.of("user2", "user1"))
+                        && "event3".equals(events.get("user1"))),
+                eq(Map.of("user1", token3, "user2", token2)));
+        verify(ack1, timeout(2000)).acknowledge();
+        verify(ack3, timeout(2000)).acknowledge();
+        verify(redisService, never()).cacheUserEvents(anyMap());
+    }
+
+    @Test
+    void testSubmitFailsWhenBufferStaysFull() throws Exception {
+        buffer = createBuffer(1, 10, Duration.ofSeconds(10), Duration.ofMillis(50));
+
+        assertTrue(buffer.submit("user1", "event1", null, ack1));
+        // 이미 버퍼에 있는 사용자는 자리를 차지하지 않으므로 병합됨
+        assertTrue(buffer.submit("user1", "event2", null, ack2));
+        assertFalse(buffer.submit("user2", "event3", null, ack3));
+
+        verify(ack1, never()).acknowledge();
+        verify(ack3, never()).acknowledge();
+    }
+
+    private static DedupeToken offsetToken(long offset) {
+        return new DedupeToken("dedupe:offset:user-events", "0", offset, Duration.ofHours(1));
+    }
+
+    private RedisWriteBehindBuffer createBuffer(int maxEntries, int flushSize,
+                                                Duration flushInterval, Duration offerTimeout) {
+        return new RedisWriteBehindBuffer(redisService, true, maxEntries, flushSize, flushInterval, offerTimeout);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.kafkaredis.service;
+
+import com.example.kafkaredis.service.TopicScalingService.ScalingResult;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopicScalingServiceTest {
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, String> userEventContainer;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, String> testContainer;
+
+    private TopicScalingService scalingService;
+
+    @BeforeEach
+    void setUp() {
+        scalingService = new TopicScalingService(kafkaAdmin, listenerRegistry);
+    }
+
+    @Test
+    void testScaleAddsPartitionsAndRestartsRunningContainers() {
+        describe("user-events", 3);
+        stubContainers();
+        when(userEventContainer.isRunning()).thenReturn(true);
+        when(userEventContainer.getListenerId()).thenReturn("user-event-listener");
+
+        ScalingResult result = scalingService.scale("user-events", 6, null);
+
+        ArgumentCaptor<NewTopic> captor = ArgumentCaptor.forClass(NewTopic.class);
+        verify(kafkaAdmin).createOrModifyTopics(captor.capture());
+        assertEquals("user-events", captor.getValue().name());
+        assertEquals(6, captor.getValue().numPartitions());
+
+        InOrder inOrder = inOrder(userEventContainer);
+        inOrder.verify(userEventContainer).stop();
+        inOrder.verify(userEventContainer).setConcurrency(6);
+        inOrder.verify(userEventContainer).start();
+        verify(testContainer, never()).setConcurrency(anyInt());
+
+        assertEquals(3, result.previousPartitions());
+        assertEquals(6, result.partitions());
+        assertEquals(6, result.concurrency());
+        assertEquals(List.of("user-event-listener"), result.listenerIds());
+    }
+
+    @Test
+    void testScaleOnlyChangesConcurrencyWhenPartitionsUnchanged() {
+        describe("user-events", 3);
+        stubContainers();
+        when(userEventContainer.isRunning()).thenReturn(false);
+
+        ScalingResult result = scalingService.scale("user-events", 3, 2);
+
+        verify(kafkaAdmin, never()).createOrModifyTopics(any(NewTopic[].class));
+        verify(userEventContainer).setConcurrency(2);
+        verify(userEventContainer, never()).stop();
+        verify(userEventContainer, never()).start();
+        assertEquals(2, result.concurrency());
+    }
+
+    @Test
+    void testScaleRejectsShrinkingPartitions() {
+        describe("user-events", 6);
+
+        assertThrows(IllegalArgumentException.class, () -> scalingService.scale("user-events", 3, null));
+
+        verify(kafkaAdmin, never()).createOrModifyTopics(any(NewTopic[].class));
+        verifyNoInteractions(listenerRegistry);
+    }
+
+    @Test
+    void testScaleRejectsUnknownTopic() {
+        // KafkaAdmin은 없는 토픽 조회 시 ExecutionException으로 감싼 UnknownTopicOrPartitionException을 원인으로 던짐
+        when(kafkaAdmin.describeTopics("missing-topic")).thenThrow(new KafkaException("Failed to obtain topic descriptions",
+                new ExecutionException(new UnknownTopicOrPartitionException("This server does not host this topic-partition."))));
+
+        assertThrows(IllegalArgumentException.class, () -> scalingService.scale("missing-topic", 3, null));
+
+        verify(kafkaAdmin, never()).createOrModifyTopics(any(NewTopic[].class));
+        verifyNoInteractions(listenerRegistry);
+    }
+
+    @Test
+    void testScalePropagatesOtherAdminFailures() {
+        KafkaException brokerDown = new KafkaException("Failed to obtain topic descriptions",
+                new ExecutionException(new TimeoutException("Timed out waiting for a node assignment.")));
+        when(kafkaAdmin.describeTopics("user-events")).thenThrow(brokerDown);
+
+        KafkaException thrown = assertThrows(KafkaException.class, () -> scalingService.scale("user-events", 3, null));
+
+        assertSame(brokerDown, thrown);
+        verifyNoInteractions(listenerRegistry);
+    }
+
+    @Test
+    void testScaleRejectsInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> scalingService.scale("user-events", 3, 0));
+
+        verifyNoInteractions(kafkaAdmin);
+    }
+
+    private void describe(String topic, int partitions) {
+        List<TopicPartitionInfo> partitionInfos = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            partitionInfos.add(new TopicPartitionInfo(i, null, List.of(), List.of()));
+        }
+        when(kafkaAdmin.describeTopics(topic))
+                .thenReturn(Map.of(topic, new TopicDescription(topic, false, partitionInfos)));
+    }
+
+    private void stubContainers() {
+        when(userEventContainer.getContainerProperties()).thenReturn(new ContainerProperties("user-events"));
+        when(testContainer.getContainerProperties()).thenReturn(new ContainerProperties("test-topic"));
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(userEventContainer, testContainer));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.kafkaredis.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * exactly-once 모드(app.kafka.transaction.enabled=true)의 트랜잭션 리스너를 임베디드 Kafka로 검증합니다.
+ *
+ * 배치 중간 레코드의 처리가 한 번 실패해도, 앞서 발행한 파생 이벤트는 트랜잭션과 함께 취소되므로
+ * read_committed 컨슈머에게는 레코드마다 파생 이벤트가 정확히 한 번만 보여야 합니다.
+ */
+@SpringBootTest(properties = {
+        "app.kafka.transaction.enabled=true",
+        "app.kafka.consumer.retry-interval=100ms"})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"test-topic", "test-topic-derived"},
+        brokerProperties = {"transaction.state.log.replication.factor=1", "transaction.state.log.min.isr=1"})
+class TransactionalListenerIntegrationTest {
+
+    private static final String DERIVED_TOPIC = "test-topic-derived";
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @SpyBean
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testFailedBatchDoesNotLeaveDuplicateDerivedEvents() throws Exception {
+        // 두 번째 레코드의 파생 이벤트 변환을 처음 한 번만 실패시킴 (첫 번째 레코드는 이미 발행된 상태)
+        doThrow(new JsonProcessingException("파생 이벤트 변환 실패") { })
+                .doCallRealMethod()
+                .when(objectMapper).writeValueAsString(argThat(value ->
+                        value instanceof Map<?, ?> event && "fail-once".equals(event.get("payload"))));
+
+        for (String message : List.of("ok-1", "fail-once", "ok-3")) {
+            kafkaTemplate.send("test-topic", "key", message).get(10, TimeUnit.SECONDS);
+        }
+
+        List<String> payloads = readCommittedPayloads(3, Duration.ofSeconds(60));
+
+        assertEquals(List.of("ok-1", "fail-once", "ok-3"), payloads);
+        verify(objectMapper, atLeast(2)).writeValueAsString(argThat(value ->
+                value instanceof Map<?, ?> event && "fail-once".equals(event.get("payload"))));
+    }
+
+    /**
+     * read_committed로 파생 이벤트를 읽어 payload 목록을 반환합니다.
+     *
+     * 기대한 수를 읽은 뒤에도 잠시 더 읽어, 중복 발행된 이벤트가 있으면 함께 반환합니다.
+     */
+    private List<String> readCommittedPayloads(int expected, Duration timeout) throws Exception {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("derived-reader", "false", embeddedKafka);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        List<String> payloads = new ArrayList<>();
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, DERIVED_TOPIC);
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (payloads.size() < expected && System.nanoTime() < deadline) {
+                collect(consumer, payloads);
+            }
+            long settle = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+            while (System.nanoTime() < settle) {
+                collect(consumer, payloads);
+            }
+        }
+        return payloads;
+    }
+
+    private void collect(Consumer<String, String> consumer, List<String> payloads) throws Exception {
+        for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(500))) {
+            JsonNode event = new ObjectMapper().readTree(record.value());
+            payloads.add(event.get("payload").asText());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.kafkaredis.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserEventCoalescerTest {
+
+    private final UserEventCoalescer coalescer = new UserEventCoalescer();
+
+    @Test
+    void testCoalesceKeepsHighestOffsetPerKey() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("user-events", 0, 10L, "user1", "event-a"),
+                new ConsumerRecord<>("user-events", 0, 11L, "user2", "event-b"),
+                new ConsumerRecord<>("user-events", 0, 12L, "user1", "event-c"));
+
+        List<ConsumerRecord<String, String>> result = coalescer.coalesce(records);
+
+        assertEquals(2, result.size());
+        assertEquals("user1", result.get(0).key());
+        assertEquals(12L, result.get(0).offset());
+        assertEquals("event-c", result.get(0).value());
+        assertEquals("user2", result.get(1).key());
+    }
+
+    @Test
+    void testCoalesceIgnoresOlderOffsetAppearingLater() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("user-events", 1, 20L, "user1", "newer"),
+                new ConsumerRecord<>("user-events", 1, 5L, "user1", "older"));
+
+        List<ConsumerRecord<String, String>> result = coalescer.coalesce(records);
+
+        assertEquals(1, result.size());
+        assertEquals("newer", result.get(0).value());
+    }
+
+    @Test
+    void testCoalesceWithDistinctKeys() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("user-events", 0, 1L, "user1", "event1"),
+                new ConsumerRecord<>("user-events", 1, 1L, "user2", "event2"));
+
+        List<ConsumerRecord<String, String>> result = coalescer.coalesce(records);
+
+        assertEquals(2, result.size());
+    }
+}